@@ -0,0 +1,95 @@
+package com.luxzentao.javabar.benchmarks;
+
+import com.luxzentao.javabar.core.EconomySystem;
+import com.luxzentao.javabar.core.EventSystem;
+import com.luxzentao.javabar.core.GameFactory;
+import com.luxzentao.javabar.core.GameState;
+import com.luxzentao.javabar.core.InventorySystem;
+import com.luxzentao.javabar.core.NoOpLogger;
+import com.luxzentao.javabar.core.PunterSystem;
+import com.luxzentao.javabar.core.RumorSystem;
+import com.luxzentao.javabar.core.Simulation;
+import com.luxzentao.javabar.core.Staff;
+import com.luxzentao.javabar.core.StaffFactory;
+import com.luxzentao.javabar.core.Wine;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A seeded pub sized by bar occupancy, front-of-house roster and rack capacity.
+ * Cash is topped up so benchmarks measure the simulation, not a game-over short circuit.
+ */
+final class BarFixture {
+
+    private static final double BENCH_CASH = 1_000_000.0;
+
+    final GameState state;
+    final Simulation sim;
+    final PunterSystem punters;
+    private final int occupancy;
+
+    private BarFixture(GameState state, int occupancy) {
+        this.state = state;
+        this.occupancy = occupancy;
+        this.sim = new Simulation(state, NoOpLogger.INSTANCE);
+        EconomySystem eco = new EconomySystem(state, NoOpLogger.INSTANCE);
+        this.punters = new PunterSystem(
+                state,
+                eco,
+                new InventorySystem(state),
+                new EventSystem(state, eco, NoOpLogger.INSTANCE),
+                new RumorSystem(state, NoOpLogger.INSTANCE),
+                NoOpLogger.INSTANCE);
+    }
+
+    static BarFixture build(int occupancy, int roster, int rackSize, long seed) {
+        GameState s = GameFactory.newGame();
+        s.random = new Random(seed);
+        s.cash = BENCH_CASH;
+        s.baseRackCapacity = rackSize;
+        s.rack.setCapacity(rackSize);
+        s.baseStaffCap = Math.max(s.baseStaffCap, roster);
+        s.fohStaffCap = Math.max(s.fohStaffCap, roster);
+        for (int i = 0; i < roster; i++) {
+            s.fohStaff.add(StaffFactory.createStaff(s.nextStaffId++, "Bench " + (i + 1), Staff.Type.EXPERIENCED, s.random));
+        }
+        BarFixture f = new BarFixture(s, occupancy);
+        f.topUpRack();
+        return f;
+    }
+
+    /** Opens a night and packs the bar to the requested occupancy. */
+    void openNight() {
+        topUpRack();
+        state.cash = Math.max(state.cash, BENCH_CASH);
+        sim.openNight();
+        fillBar();
+    }
+
+    /** Keeps a night running at steady load: reopens after closing time and refills the bar and rack. */
+    void keepBusy() {
+        if (!state.nightOpen) {
+            openNight();
+            return;
+        }
+        if (state.rack.count() < state.rack.getCapacity() / 2) topUpRack();
+        fillBar();
+        state.cash = Math.max(state.cash, BENCH_CASH);
+    }
+
+    void fillBar() {
+        punters.cleanupDeparted();
+        state.maxBarOccupancy = Math.max(state.maxBarOccupancy, occupancy);
+        punters.addArrivals(occupancy - state.punterPool.size());
+    }
+
+    void topUpRack() {
+        List<Wine> supplier = state.supplier;
+        int i = 0;
+        while (state.rack.count() < state.rack.getCapacity()) {
+            if (!state.rack.addBottle(supplier.get(i % supplier.size()), state.dayCounter)) break;
+            i++;
+        }
+    }
+}
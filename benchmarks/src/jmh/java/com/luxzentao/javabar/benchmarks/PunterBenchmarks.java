@@ -0,0 +1,63 @@
+package com.luxzentao.javabar.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PunterSystem.handlePunter} for one served punter, cycling through a shuffled full bar so the
+ * tier/wallet mix matches a real night rather than one warmed-up punter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PunterBenchmarks {
+
+    private static final double EFFECTIVE_MULT = 1.0;
+    private static final int SECURITY = 2;
+    private static final double TIP_RATE = 0.10;
+
+    @Param({"8", "20", "40"})
+    public int occupancy;
+
+    @Param({"2", "4", "8"})
+    public int roster;
+
+    @Param({"50", "150", "400"})
+    public int rackSize;
+
+    private BarFixture fixture;
+    private int barCount;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixture = BarFixture.build(occupancy, roster, rackSize, 42L);
+        fixture.openNight();
+        barCount = fixture.punters.shuffleInBar();
+        next = 0;
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        if (next < barCount) return;
+        fixture.keepBusy();
+        barCount = fixture.punters.shuffleInBar();
+        next = 0;
+    }
+
+    @Benchmark
+    public double handlePunter() {
+        int slot = fixture.punters.serviceSlot(next++);
+        fixture.punters.handlePunter(slot, EFFECTIVE_MULT, SECURITY, false, TIP_RATE);
+        return fixture.state.punterPool.wallet(slot);
+    }
+}
@@ -0,0 +1,75 @@
+package com.luxzentao.javabar.benchmarks;
+
+import com.luxzentao.javabar.core.GameState;
+import com.luxzentao.javabar.core.SaveManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@code SaveManager.save/load} round trips against a pub mid-night. The save path is derived from
+ * {@code user.home}, so the trial points it at a scratch directory rather than the real save.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SaveManagerBenchmarks {
+
+    @Param({"8", "20", "40"})
+    public int occupancy;
+
+    @Param({"2", "4", "8"})
+    public int roster;
+
+    @Param({"50", "150", "400"})
+    public int rackSize;
+
+    private String previousHome;
+    private Path home;
+    private GameState state;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        previousHome = System.getProperty("user.home");
+        home = Files.createTempDirectory("javabar-bench");
+        System.setProperty("user.home", home.toString());
+
+        BarFixture fixture = BarFixture.build(occupancy, roster, rackSize, 42L);
+        fixture.openNight();
+        for (int i = 0; i < 5 && fixture.state.nightOpen; i++) fixture.sim.playRound();
+        state = fixture.state;
+        SaveManager.save(state);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setProperty("user.home", previousHome);
+        try (Stream<Path> files = Files.walk(home)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        SaveManager.save(state);
+    }
+
+    @Benchmark
+    public GameState load() throws IOException, ClassNotFoundException {
+        return SaveManager.load();
+    }
+}
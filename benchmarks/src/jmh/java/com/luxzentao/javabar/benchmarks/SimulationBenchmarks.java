@@ -0,0 +1,87 @@
+package com.luxzentao.javabar.benchmarks;
+
+import com.luxzentao.javabar.core.MetricsSnapshot;
+import com.luxzentao.javabar.core.PaydayBill;
+import com.luxzentao.javabar.core.Staff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@code Simulation}. One op is one call: a single round, a single close, one payday.
+ * Run with the gc profiler (on by default in the build) to read bytes/op from gc.alloc.rate.norm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SimulationBenchmarks {
+
+    @Param({"8", "20", "40"})
+    public int occupancy;
+
+    @Param({"2", "4", "8"})
+    public int roster;
+
+    @Param({"50", "150", "400"})
+    public int rackSize;
+
+    private BarFixture fixture;
+    private List<PaydayBill> bills;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixture = BarFixture.build(occupancy, roster, rackSize, 42L);
+        fixture.openNight();
+    }
+
+    // Invocation-level setup costs a couple of timestamps per op; a round is orders of magnitude slower.
+    @Setup(Level.Invocation)
+    public void prepareInvocation() {
+        fixture.keepBusy();
+        bills = paydayBills();
+    }
+
+    @Benchmark
+    public int playRound() {
+        fixture.sim.playRound();
+        return fixture.state.roundInNight;
+    }
+
+    @Benchmark
+    public int closeNight() {
+        fixture.sim.closeNight("Closing time.");
+        return fixture.state.dayCounter;
+    }
+
+    @Benchmark
+    public boolean applyPaydayPayments() {
+        fixture.sim.applyPaydayPayments(bills);
+        return fixture.state.paydayReady;
+    }
+
+    @Benchmark
+    public MetricsSnapshot buildMetricsSnapshot() {
+        return fixture.sim.buildMetricsSnapshot();
+    }
+
+    private List<PaydayBill> paydayBills() {
+        double wages = 0.0;
+        for (Staff st : fixture.state.fohStaff) wages += st.getWeeklyWage();
+        List<PaydayBill> out = new ArrayList<>();
+        out.add(new PaydayBill(PaydayBill.Type.WAGES, "Wages", wages, wages, null));
+        double rent = fixture.state.getEffectiveDailyBaseRent() * 7;
+        out.add(new PaydayBill(PaydayBill.Type.RENT, "Rent", rent, rent, null));
+        out.add(new PaydayBill(PaydayBill.Type.SECURITY, "Security upkeep", 25.0, 25.0, null));
+        return out;
+    }
+}
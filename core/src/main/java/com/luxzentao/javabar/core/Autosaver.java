@@ -0,0 +1,86 @@
+package com.luxzentao.javabar.core;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Autosaves that do not hold up the game.
+ *
+ * {@link #request} (week start) and {@link #checkpoint} (any other night) only take a {@link SaveManager#snapshot}
+ * on the calling thread, which has to be one where the simulation is between changes. Compressing, writing,
+ * syncing and moving the file into place happen on an "autosave" thread. Checkpoints, and week starts in between
+ * full saves, go into the save journal; every {@link #FULL_SAVE_WEEKS} weeks the week-start save is written in
+ * full, which also compacts the journal away. Requests that arrive while a write is in progress collapse into the
+ * newest one, and an explicit {@link SaveManager#save(GameState)} in the meantime supersedes whatever is still
+ * waiting. Week-start saves and failures are reported on the log given to the constructor.
+ */
+public final class Autosaver {
+    private static final int FULL_SAVE_WEEKS = 4;
+
+    private final Logger log;
+    private final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 2, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> new Thread(r, "autosave"));
+    private final AtomicReference<Pending> pending = new AtomicReference<>();
+    private int lastFullWeek = Integer.MIN_VALUE / 2; // autosave thread only
+
+    /** {@code week} is the week that just started, or -1 for a plain checkpoint. */
+    private record Pending(SaveManager.Snapshot snapshot, int week) {}
+
+    public Autosaver(Logger log) {
+        this.log = log;
+        // Not a daemon, so a write already under way finishes on exit; the idle thread still goes away.
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    /** Snapshots {@code state} now and saves it in the background as the autosave for the start of {@code week}. */
+    public void request(GameState state, int week) {
+        enqueue(state, week);
+    }
+
+    /** Snapshots {@code state} now and journals it in the background, quietly unless it fails. */
+    public void checkpoint(GameState state) {
+        enqueue(state, -1);
+    }
+
+    private void enqueue(GameState state, int week) {
+        if (writer.isShutdown()) return;
+        SaveManager.Snapshot snapshot;
+        try {
+            snapshot = SaveManager.snapshot(state);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            log.neg("Saving failed: " + ex.getMessage());
+            return;
+        }
+        if (pending.getAndAccumulate(new Pending(snapshot, week), Autosaver::newer) == null) {
+            writer.execute(this::writeNewest);
+        }
+    }
+
+    // A week start folded into a later checkpoint is still that week's autosave.
+    private static Pending newer(Pending waiting, Pending next) {
+        return waiting == null ? next : new Pending(next.snapshot(), Math.max(waiting.week(), next.week()));
+    }
+
+    /** Stops taking requests; a write already queued still completes. */
+    public void shutdown() {
+        writer.shutdown();
+    }
+
+    private void writeNewest() {
+        Pending next = pending.getAndSet(null);
+        if (next == null) return;
+        boolean weekStart = next.week() >= 0;
+        try {
+            boolean full = weekStart && next.week() - lastFullWeek >= FULL_SAVE_WEEKS;
+            boolean written = full ? SaveManager.save(next.snapshot()) : SaveManager.append(next.snapshot());
+            if (written && full) lastFullWeek = next.week();
+            if (written && weekStart) log.info("Autosaved at fresh week start (Week " + next.week() + ").");
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            log.neg("Saving failed: " + ex.getMessage());
+        }
+    }
+}
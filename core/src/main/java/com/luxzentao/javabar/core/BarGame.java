@@ -17,9 +17,10 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Slider;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.luxzentao.javabar.core.bridge.HudSimBridge;
 import com.luxzentao.javabar.core.sim.BusUILogger;
-import com.luxzentao.javabar.core.sim.SimAdapter;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 import com.luxzentao.javabar.core.ui.HudView;
 
 public class BarGame extends ApplicationAdapter {
@@ -30,7 +31,8 @@ public class BarGame extends ApplicationAdapter {
     private GameState state;
 
     private SimEventBus simEventBus;
-    private SimAdapter simAdapter;
+    private SimulationThread simThread;
+    private HudSimBridge bridge;
     private HudView hudView;
 
     @Override
@@ -42,14 +44,19 @@ public class BarGame extends ApplicationAdapter {
 
         simEventBus = new SimEventBus();
         simulation = new Simulation(state, new BusUILogger(simEventBus));
-        simAdapter = new SimAdapter(state, simEventBus);
-        hudView = new HudView(stage, skin, simulation, state, simEventBus);
+        simThread = new SimulationThread(() -> bridge.publish(), Gdx.app::postRunnable);
+        bridge = new HudSimBridge(simulation, state, simEventBus, simThread);
+        hudView = new HudView(stage, skin, simulation, state, simEventBus, bridge);
 
         InputMultiplexer mux = new InputMultiplexer();
         mux.addProcessor(stage);
         Gdx.input.setInputProcessor(mux);
 
-        simAdapter.sync();
+        simEventBus.fireLog("HUD connected to simulation feed.");
+        // Header reads only, so listing the slots does not hold up the first frame.
+        for (SaveCatalog.Slot slot : SaveCatalog.list()) {
+            if (slot.occupied()) simEventBus.fireLog(slot.label());
+        }
     }
 
     @Override
@@ -57,7 +64,7 @@ public class BarGame extends ApplicationAdapter {
         Gdx.gl.glClearColor(0.05f, 0.07f, 0.1f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        simAdapter.sync();
+        simEventBus.flush();
         hudView.tick();
         stage.act(Gdx.graphics.getDeltaTime());
         stage.draw();
@@ -71,6 +78,7 @@ public class BarGame extends ApplicationAdapter {
 
     @Override
     public void dispose() {
+        if (simThread != null) simThread.shutdown();
         if (hudView != null) hudView.dispose();
         if (stage != null) stage.dispose();
         if (skin != null) skin.dispose();
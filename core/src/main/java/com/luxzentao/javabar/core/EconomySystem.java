@@ -25,11 +25,8 @@ public class EconomySystem {
         s.weeklyRepDeltaAbs += Math.abs(adjusted);
         s.weeklyRepDeltaNet += adjusted;
 
-        if (adjusted > 0) {
-            log.pos(reason + " | rep +" + adjusted + "  " + s.reputation);
-        } else {
-            log.neg(reason + " | rep " + adjusted + "  " + s.reputation);
-        }
+        EventJournal journal = s.journal();
+        log.record(journal, journal.rep(adjusted, s.reputation, reason));
 
         if (s.reputation > s.peakReputation) s.peakReputation = s.reputation;
         
@@ -39,7 +36,7 @@ public class EconomySystem {
         if (s.reputation <= -100) {
             s.reputation = -100;
             s.consecutiveNeg100Rounds++;
-            log.neg(" Rep is -100 (" + s.consecutiveNeg100Rounds + "/3).");
+            if (log.isEnabled(Logger.Level.NEG)) log.neg(" Rep is -100 (" + s.consecutiveNeg100Rounds + "/3).");
         } else {
             s.consecutiveNeg100Rounds = 0;
         }
@@ -59,7 +56,7 @@ public class EconomySystem {
             s.reportCosts += amount;
             s.weekCosts += amount;
             s.addReportCost(tag, amount);
-            log.info("Paid GBP " + fmt(amount) + " - " + description);
+            if (log.isEnabled(Logger.Level.INFO)) log.info("Paid GBP " + fmt(amount) + " - " + description);
             return true;
         }
 
@@ -79,7 +76,7 @@ public class EconomySystem {
                 if ("Loan Shark".equals(selectedLine.getLenderName())) {
                     s.creditScore = s.clampCreditScore(s.creditScore - 10);
                 }
-                log.info("Paid GBP " + fmt(amount) + " (cash + credit) - " + description);
+                if (log.isEnabled(Logger.Level.INFO)) log.info("Paid GBP " + fmt(amount) + " (cash + credit) - " + description);
                 return true;
             }
         }
@@ -101,7 +98,7 @@ public class EconomySystem {
             s.reportCosts += amount;
             s.weekCosts += amount;
             s.addReportCost(tag, amount);
-            log.info("Paid GBP " + fmt(amount) + " (cash) - " + description);
+            if (log.isEnabled(Logger.Level.INFO)) log.info("Paid GBP " + fmt(amount) + " (cash) - " + description);
             return true;
         }
 
@@ -135,7 +132,7 @@ public class EconomySystem {
         s.cash += amount;
         s.weekRevenue += amount;
         s.totalCashEarned += amount;
-        log.pos("Cash +GBP " + fmt(amount) + " - " + reason);
+        if (log.isEnabled(Logger.Level.POS)) log.pos("Cash +GBP " + fmt(amount) + " - " + reason);
     }
 
     public void accrueDailyRent() {
@@ -152,7 +149,7 @@ public class EconomySystem {
         s.reportCosts += amount;
         s.weekCosts += amount;
         s.addReportCost(tag, amount);
-        log.info("Recorded GBP " + fmt(amount) + " - " + description);
+        if (log.isEnabled(Logger.Level.INFO)) log.info("Recorded GBP " + fmt(amount) + " - " + description);
     }
 
     private static String fmt(double d) { return String.format("%.2f", d); }
@@ -0,0 +1,309 @@
+package com.luxzentao.javabar.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Typed record of what happened in the bar, kept in a fixed ring of primitive columns.
+ *
+ * Each record call returns a sequence number. Text is only produced by {@link #render(long)}, so a round
+ * that nobody reads costs a handful of array writes instead of a pile of concatenated strings. Sequences
+ * older than {@link #capacity()} entries are overwritten; check {@link #contains(long)} before reading.
+ */
+public final class EventJournal {
+
+    public enum Type {
+        ROUND(Logger.Level.HEADER),
+        SALE(Logger.Level.POS),
+        FOOD_ORDER(Logger.Level.INFO),
+        REP(Logger.Level.POS),          // level follows the sign of the delta
+        UNSERVED(Logger.Level.NEG),
+        KICKOUT(Logger.Level.NEG),
+        THEFT(Logger.Level.NEG),
+        FIGHT(Logger.Level.EVENT),
+        REFUND(Logger.Level.NEG),
+        DELIVERY(Logger.Level.INFO);
+
+        private static final Type[] VALUES = values();
+
+        private final Logger.Level level;
+
+        Type(Logger.Level level) { this.level = level; }
+
+        public Logger.Level level() { return level; }
+    }
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int MAGIC = 0x4A524E4C; // "JRNL"
+    private static final int FORMAT_VERSION = 1;
+    private static final int F_A = 1, F_B = 2, F_X = 4, F_Y = 8, F_NAME = 16, F_DETAIL = 32;
+
+    private final int mask;
+    private final byte[] types;
+    private final int[] days;
+    private final int[] rounds;
+    private final int[] a;
+    private final int[] b;
+    private final double[] x;
+    private final double[] y;
+    private final String[] name;
+    private final String[] detail;
+
+    private long next;
+    private int day;
+    private int round;
+
+    public EventJournal() { this(DEFAULT_CAPACITY); }
+
+    /** Capacity is rounded up to a power of two, and is at least 16. */
+    public EventJournal(int capacity) {
+        int cap = Math.max(16, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        this.mask = cap - 1;
+        this.types = new byte[cap];
+        this.days = new int[cap];
+        this.rounds = new int[cap];
+        this.a = new int[cap];
+        this.b = new int[cap];
+        this.x = new double[cap];
+        this.y = new double[cap];
+        this.name = new String[cap];
+        this.detail = new String[cap];
+    }
+
+    /** Stamps subsequent records with this day/round until the next call. */
+    public void at(int day, int round) {
+        this.day = day;
+        this.round = round;
+    }
+
+    public void clear() {
+        next = 0;
+        java.util.Arrays.fill(name, null);
+        java.util.Arrays.fill(detail, null);
+    }
+
+    // ---------- recording ----------
+
+    public long round(int round, int closingRound) {
+        return put(Type.ROUND, round, closingRound, 0.0, 0.0, null, null);
+    }
+
+    public long sale(String item, double price, double tips) {
+        return put(Type.SALE, 0, 0, price, tips, item, null);
+    }
+
+    public long foodOrder(String item, int readyInRounds) {
+        return put(Type.FOOD_ORDER, readyInRounds, 0, 0.0, 0.0, item, null);
+    }
+
+    public long rep(int delta, int repAfter, String reason) {
+        return put(Type.REP, delta, repAfter, 0.0, 0.0, reason, null);
+    }
+
+    public long unserved(int count) {
+        return put(Type.UNSERVED, count, 0, 0.0, 0.0, null, null);
+    }
+
+    public long kickout(String reason) {
+        return put(Type.KICKOUT, 0, 0, 0.0, 0.0, reason, null);
+    }
+
+    public long theft(String punter, String item) {
+        return put(Type.THEFT, 0, 0, 0.0, 0.0, punter, item);
+    }
+
+    public long fight(String cause, int repHit, double damages) {
+        return put(Type.FIGHT, repHit, 0, damages, 0.0, cause, null);
+    }
+
+    public long refund(String item, double amount) {
+        return put(Type.REFUND, 0, 0, amount, 0.0, item, null);
+    }
+
+    public long delivery(String item, int qty) {
+        return put(Type.DELIVERY, qty, 0, 0.0, 0.0, item, null);
+    }
+
+    private long put(Type type, int ia, int ib, double dx, double dy, String n, String d) {
+        long seq = next++;
+        int i = (int) seq & mask;
+        types[i] = (byte) type.ordinal();
+        days[i] = day;
+        rounds[i] = round;
+        a[i] = ia;
+        b[i] = ib;
+        x[i] = dx;
+        y[i] = dy;
+        name[i] = n;
+        detail[i] = d;
+        return seq;
+    }
+
+    // ---------- reading ----------
+
+    public int capacity() { return mask + 1; }
+
+    /** Sequence of the oldest record still held. */
+    public long firstSeq() { return Math.max(0L, next - capacity()); }
+
+    /** One past the newest record. */
+    public long endSeq() { return next; }
+
+    public boolean contains(long seq) { return seq >= firstSeq() && seq < next; }
+
+    public Type type(long seq) { return Type.VALUES[types[slot(seq)]]; }
+    public int day(long seq) { return days[slot(seq)]; }
+    public int round(long seq) { return rounds[slot(seq)]; }
+    public int intA(long seq) { return a[slot(seq)]; }
+    public int intB(long seq) { return b[slot(seq)]; }
+    public double amount(long seq) { return x[slot(seq)]; }
+    public double amount2(long seq) { return y[slot(seq)]; }
+    public String name(long seq) { return name[slot(seq)]; }
+    public String detail(long seq) { return detail[slot(seq)]; }
+
+    public Logger.Level level(long seq) {
+        int i = slot(seq);
+        Type t = Type.VALUES[types[i]];
+        if (t == Type.REP) return a[i] > 0 ? Logger.Level.POS : Logger.Level.NEG;
+        return t.level();
+    }
+
+    /** Same wording the systems used to log directly. */
+    public String render(long seq) {
+        return entry(seq).render();
+    }
+
+    /**
+     * A copy of one record that stays valid after the ring moves on, for handing to another thread. Copy it where
+     * the journal is written; the ring itself is not safe to read from anywhere else.
+     */
+    public Entry entry(long seq) {
+        int i = slot(seq);
+        return new Entry(Type.VALUES[types[i]], days[i], rounds[i], a[i], b[i], x[i], y[i], name[i], detail[i]);
+    }
+
+    /** One record's columns, detached from the ring. */
+    public record Entry(Type type, int day, int round, int a, int b, double x, double y, String name, String detail) {
+        public Logger.Level level() {
+            if (type == Type.REP) return a > 0 ? Logger.Level.POS : Logger.Level.NEG;
+            return type.level();
+        }
+
+        public String render() {
+            return switch (type) {
+                case ROUND -> "- Round " + a + "/" + b + " -";
+                case SALE -> "  - Buys " + name + " for " + fmt2(x) + (y > 0 ? " (tips +" + fmt2(y) + ")" : "");
+                case FOOD_ORDER -> "  - Orders food: " + name + " (ready in " + a + " rounds).";
+                case REP -> name + " | rep " + (a > 0 ? "+" : "") + a + "  " + b;
+                case UNSERVED -> " " + a + " punter(s) not served this round.";
+                case KICKOUT -> "  - KICKED OUT (" + name + ").";
+                case THEFT -> "  - " + name + " attempts theft: " + detail + " ";
+                case FIGHT -> "Fight breaks out: " + name + ". Rep -" + a + " | damages " + fmt2(x);
+                case REFUND -> name + " was sent back. Cash -" + fmt2(x);
+                case DELIVERY -> a + "x " + name + " arrived.";
+            };
+        }
+    }
+
+    private int slot(long seq) {
+        if (!contains(seq)) throw new IndexOutOfBoundsException("journal seq " + seq + " not held");
+        return (int) seq & mask;
+    }
+
+    private static String fmt2(double d) { return String.format("%.2f", d); }
+
+    // ---------- binary form ----------
+
+    /**
+     * Writes the held records. Names go into a string table written once, so a night of sales costs a
+     * few bytes per record rather than the wine name every time.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        long from = firstSeq();
+        int count = (int) (next - from);
+
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        int[] nameIds = new int[count];
+        int[] detailIds = new int[count];
+        for (int k = 0; k < count; k++) {
+            int i = (int) (from + k) & mask;
+            nameIds[k] = intern(name[i], ids, table);
+            detailIds[k] = intern(detail[i], ids, table);
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(capacity());
+        out.writeLong(from);
+        out.writeInt(count);
+        if (table.size() > 0xFFFF) throw new IOException("Event journal string table too large");
+        out.writeInt(table.size());
+        for (String str : table) out.writeUTF(str);
+        for (int k = 0; k < count; k++) {
+            int i = (int) (from + k) & mask;
+            // Most records use two or three columns; a presence byte keeps the unused ones off disk.
+            int present = (a[i] != 0 ? F_A : 0) | (b[i] != 0 ? F_B : 0) | (x[i] != 0.0 ? F_X : 0)
+                    | (y[i] != 0.0 ? F_Y : 0) | (nameIds[k] >= 0 ? F_NAME : 0) | (detailIds[k] >= 0 ? F_DETAIL : 0);
+            out.writeByte(types[i]);
+            out.writeByte(present);
+            out.writeInt(days[i]);
+            out.writeShort(rounds[i]);
+            if ((present & F_A) != 0) out.writeInt(a[i]);
+            if ((present & F_B) != 0) out.writeInt(b[i]);
+            if ((present & F_X) != 0) out.writeDouble(x[i]);
+            if ((present & F_Y) != 0) out.writeDouble(y[i]);
+            if ((present & F_NAME) != 0) out.writeShort(nameIds[k]);
+            if ((present & F_DETAIL) != 0) out.writeShort(detailIds[k]);
+        }
+    }
+
+    public static EventJournal readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("Not an event journal");
+        int version = in.readShort();
+        if (version != FORMAT_VERSION) throw new IOException("Unsupported event journal version " + version);
+        EventJournal j = new EventJournal(in.readInt());
+        long from = in.readLong();
+        int count = in.readInt();
+        String[] table = new String[in.readInt()];
+        for (int k = 0; k < table.length; k++) table[k] = in.readUTF();
+
+        j.next = from;
+        for (int k = 0; k < count; k++) {
+            int type = in.readByte();
+            if (type < 0 || type >= Type.VALUES.length) throw new IOException("Unknown journal event type " + type);
+            int present = in.readUnsignedByte();
+            j.day = in.readInt();
+            j.round = in.readShort();
+            int ia = (present & F_A) != 0 ? in.readInt() : 0;
+            int ib = (present & F_B) != 0 ? in.readInt() : 0;
+            double dx = (present & F_X) != 0 ? in.readDouble() : 0.0;
+            double dy = (present & F_Y) != 0 ? in.readDouble() : 0.0;
+            int n = (present & F_NAME) != 0 ? in.readUnsignedShort() : -1;
+            int d = (present & F_DETAIL) != 0 ? in.readUnsignedShort() : -1;
+            j.put(Type.VALUES[type], ia, ib, dx, dy, n < 0 ? null : table[n], d < 0 ? null : table[d]);
+        }
+        return j;
+    }
+
+    private static int intern(String s, Map<String, Integer> ids, List<String> table) {
+        if (s == null) return -1;
+        Integer id = ids.get(s);
+        if (id != null) return id;
+        ids.put(s, table.size());
+        table.add(s);
+        return table.size() - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "EventJournal[%d held, next=%d]", next - firstSeq(), next);
+    }
+}
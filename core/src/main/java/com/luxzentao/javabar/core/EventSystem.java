@@ -65,9 +65,27 @@ public class EventSystem {
     }
 
     private void popupEvent(String title, String body, int repDelta, double cashDelta, int moraleDelta, String tags) {
+        if (!log.isEnabled(Logger.Level.POPUP)) return;
         log.popup(new EventCard(title, body, repDelta, cashDelta, moraleDelta, tags));
     }
 
+    private void popupBetweenNightsRoll(String what, int sec, double finalChance, double dmgMult) {
+        if (!log.isEnabled(Logger.Level.POPUP)) return;
+        log.popup("Between nights", what + " (sec " + sec
+                + ", chance " + fmtPct(finalChance)
+                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+    }
+
+    private void logLosses(double cashLoss, int repHit) {
+        if (!log.isEnabled(Logger.Level.NEG)) return;
+        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ".");
+    }
+
+    private void logLosses(double cashLoss, int repHit, int invLost) {
+        if (!log.isEnabled(Logger.Level.NEG)) return;
+        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ", bottles -" + invLost + ".");
+    }
+
     public void maybeEventGuaranteed(int upgradeBonus, int activityBonus) {
         s.roundsSinceLastEvent++;
 
@@ -180,9 +198,7 @@ public class EventSystem {
 
         double successChance = Math.max(0.20, 0.70 - (sec * 0.06));
 
-        log.popup("Between nights", "Burglary attempt (sec " + sec
-                + ", chance " + fmtPct(finalChance)
-                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+        popupBetweenNightsRoll("Burglary attempt", sec, finalChance, dmgMult);
 
         if (!roll(successChance)) {
             popupEvent("Between nights", "Burglary attempt stopped by security.", 0, 0.0, 0, "SECURITY");
@@ -195,7 +211,7 @@ public class EventSystem {
         int repHit = applyRep(-2, dmgMult, "Burglary rumours");
         int invLost = applyInventoryLoss(1, 3, dmgMult);
         popupEvent("Between nights", "Burglary attempt succeeded. Bottles lost: " + invLost + ".", repHit, -cashLoss, 0, "DAMAGE");
-        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ", bottles -" + invLost + ".");
+        logLosses(cashLoss, repHit, invLost);
         setBetweenNightSummary("Burglary attempt", cashLoss, repHit, invLost);
         return true;
     }
@@ -204,15 +220,13 @@ public class EventSystem {
         double finalChance = finalChance(BURGLARY_BASE_CHANCE, BURGLARY_SECURITY_EFFECT, chanceMult);
         if (!roll(finalChance)) return false;
 
-        log.popup("Between nights", "Burglary (sec " + sec
-                + ", chance " + fmtPct(finalChance)
-                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+        popupBetweenNightsRoll("Burglary", sec, finalChance, dmgMult);
 
         double cashLoss = applyCost(80, 160, dmgMult, "Burglary losses");
         int repHit = applyRep(-4, dmgMult, "Burglary fallout");
         int invLost = applyInventoryLoss(3, 6, dmgMult);
         popupEvent("Between nights", "Burglary overnight. Bottles lost: " + invLost + ".", repHit, -cashLoss, 0, "DAMAGE");
-        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ", bottles -" + invLost + ".");
+        logLosses(cashLoss, repHit, invLost);
         setBetweenNightSummary("Burglary", cashLoss, repHit, invLost);
         return true;
     }
@@ -223,14 +237,12 @@ public class EventSystem {
 
         EventRange tier = rollTier(LEAK_MINOR, LEAK_MODERATE, LEAK_MAJOR);
 
-        log.popup("Between nights", "Leak (" + tier.label + ") (sec " + sec
-                + ", chance " + fmtPct(finalChance)
-                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+        popupBetweenNightsRoll("Leak (" + tier.label + ")", sec, finalChance, dmgMult);
 
         double cashLoss = applyCost(tier.minCost, tier.maxCost, dmgMult, "Repairs (leak)");
         int repHit = applyRep(tier.repHit, dmgMult, "Service disruption");
         popupEvent("Between nights", "Leak (" + tier.label + ").", repHit, -cashLoss, 0, "DAMAGE");
-        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ".");
+        logLosses(cashLoss, repHit);
         setBetweenNightSummary("Leak (" + tier.label + ")", cashLoss, repHit, 0);
         return true;
     }
@@ -241,15 +253,13 @@ public class EventSystem {
 
         EventRange tier = rollTier(FIRE_SMALL, FIRE_MEDIUM, FIRE_LARGE);
 
-        log.popup("Between nights", "Fire (" + tier.label + ") (sec " + sec
-                + ", chance " + fmtPct(finalChance)
-                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+        popupBetweenNightsRoll("Fire (" + tier.label + ")", sec, finalChance, dmgMult);
 
         double cashLoss = applyCost(tier.minCost, tier.maxCost, dmgMult, "Repairs (fire)");
         int repHit = applyRep(tier.repHit, dmgMult, "Fire damage");
         int invLost = applyInventoryLoss(2, 6, dmgMult);
         popupEvent("Between nights", "Fire (" + tier.label + "). Bottles lost: " + invLost + ".", repHit, -cashLoss, 0, "DAMAGE");
-        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ", bottles -" + invLost + ".");
+        logLosses(cashLoss, repHit, invLost);
         setBetweenNightSummary("Fire (" + tier.label + ")", cashLoss, repHit, invLost);
         return true;
     }
@@ -258,14 +268,12 @@ public class EventSystem {
         double finalChance = finalChance(POWER_TRIP_BASE_CHANCE, POWER_TRIP_SECURITY_EFFECT, chanceMult);
         if (!roll(finalChance)) return false;
 
-        log.popup("Between nights", "Power trip (sec " + sec
-                + ", chance " + fmtPct(finalChance)
-                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+        popupBetweenNightsRoll("Power trip", sec, finalChance, dmgMult);
 
         double cashLoss = applyCost(15, 30, dmgMult, "Generator reset");
         int repHit = applyRep(-1, dmgMult, "Disruption");
         popupEvent("Between nights", "Power trip overnight.", repHit, -cashLoss, 0, "DAMAGE");
-        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ".");
+        logLosses(cashLoss, repHit);
         setBetweenNightSummary("Power trip", cashLoss, repHit, 0);
         return true;
     }
@@ -274,9 +282,7 @@ public class EventSystem {
         double finalChance = finalChance(HEALTH_INSPECTION_BASE_CHANCE, HEALTH_INSPECTION_SECURITY_EFFECT, chanceMult);
         if (!roll(finalChance)) return false;
 
-        log.popup("Between nights", "Health inspection warning (sec " + sec
-                + ", chance " + fmtPct(finalChance)
-                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+        popupBetweenNightsRoll("Health inspection warning", sec, finalChance, dmgMult);
 
         int baseRep = -3;
         if (sec >= 6 || s.hasSkilledManager()) {
@@ -285,7 +291,7 @@ public class EventSystem {
         double cashLoss = applyCost(10, 25, dmgMult, "Compliance fixes");
         int repHit = applyRep(baseRep, dmgMult, "Health inspection");
         popupEvent("Between nights", "Health inspection warning.", repHit, -cashLoss, 0, "REP");
-        log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ".");
+        logLosses(cashLoss, repHit);
         setBetweenNightSummary("Health inspection warning", cashLoss, repHit, 0);
         return true;
     }
@@ -301,8 +307,9 @@ public class EventSystem {
         double finalChance = finalChance(baseChance, securityEffect, chanceMult);
         if (!roll(finalChance)) return false;
 
-        log.popup("Between nights", name + " (sec " + sec
-                + ", chance " + fmtPct(finalChance) + ")", "");
+        if (log.isEnabled(Logger.Level.POPUP)) {
+            log.popup("Between nights", name + " (sec " + sec + ", chance " + fmtPct(finalChance) + ")", "");
+        }
 
         double reward = cashMin + (s.random.nextDouble() * (cashMax - cashMin));
         popupEvent("Between nights", name + ".", 2, reward, 0, "CASH");
@@ -328,9 +335,7 @@ public class EventSystem {
         double finalChance = finalChance(baseChance, securityEffect, chanceMult);
         if (!roll(finalChance)) return false;
 
-        log.popup("Between nights", name + " (sec " + sec
-                + ", chance " + fmtPct(finalChance)
-                + ", dmg x" + fmtMult(dmgMult) + ")", "");
+        popupBetweenNightsRoll(name, sec, finalChance, dmgMult);
 
         double cashLoss = applyCost(cashMin, cashMax, dmgMult, costTag);
         int repHit = applyRep(baseRep, dmgMult, name);
@@ -340,9 +345,9 @@ public class EventSystem {
         s.weekNegativeEvents++;
 
         if (invLost > 0) {
-            log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ", bottles -" + invLost + ".");
+            logLosses(cashLoss, repHit, invLost);
         } else {
-            log.neg("Losses: GBP " + fmt0(cashLoss) + ", rep " + repHit + ".");
+            logLosses(cashLoss, repHit);
         }
         setBetweenNightSummary(name, cashLoss, repHit, invLost);
         return true;
@@ -705,6 +710,7 @@ public class EventSystem {
         repHit = Math.abs(s.mitigateSecurityRepHit(-repHit));
         double dmg = Math.max(4, 12 * (1.0 - totalRed));
 
+        s.journal().fight(reason, repHit, dmg);
         popupEvent("Fight", "Fight breaks out: " + reason + ".", -repHit, -dmg, 0, "FIGHT");
         eco.applyRep(-repHit, "Fight fallout (" + reason + ")");
         logSecurityMitigation(-repHit, "Fight fallout (" + reason + ")");
@@ -728,7 +734,7 @@ public class EventSystem {
 
         log.popup(" Scandal erupts", "Police investigation + influencer backlash.", "Rep -" + percentHit + "%");
         eco.applyRep(-reduction, "Scandal fallout (-" + percentHit + "%)");
-        log.neg("  - Reputation hit -" + percentHit + "% (rep -" + reduction + ").");
+        if (log.isEnabled(Logger.Level.NEG)) log.neg("  - Reputation hit -" + percentHit + "% (rep -" + reduction + ").");
     }
 
     private void triggerTeenTrouble(double reduction) {
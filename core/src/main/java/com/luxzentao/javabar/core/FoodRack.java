@@ -3,6 +3,8 @@ package com.luxzentao.javabar.core;
 import java.util.*;
 
 public class FoodRack  implements java.io.Serializable {
+    // Pinned to the value the JVM computed for this layout so existing saves keep loading as fields are added.
+    private static final long serialVersionUID = 64615246836842993L;
 
     public static class Meal implements java.io.Serializable {
         private static final long serialVersionUID = 1L;
@@ -20,6 +22,8 @@ public class FoodRack  implements java.io.Serializable {
     private final List<Meal> meals = new ArrayList<>();
     private int capacity = 30;
     private int spoilAfterDays = 3;
+    // Bumped by every add, removal and spoil, so a panel can tell the stock moved without walking it.
+    private transient int modCount;
 
     public void setCapacity(int cap) { this.capacity = Math.max(1, cap); }
     public int getCapacity() { return capacity; }
@@ -27,10 +31,13 @@ public class FoodRack  implements java.io.Serializable {
     public void setSpoilAfterDays(int days) { this.spoilAfterDays = Math.max(1, days); }
     public int getSpoilAfterDays() { return spoilAfterDays; }
 
+    public int modCount() { return modCount; }
+
     public boolean addMeal(Food food, int dayAdded) {
         if (meals.size() >= capacity) return false;
         int spoil = (food != null && food.getSpoilDays() > 0) ? food.getSpoilDays() : spoilAfterDays;
         meals.add(new Meal(food, dayAdded, spoil));
+        modCount++;
         return true;
     }
 
@@ -47,6 +54,7 @@ public class FoodRack  implements java.io.Serializable {
         for (int i = 0; i < meals.size(); i++) {
             if (meals.get(i).food.getName().equals(food.getName())) {
                 meals.remove(i);
+                modCount++;
                 return true;
             }
         }
@@ -126,6 +134,7 @@ public class FoodRack  implements java.io.Serializable {
                 removed++;
             }
         }
+        if (removed > 0) modCount++;
         return removed;
     }
 }
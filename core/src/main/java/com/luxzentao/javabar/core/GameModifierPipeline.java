@@ -0,0 +1,71 @@
+package com.luxzentao.javabar.core;
+
+/**
+ * Combines the season, rival and VIP demand contributors into one {@link GameModifierSnapshot}.
+ * Contributors are plain typed providers over {@link GameState}; the combined snapshot is memoised
+ * against the values they return, so every caller within a round shares the same instance and a new
+ * one is only built after a contributor's output actually moves (weekly rival/VIP updates, flag flips).
+ */
+public final class GameModifierPipeline {
+
+    @FunctionalInterface
+    public interface SeasonContributor {
+        double seasonTrafficMultiplier(GameState s);
+    }
+
+    @FunctionalInterface
+    public interface RivalContributor {
+        double rivalTrafficMultiplier(GameState s);
+    }
+
+    public interface VipContributor {
+        double vipTrafficMultiplier(GameState s);
+        double vipRumorShield(GameState s);
+    }
+
+    private SeasonContributor season = s -> 1.0;
+    private RivalContributor rival = s -> s.rivalDemandTrafficMultiplier;
+    private VipContributor vip = new VipContributor() {
+        @Override public double vipTrafficMultiplier(GameState s) { return s.vipDemandBoostMultiplier; }
+        @Override public double vipRumorShield(GameState s) { return s.vipRumorShield; }
+    };
+
+    private GameModifierSnapshot cached;
+
+    public void registerSeason(SeasonContributor contributor) {
+        if (contributor == null) throw new IllegalArgumentException("Season contributor required.");
+        this.season = contributor;
+        this.cached = null;
+    }
+
+    public void registerRival(RivalContributor contributor) {
+        if (contributor == null) throw new IllegalArgumentException("Rival contributor required.");
+        this.rival = contributor;
+        this.cached = null;
+    }
+
+    public void registerVip(VipContributor contributor) {
+        if (contributor == null) throw new IllegalArgumentException("VIP contributor required.");
+        this.vip = contributor;
+        this.cached = null;
+    }
+
+    public GameModifierSnapshot snapshot(GameState s) {
+        double seasonMult = FeatureFlags.FEATURE_SEASONS ? season.seasonTrafficMultiplier(s) : 1.0;
+        double rivalMult = FeatureFlags.FEATURE_RIVALS ? rival.rivalTrafficMultiplier(s) : 1.0;
+        double vipMult = FeatureFlags.FEATURE_VIPS ? vip.vipTrafficMultiplier(s) : 1.0;
+        double rumorShield = FeatureFlags.FEATURE_VIPS ? vip.vipRumorShield(s) : 0.0;
+
+        GameModifierSnapshot current = cached;
+        if (current != null
+                && current.seasonTrafficMultiplier() == seasonMult
+                && current.rivalTrafficMultiplier() == rivalMult
+                && current.vipTrafficMultiplier() == vipMult
+                && current.vipRumorShield() == rumorShield) {
+            return current;
+        }
+        current = new GameModifierSnapshot(seasonMult, rivalMult, vipMult, rumorShield, seasonMult * rivalMult * vipMult);
+        cached = current;
+        return current;
+    }
+}
@@ -30,15 +30,7 @@ public class GameState implements java.io.Serializable {
     public static final int MINUTES_PER_ROUND = 36;
 
     public int getClosingRound() {
-        return BASE_CLOSING_ROUND + getUpgradeRoundCapBonus();
-    }
-
-    private int getUpgradeRoundCapBonus() {
-        int bonus = 0;
-        for (PubUpgrade u : ownedUpgrades) {
-            bonus += u.getRoundCapBonus();
-        }
-        return bonus;
+        return BASE_CLOSING_ROUND + UpgradeSystem.modifiers(this).roundCapBonus();
     }
 
     // economy
@@ -430,6 +422,19 @@ public class GameState implements java.io.Serializable {
 
     // upgrades + activities
     public final EnumSet<PubUpgrade> ownedUpgrades = EnumSet.noneOf(PubUpgrade.class);
+    transient UpgradeSystem.ModifierCache upgradeModifierCache = null;
+    // Typed event stream for the HUD and analytics; saved after the other fields in its own binary form.
+    private transient EventJournal journal;
+
+    public EventJournal journal() {
+        if (journal == null) journal = new EventJournal();
+        return journal;
+    }
+
+    public void setJournal(EventJournal journal) {
+        this.journal = journal;
+    }
+
     public PubActivity activityTonight = null;
     public double wagesAccruedThisWeek = 0.0;
     public double totalCashEarned = 0.0;
@@ -480,7 +485,9 @@ public class GameState implements java.io.Serializable {
     public boolean foodDisappointmentPopupShown = false;
 
     // punters
-    public final List<Punter> nightPunters = new ArrayList<>();
+    // Saves written before the pool carried an ArrayList<Punter> under "nightPunters"; that field no longer
+    // exists, so its contents are skipped on load and readObject starts those saves with an empty pool.
+    public PunterPool punterPool = new PunterPool();
     public int nextPunterId = 1;
     
     // covers tracking: unique punters served this service
@@ -1138,9 +1145,21 @@ public class GameState implements java.io.Serializable {
         return new ReportSummary(reportIndex, weeksIntoReport, reportRevenue, reportCosts, profit, reportSales, reportEvents);
     }
 
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+        out.defaultWriteObject();
+        journal().writeTo(out);
+    }
+
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
         in.defaultReadObject();
         // Reinitialize transient Random field after deserialization
         random = new Random();
+        if (punterPool == null) punterPool = new PunterPool();
+        try {
+            journal = EventJournal.readFrom(in);
+        } catch (java.io.EOFException ex) {
+            // Saved before the journal was; it starts empty.
+            journal = null;
+        }
     }
 }
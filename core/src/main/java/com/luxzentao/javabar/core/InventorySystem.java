@@ -22,56 +22,28 @@ public class InventorySystem {
         return s.rack.getSellPrice(w, effectiveMult);
     }
 
+    /** Sell price is base price times a positive multiplier, so the cheapest base price is the cheapest sale. */
     public Wine cheapestWine(double effectiveMult) {
-        List<Wine> bottles = s.rack.getWinesSnapshot();
-        if (bottles.isEmpty()) return null;
-
-        Wine best = null;
-        double bestPrice = Double.MAX_VALUE;
-        for (Wine w : bottles) {
-            double p = sellPrice(w, effectiveMult);
-            if (p < bestPrice) { bestPrice = p; best = w; }
-        }
-        return best;
+        return s.rack.cheapest();
     }
 
     /** Slightly more "tycoon": biased toward mid-range bottles rather than pure uniform chaos. */
     public Wine randomWine() {
-        List<Wine> bottles = s.rack.getWinesSnapshot();
-        if (bottles.isEmpty()) return null;
+        if (s.rack.isEmpty()) return null;
 
         // Pick 2 randoms and take the one with higher base price 55% of time.
-        Wine a = bottles.get(s.random.nextInt(bottles.size()));
-        Wine b = bottles.get(s.random.nextInt(bottles.size()));
+        Wine a = s.rack.pickRandomBottle(s.random);
+        Wine b = s.rack.pickRandomBottle(s.random);
         if (s.random.nextInt(100) < 55) return (a.getBasePrice() >= b.getBasePrice()) ? a : b;
         return (a.getBasePrice() < b.getBasePrice()) ? a : b;
     }
 
     public Wine randomWineForTier(Punter.Tier tier) {
-        List<Wine> bottles = s.rack.getWinesSnapshot();
-        if (bottles.isEmpty()) return null;
-
-        List<Wine> weighted = new ArrayList<>();
-        for (Wine w : bottles) {
-            int weight = 1;
-            if (w.getTargetTier() == tier) weight += 3;
-            if (tier == Punter.Tier.BIG_SPENDER && w.getBasePrice() > 25) weight += 2;
-            if (tier == Punter.Tier.LOWLIFE && w.getBasePrice() < 10) weight += 2;
-            for (int i = 0; i < weight; i++) weighted.add(w);
-        }
-        return weighted.get(s.random.nextInt(weighted.size()));
+        return s.rack.pickForTier(tier, s.random);
     }
 
     public Wine randomCheaperThan(double ceiling, double mult) {
-        List<Wine> bottles = s.rack.getWinesSnapshot();
-        if (bottles.isEmpty()) return null;
-
-        List<Wine> cheaper = new ArrayList<>();
-        for (Wine w : bottles) {
-            if (sellPrice(w, mult) < ceiling) cheaper.add(w);
-        }
-        if (cheaper.isEmpty()) return null;
-        return cheaper.get(s.random.nextInt(cheaper.size()));
+        return s.rack.pickCheaperThan(ceiling, mult, s.random);
     }
 
     private static double clamp(double v, double lo, double hi) {
@@ -2,6 +2,17 @@ package com.luxzentao.javabar.core;
 
 // Logger.java
 public interface Logger {
+    /**
+     * One channel per logging method, so sinks can say which ones they actually consume. Declared from the
+     * routine per-punter chatter up to what the player must not miss, so a sink can keep everything from one
+     * level upwards ({@link #atLeast}).
+     */
+    enum Level {
+        INFO, POS, NEG, EVENT, HEADER, ACTION, WARNING, CRITICAL, POPUP;
+
+        public boolean atLeast(Level threshold) { return ordinal() >= threshold.ordinal(); }
+    }
+
     void info(String s);
     void pos(String s);
     void neg(String s);
@@ -21,4 +32,29 @@ public interface Logger {
     default void popupUpgrade(String title, String body, String effects, String tag) {
         popup(title, body, effects);
     }
+
+    /**
+     * False when nothing downstream would read a message on this channel. Call sites that build their text (any
+     * concatenation or formatting) check this first, {@code if (log.isEnabled(Level.INFO)) log.info(...)}, so the
+     * text is only built when a sink will consume it.
+     */
+    default boolean isEnabled(Level level) { return true; }
+
+    /**
+     * A typed {@link EventJournal} record. Text sinks get the rendered line on the matching channel;
+     * sinks that understand the journal (the HUD bus) can take the sequence number and skip the text.
+     */
+    default void record(EventJournal journal, long seq) {
+        if (journal == null || !journal.contains(seq)) return;
+        Level level = journal.level(seq);
+        if (!isEnabled(level)) return;
+        String text = journal.render(seq);
+        switch (level) {
+            case POS -> pos(text);
+            case NEG -> neg(text);
+            case EVENT -> event(text);
+            case HEADER -> header(text);
+            default -> info(text);
+        }
+    }
 }
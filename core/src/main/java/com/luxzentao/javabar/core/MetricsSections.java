@@ -0,0 +1,108 @@
+package com.luxzentao.javabar.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The report text behind {@link MetricsSnapshot}, split into sections that are built on demand and cached.
+ *
+ * {@link Simulation} marks sections dirty as its actions change the state they read; a section is only rebuilt
+ * the next time somebody asks for it. A HUD that redraws every frame while nothing happens gets the same cached
+ * objects back and can compare {@link #version()} to skip its own work too.
+ */
+public final class MetricsSections {
+
+    public enum Section { HUD, ECONOMY, OPERATIONS, STAFF, RISK, REPUTATION, TRAFFIC, PROGRESSION, INN, PRESTIGE, MUSIC }
+
+    private static final Section[] SECTIONS = Section.values();
+
+    public record Hud(String cash, String debt, String rep, String pubName, String invoice, String calendar,
+                      String round, String security, String staff, String report, String serveCap,
+                      List<String> overviewLines) {}
+
+    public record Economy(String summary, String financeBanking, String loans, String payday, String suppliers) {}
+
+    public record Operations(String summary, String inventory, String logEvents) {}
+
+    public record Staff(String summary, String detail) {}
+
+    public record Risk(String summary, String security) {}
+
+    public record Reputation(String identity, String rumors) {}
+
+    private final Supplier<?>[] builders = new Supplier<?>[SECTIONS.length];
+    private final Object[] values = new Object[SECTIONS.length];
+    private final long[] versions = new long[SECTIONS.length];
+    private final boolean[] fresh = new boolean[SECTIONS.length];
+    private long version;
+
+    private MetricsSnapshot snapshot;
+    private long snapshotVersion = -1;
+
+    void register(Section section, Supplier<?> builder) {
+        builders[section.ordinal()] = builder;
+        fresh[section.ordinal()] = false;
+    }
+
+    /** Bumped whenever any section is marked dirty. */
+    public long version() { return version; }
+
+    /** Bumped whenever this section is marked dirty. */
+    public long version(Section section) { return versions[section.ordinal()]; }
+
+    public void markDirty(Section... sections) {
+        version++;
+        for (Section section : sections) {
+            versions[section.ordinal()] = version;
+            fresh[section.ordinal()] = false;
+        }
+    }
+
+    public void markAllDirty() {
+        version++;
+        Arrays.fill(versions, version);
+        Arrays.fill(fresh, false);
+    }
+
+    public Hud hud() { return get(Section.HUD); }
+    public Economy economy() { return get(Section.ECONOMY); }
+    public Operations operations() { return get(Section.OPERATIONS); }
+    public Staff staff() { return get(Section.STAFF); }
+    public Risk risk() { return get(Section.RISK); }
+    public Reputation reputation() { return get(Section.REPUTATION); }
+    public String traffic() { return get(Section.TRAFFIC); }
+    public String progression() { return get(Section.PROGRESSION); }
+    public String inn() { return get(Section.INN); }
+    public String prestige() { return get(Section.PRESTIGE); }
+    public String music() { return get(Section.MUSIC); }
+
+    /** Every section in the flat shape older callers expect. Reuses the previous object while nothing changed. */
+    public MetricsSnapshot snapshot() {
+        if (snapshot != null && snapshotVersion == version) return snapshot;
+        Hud h = hud();
+        Economy e = economy();
+        Operations o = operations();
+        Staff st = staff();
+        Risk r = risk();
+        Reputation rep = reputation();
+        snapshot = new MetricsSnapshot(
+                h.cash(), h.debt(), h.rep(), h.pubName(), h.invoice(), h.calendar(), h.round(),
+                h.security(), h.staff(), h.report(), h.serveCap(), h.overviewLines(),
+                e.summary(), o.summary(), st.summary(), r.summary(), rep.identity(), rep.rumors(),
+                traffic(), o.inventory(), e.loans(), o.logEvents(), e.financeBanking(), e.payday(),
+                e.suppliers(), progression(), r.security(), st.detail(), inn(), prestige(), music());
+        snapshotVersion = version;
+        return snapshot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Section section) {
+        int i = section.ordinal();
+        if (!fresh[i]) {
+            values[i] = builders[i].get();
+            fresh[i] = true;
+        }
+        return (T) values[i];
+    }
+}
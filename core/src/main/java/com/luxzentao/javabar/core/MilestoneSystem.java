@@ -1,8 +1,11 @@
 package com.luxzentao.javabar.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 public class MilestoneSystem {
 
@@ -37,6 +40,73 @@ public class MilestoneSystem {
         SUPPLIER
     }
 
+    /**
+     * GameState fields read by milestone rules. Each input samples exactly one value so an
+     * evaluation pass can tell which rules could have changed outcome since they were last checked.
+     */
+    private enum Input {
+        OPEN_NIGHTS(st -> st.openForBusinessNights),
+        BUSINESS_COLLAPSED(st -> st.businessCollapsed ? 1L : 0L),
+        BANKRUPTCY_DECLARED(st -> st.bankruptcyDeclared ? 1L : 0L),
+        NO_STOCKOUT_STREAK(st -> st.noStockoutStreakNights),
+        LAST_SERVICE_FULL(st -> st.lastServiceRanFullRounds ? 1L : 0L),
+        NEGLECT_KICKOFFS(st -> st.punterKickedOffFromNeglect),
+        BROKE_DEPARTURES(st -> st.punterLeftBecauseBroke),
+        PAYDAY_WINDOW_CLOSED(st -> st.paydayWindowClosed ? 1L : 0L),
+        WAGES_PAID(st -> st.wagesPaidLastWeek ? 1L : 0L),
+        RENT_ACCRUED(st -> Double.doubleToLongBits(st.rentAccruedThisWeek)),
+        CALM_STREAK(st -> st.calmNightsStreak),
+        CALM_ACTIVITY_STREAK(st -> st.calmNightsWithActivityStreak),
+        WEEK_PRICE_SUM(st -> Double.doubleToLongBits(st.weekPriceMultiplierSum)),
+        WEEK_PRICE_SAMPLES(st -> st.weekPriceMultiplierSamples),
+        PRICE_MULTIPLIER(st -> Double.doubleToLongBits(st.priceMultiplier)),
+        WEEKLY_REP_NET(st -> Double.doubleToLongBits(st.weeklyRepDeltaNet)),
+        WEEKS_NO_DEPARTURES(st -> st.weeksNoStaffDepartures),
+        TEAM_MORALE(st -> Double.doubleToLongBits(st.teamMorale)),
+        CHAOS_RECOVERY_PENDING(st -> st.chaosRecoveryPending ? 1L : 0L),
+        CHAOS(st -> Double.doubleToLongBits(st.chaos)),
+        DOMINANT_IDENTITY_STREAK(st -> st.weeksDominantIdentityStreak),
+        ACTIVITY_CATEGORIES(st -> st.weeklyDifferentActivityCategories),
+        WEEK_CHAOS_TOTAL(st -> Double.doubleToLongBits(st.weekChaosTotal)),
+        WEEK_CHAOS_ROUNDS(st -> st.weekChaosRounds),
+        NEG_RUMOR_RECOVERY_PENDING(st -> st.negativeRumorRecoveryPending ? 1L : 0L),
+        WEEK_NEGATIVE_EVENTS(st -> st.weekNegativeEvents),
+        WEEK_POSITIVE_EVENTS(st -> st.weekPositiveEvents),
+        NEAR_CAPACITY_NIGHTS(st -> st.nearCapacityServiceNightsThisWeek),
+        USED_CREDIT(st -> st.usedCreditThisWeek ? 1L : 0L),
+        CREDIT_BALANCE(st -> Double.doubleToLongBits(st.totalCreditBalance())),
+        MET_MINIMUMS(st -> st.metMinimumsLastWeek ? 1L : 0L),
+        CREDIT_SCORE(st -> st.creditScore),
+        CREDIT_SCORE_WEEK_START(st -> st.creditScoreAtWeekStart),
+        ZERO_DEBT_STREAK(st -> st.zeroDebtWeekStreak),
+        WEEK_REVENUE(st -> Double.doubleToLongBits(st.weekRevenue)),
+        WEEK_COSTS(st -> Double.doubleToLongBits(st.weekCosts)),
+        WAGES_ACCRUED(st -> Double.doubleToLongBits(st.wagesAccruedThisWeek)),
+        SECURITY_UPKEEP(st -> Double.doubleToLongBits(st.securityUpkeepAccruedThisWeek)),
+        BULK_ORDERS(st -> st.largeBulkOrdersCompleted),
+        GOLDEN_QUARTER_STREAK(st -> st.goldenQuarterWeekStreak),
+        WEEK_MIN_REPUTATION(st -> st.weekMinReputation),
+        REPUTATION(st -> st.reputation),
+        TOP_TIER_ACTIVITY(st -> st.topTierActivityRanThisWeek ? 1L : 0L),
+        WEEK_REFUNDS(st -> Double.doubleToLongBits(st.weekRefundTotal));
+
+        private static final Input[] VALUES = values();
+
+        private final ToLongFunction<GameState> sampler;
+
+        Input(ToLongFunction<GameState> sampler) {
+            this.sampler = sampler;
+        }
+
+        long sample(GameState st) { return sampler.applyAsLong(st); }
+
+        static long mask(Input... inputs) {
+            long mask = 0L;
+            for (Input input : inputs) mask |= 1L << input.ordinal();
+            return mask;
+        }
+    }
+
     private static final double CHAOS_HIGH_THRESHOLD = 60.0;
     private static final double CHAOS_SAFE_THRESHOLD = 25.0;
     private static final double CREW_MORALE_THRESHOLD = 65.0;
@@ -51,7 +121,27 @@ public class MilestoneSystem {
     private final EnumMap<PubUpgrade, UpgradeAvailability> upgradeAvailability = new EnumMap<>(PubUpgrade.class);
     private final List<MilestoneDefinition> definitions = new ArrayList<>();
 
-    private record MilestoneDefinition(Milestone id, int tier, String title, String description, String rewardText) {}
+    // Incremental evaluation state: each pass bumps the epoch, inputs remember the epoch they last
+    // changed in, and rules remember the epoch they were last checked in.
+    private final long[] inputSamples = new long[Input.VALUES.length];
+    private final long[] inputChangedEpoch = new long[Input.VALUES.length];
+    private final long[] ruleCheckedEpoch;
+    private long epoch = 0L;
+
+    // Inputs the cached availability maps were built from.
+    private final EnumSet<PubUpgrade> activityOwnedSeen = EnumSet.noneOf(PubUpgrade.class);
+    private final List<PubUpgrade> activityPendingSeen = new ArrayList<>();
+    private final EnumSet<Milestone> activityMilestonesSeen = EnumSet.noneOf(Milestone.class);
+    private final EnumSet<PubUpgrade> upgradeOwnedSeen = EnumSet.noneOf(PubUpgrade.class);
+    private final EnumSet<Milestone> upgradeMilestonesSeen = EnumSet.noneOf(Milestone.class);
+    private boolean upgradeKitchenSeen;
+    private int upgradePubLevelSeen;
+
+    // Reputation changes inside a round are folded into one evaluation when the round ends.
+    private boolean roundInProgress = false;
+    private boolean repChangePending = false;
+
+    private record MilestoneDefinition(Milestone id, int tier, String title, String description, String rewardText, long inputs) {}
 
     public static final class ActivityAvailability {
         private final boolean unlocked;
@@ -85,6 +175,8 @@ public class MilestoneSystem {
         this.log = log;
         buildDefinitions();
         wireActivityRequirements();
+        this.ruleCheckedEpoch = new long[definitions.size()];
+        Arrays.fill(ruleCheckedEpoch, -1L);
         if (!s.prestigeMilestones.isEmpty() && s.achievedMilestones.isEmpty()) {
             s.achievedMilestones.addAll(s.prestigeMilestones);
         }
@@ -97,25 +189,44 @@ public class MilestoneSystem {
     }
 
     private void buildDefinitions() {
-        definitions.add(new MilestoneDefinition(Milestone.M1_OPEN_FOR_BUSINESS, 1, "Open For Business", "Survive 5 services without bankruptcy.", "Unlocks: Karaoke"));
-        definitions.add(new MilestoneDefinition(Milestone.M2_NO_EMPTY_SHELVES, 1, "No Empty Shelves", "Two consecutive nights with zero stockouts.", "Unlocks: Cocktail Promo"));
-        definitions.add(new MilestoneDefinition(Milestone.M3_NO_ONE_LEAVES_ANGRY, 1, "No One Leaves Angry", "One perfect service night (0 refunds, 0 unserved).", "Unlocks: Staff Room II upgrades"));
-        definitions.add(new MilestoneDefinition(Milestone.M4_PAYROLL_GUARDIAN, 1, "Payroll Guardian", "Pay wages and rent on payday.", "Unlocks: Quiz Night"));
-        definitions.add(new MilestoneDefinition(Milestone.M5_CALM_HOUSE, 2, "Calm House", "3 calm nights in a row while running activity.", "Unlocks: Open Mic"));
-        definitions.add(new MilestoneDefinition(Milestone.M6_MARGIN_WITH_MANNERS, 2, "Margin With Manners", "Weekly avg price >=1.15 and positive rep delta.", "Unlocks: CCTV"));
-        definitions.add(new MilestoneDefinition(Milestone.M7_CREW_THAT_STAYS, 2, "Crew That Stays", "2 weeks no staff departures and morale stable.", "Unlocks: Staff Room III"));
-        definitions.add(new MilestoneDefinition(Milestone.M8_ORDER_RESTORED, 2, "Order Restored", "Recover from high chaos to safe chaos within 2 nights.", "Unlocks: Landlord actions tier 2"));
-        definitions.add(new MilestoneDefinition(Milestone.M9_KNOWN_FOR_SOMETHING, 3, "Known For Something", "Hold one dominant identity for 2 weeks.", "Unlocks: Charity Night"));
-        definitions.add(new MilestoneDefinition(Milestone.M10_MIXED_CROWD_WHISPERER, 3, "Mixed Crowd Whisperer", "Run 3 different activity categories without collapse.", "Unlocks: Family Lunch"));
-        definitions.add(new MilestoneDefinition(Milestone.M11_NARRATIVE_RECOVERY, 3, "Narrative Recovery", "Recover from a negative rumor week in 2 weeks.", "Unlocks: Brewery Takeover"));
-        definitions.add(new MilestoneDefinition(Milestone.M12_BOOKED_OUT, 3, "Booked Out", "Three near-capacity quality nights in one week.", "Unlocks: Landlord actions tier 3"));
-        definitions.add(new MilestoneDefinition(Milestone.M13_BRIDGE_DONT_BLEED, 4, "Bridge, Don't Bleed", "Use credit and clear it same week without misses.", "Unlocks: Supplier bulk tier x100"));
-        definitions.add(new MilestoneDefinition(Milestone.M14_DEBT_DIET, 4, "Debt Diet", "3 consecutive zero-debt week endings.", "Unlocks: Supplier bulk tier x300"));
-        definitions.add(new MilestoneDefinition(Milestone.M15_BALANCED_BOOKS_BUSY_HOUSE, 4, "Balanced Books, Busy House", "Hit profit target while funding wages/security.", "Unlocks: Door Team II"));
-        definitions.add(new MilestoneDefinition(Milestone.M16_SUPPLIERS_FAVOURITE, 4, "Supplier's Favourite", "Good supplier trust + one large bulk order.", "Unlocks: Premium supplier catalog"));
-        definitions.add(new MilestoneDefinition(Milestone.M17_GOLDEN_QUARTER, 5, "Golden Quarter", "4 strong weeks in a row.", "Unlocks: Landlord actions tier 4"));
-        definitions.add(new MilestoneDefinition(Milestone.M18_STORMPROOF_OPERATOR, 5, "Stormproof Operator", "Profitable week with positive rep under high adversity.", "Unlocks: Door Team III"));
-        definitions.add(new MilestoneDefinition(Milestone.M19_HEADLINER_VENUE, 5, "Headliner Venue", "Premium pricing + high rep + top-tier programming quality.", "Unlocks: Landlord actions tier 5 + supplier bulk x500"));
+        definitions.add(new MilestoneDefinition(Milestone.M1_OPEN_FOR_BUSINESS, 1, "Open For Business", "Survive 5 services without bankruptcy.", "Unlocks: Karaoke",
+                Input.mask(Input.OPEN_NIGHTS, Input.BUSINESS_COLLAPSED, Input.BANKRUPTCY_DECLARED)));
+        definitions.add(new MilestoneDefinition(Milestone.M2_NO_EMPTY_SHELVES, 1, "No Empty Shelves", "Two consecutive nights with zero stockouts.", "Unlocks: Cocktail Promo",
+                Input.mask(Input.NO_STOCKOUT_STREAK)));
+        definitions.add(new MilestoneDefinition(Milestone.M3_NO_ONE_LEAVES_ANGRY, 1, "No One Leaves Angry", "One perfect service night (0 refunds, 0 unserved).", "Unlocks: Staff Room II upgrades",
+                Input.mask(Input.LAST_SERVICE_FULL, Input.NEGLECT_KICKOFFS, Input.BROKE_DEPARTURES)));
+        definitions.add(new MilestoneDefinition(Milestone.M4_PAYROLL_GUARDIAN, 1, "Payroll Guardian", "Pay wages and rent on payday.", "Unlocks: Quiz Night",
+                Input.mask(Input.PAYDAY_WINDOW_CLOSED, Input.WAGES_PAID, Input.RENT_ACCRUED)));
+        definitions.add(new MilestoneDefinition(Milestone.M5_CALM_HOUSE, 2, "Calm House", "3 calm nights in a row while running activity.", "Unlocks: Open Mic",
+                Input.mask(Input.CALM_STREAK, Input.CALM_ACTIVITY_STREAK)));
+        definitions.add(new MilestoneDefinition(Milestone.M6_MARGIN_WITH_MANNERS, 2, "Margin With Manners", "Weekly avg price >=1.15 and positive rep delta.", "Unlocks: CCTV",
+                Input.mask(Input.WEEK_PRICE_SUM, Input.WEEK_PRICE_SAMPLES, Input.WEEKLY_REP_NET)));
+        definitions.add(new MilestoneDefinition(Milestone.M7_CREW_THAT_STAYS, 2, "Crew That Stays", "2 weeks no staff departures and morale stable.", "Unlocks: Staff Room III",
+                Input.mask(Input.WEEKS_NO_DEPARTURES, Input.TEAM_MORALE)));
+        definitions.add(new MilestoneDefinition(Milestone.M8_ORDER_RESTORED, 2, "Order Restored", "Recover from high chaos to safe chaos within 2 nights.", "Unlocks: Landlord actions tier 2",
+                Input.mask(Input.CHAOS_RECOVERY_PENDING, Input.CHAOS)));
+        definitions.add(new MilestoneDefinition(Milestone.M9_KNOWN_FOR_SOMETHING, 3, "Known For Something", "Hold one dominant identity for 2 weeks.", "Unlocks: Charity Night",
+                Input.mask(Input.DOMINANT_IDENTITY_STREAK)));
+        definitions.add(new MilestoneDefinition(Milestone.M10_MIXED_CROWD_WHISPERER, 3, "Mixed Crowd Whisperer", "Run 3 different activity categories without collapse.", "Unlocks: Family Lunch",
+                Input.mask(Input.ACTIVITY_CATEGORIES, Input.WEEKLY_REP_NET, Input.WEEK_CHAOS_TOTAL, Input.WEEK_CHAOS_ROUNDS, Input.CHAOS)));
+        definitions.add(new MilestoneDefinition(Milestone.M11_NARRATIVE_RECOVERY, 3, "Narrative Recovery", "Recover from a negative rumor week in 2 weeks.", "Unlocks: Brewery Takeover",
+                Input.mask(Input.NEG_RUMOR_RECOVERY_PENDING, Input.WEEK_NEGATIVE_EVENTS, Input.WEEK_POSITIVE_EVENTS)));
+        definitions.add(new MilestoneDefinition(Milestone.M12_BOOKED_OUT, 3, "Booked Out", "Three near-capacity quality nights in one week.", "Unlocks: Landlord actions tier 3",
+                Input.mask(Input.NEAR_CAPACITY_NIGHTS)));
+        definitions.add(new MilestoneDefinition(Milestone.M13_BRIDGE_DONT_BLEED, 4, "Bridge, Don't Bleed", "Use credit and clear it same week without misses.", "Unlocks: Supplier bulk tier x100",
+                Input.mask(Input.USED_CREDIT, Input.CREDIT_BALANCE, Input.MET_MINIMUMS, Input.CREDIT_SCORE, Input.CREDIT_SCORE_WEEK_START)));
+        definitions.add(new MilestoneDefinition(Milestone.M14_DEBT_DIET, 4, "Debt Diet", "3 consecutive zero-debt week endings.", "Unlocks: Supplier bulk tier x300",
+                Input.mask(Input.ZERO_DEBT_STREAK)));
+        definitions.add(new MilestoneDefinition(Milestone.M15_BALANCED_BOOKS_BUSY_HOUSE, 4, "Balanced Books, Busy House", "Hit profit target while funding wages/security.", "Unlocks: Door Team II",
+                Input.mask(Input.WEEK_REVENUE, Input.WEEK_COSTS, Input.WAGES_ACCRUED, Input.SECURITY_UPKEEP)));
+        definitions.add(new MilestoneDefinition(Milestone.M16_SUPPLIERS_FAVOURITE, 4, "Supplier's Favourite", "Good supplier trust + one large bulk order.", "Unlocks: Premium supplier catalog",
+                Input.mask(Input.CREDIT_SCORE, Input.BULK_ORDERS)));
+        definitions.add(new MilestoneDefinition(Milestone.M17_GOLDEN_QUARTER, 5, "Golden Quarter", "4 strong weeks in a row.", "Unlocks: Landlord actions tier 4",
+                Input.mask(Input.GOLDEN_QUARTER_STREAK)));
+        definitions.add(new MilestoneDefinition(Milestone.M18_STORMPROOF_OPERATOR, 5, "Stormproof Operator", "Profitable week with positive rep under high adversity.", "Unlocks: Door Team III",
+                Input.mask(Input.WEEK_REVENUE, Input.WEEK_COSTS, Input.WEEK_MIN_REPUTATION, Input.WEEK_NEGATIVE_EVENTS)));
+        definitions.add(new MilestoneDefinition(Milestone.M19_HEADLINER_VENUE, 5, "Headliner Venue", "Premium pricing + high rep + top-tier programming quality.", "Unlocks: Landlord actions tier 5 + supplier bulk x500",
+                Input.mask(Input.WEEK_PRICE_SUM, Input.WEEK_PRICE_SAMPLES, Input.PRICE_MULTIPLIER, Input.REPUTATION, Input.TOP_TIER_ACTIVITY, Input.WEEK_REFUNDS, Input.WEEK_REVENUE)));
     }
 
     private void wireActivityRequirements() {
@@ -128,7 +239,25 @@ public class MilestoneSystem {
         activityMilestoneRequirements.put(PubActivity.BREWERY_TAKEOVER, Milestone.M11_NARRATIVE_RECOVERY);
     }
 
-    public void onRepChanged() { evaluateMilestones(EvaluationReason.REPUTATION_CHANGE); }
+    public void onRepChanged() {
+        if (roundInProgress) {
+            repChangePending = true;
+            return;
+        }
+        evaluateMilestones(EvaluationReason.REPUTATION_CHANGE);
+    }
+
+    /** Starts folding reputation changes until {@link #endRound()}; a busy round then costs one evaluation. */
+    public void beginRound() {
+        roundInProgress = true;
+    }
+
+    /** Ends the current round and runs any reputation evaluation deferred during it. */
+    public void endRound() {
+        roundInProgress = false;
+        if (repChangePending) evaluateMilestones(EvaluationReason.REPUTATION_CHANGE);
+    }
+
     public void onNightEnd() { evaluateMilestones(EvaluationReason.NIGHT_END); }
     public void onWeekEnd() { evaluateMilestones(EvaluationReason.WEEK_END); }
     public void onPaydayResolved() { 
@@ -151,7 +280,10 @@ public class MilestoneSystem {
     }
 
     public void evaluateMilestones(EvaluationReason reason) {
-        for (MilestoneDefinition def : definitions) {
+        repChangePending = false;
+        sampleInputs();
+        for (int i = 0; i < definitions.size(); i++) {
+            MilestoneDefinition def = definitions.get(i);
             if (s.achievedMilestones.contains(def.id())) continue;
             
             // M3_NO_ONE_LEAVES_ANGRY should only be evaluated on service close (NIGHT_END)
@@ -163,13 +295,48 @@ public class MilestoneSystem {
             if (def.id() == Milestone.M4_PAYROLL_GUARDIAN && reason != EvaluationReason.WEEK_END) {
                 continue;
             }
+
+            // Outcome can only differ from the last check if one of the rule's inputs moved since.
+            if (!inputsChangedSince(def.inputs(), ruleCheckedEpoch[i])) continue;
+            ruleCheckedEpoch[i] = epoch;
             
             if (isMet(def.id())) {
                 grant(def, reason);
             }
         }
-        recomputeActivityAvailability();
-        recomputeUpgradeAvailability();
+        if (!activityInputsMatch()) recomputeActivityAvailability();
+        if (!upgradeInputsMatch()) recomputeUpgradeAvailability();
+    }
+
+    /**
+     * Call after milestones are taken away (prestige clears them all). A rule skipped because its inputs have not
+     * moved since it was last checked may have been granted back then, so every rule is checked afresh.
+     */
+    public void onAchievedReset() {
+        Arrays.fill(ruleCheckedEpoch, -1L);
+    }
+
+    private void sampleInputs() {
+        epoch++;
+        for (Input input : Input.VALUES) {
+            int idx = input.ordinal();
+            long value = input.sample(s);
+            if (epoch == 1 || value != inputSamples[idx]) {
+                inputSamples[idx] = value;
+                inputChangedEpoch[idx] = epoch;
+            }
+        }
+    }
+
+    private boolean inputsChangedSince(long inputs, long checkedEpoch) {
+        if (checkedEpoch < 0) return true;
+        long remaining = inputs;
+        while (remaining != 0L) {
+            int idx = Long.numberOfTrailingZeros(remaining);
+            if (inputChangedEpoch[idx] > checkedEpoch) return true;
+            remaining &= remaining - 1;
+        }
+        return false;
     }
 
     private boolean isMet(Milestone id) {
@@ -253,6 +420,13 @@ public class MilestoneSystem {
     }
 
     public void recomputeActivityAvailability() {
+        activityOwnedSeen.clear();
+        activityOwnedSeen.addAll(s.ownedUpgrades);
+        activityPendingSeen.clear();
+        for (PendingUpgradeInstall pending : s.pendingUpgradeInstalls) activityPendingSeen.add(pending.upgrade());
+        activityMilestonesSeen.clear();
+        activityMilestonesSeen.addAll(s.achievedMilestones);
+
         activityAvailability.clear();
         s.unlockedActivities.clear();
         for (PubActivity activity : PubActivity.values()) {
@@ -273,6 +447,16 @@ public class MilestoneSystem {
         }
     }
 
+    private boolean activityInputsMatch() {
+        if (!activityOwnedSeen.equals(s.ownedUpgrades)) return false;
+        if (!activityMilestonesSeen.equals(s.achievedMilestones)) return false;
+        if (activityPendingSeen.size() != s.pendingUpgradeInstalls.size()) return false;
+        for (int i = 0; i < activityPendingSeen.size(); i++) {
+            if (activityPendingSeen.get(i) != s.pendingUpgradeInstalls.get(i).upgrade()) return false;
+        }
+        return true;
+    }
+
     private Milestone requiredMilestone(PubActivity activity) {
         return activityMilestoneRequirements.get(activity);
     }
@@ -341,12 +525,26 @@ public class MilestoneSystem {
     }
 
     public void recomputeUpgradeAvailability() {
+        upgradeOwnedSeen.clear();
+        upgradeOwnedSeen.addAll(s.ownedUpgrades);
+        upgradeMilestonesSeen.clear();
+        upgradeMilestonesSeen.addAll(s.achievedMilestones);
+        upgradeKitchenSeen = s.kitchenUnlocked;
+        upgradePubLevelSeen = s.pubLevel;
+
         upgradeAvailability.clear();
         for (PubUpgrade up : PubUpgrade.values()) {
             upgradeAvailability.put(up, getUpgradeAvailability(up, s.cash));
         }
     }
 
+    private boolean upgradeInputsMatch() {
+        return upgradeKitchenSeen == s.kitchenUnlocked
+                && upgradePubLevelSeen == s.pubLevel
+                && upgradeOwnedSeen.equals(s.ownedUpgrades)
+                && upgradeMilestonesSeen.equals(s.achievedMilestones);
+    }
+
     public String upgradeRequirementText(PubUpgrade upgrade, double availableCash) {
         UpgradeAvailability availability = getUpgradeAvailability(upgrade, availableCash);
         if (availability.unlocked()) return null;
@@ -0,0 +1,27 @@
+package com.luxzentao.javabar.core;
+
+/**
+ * Logger that discards everything and reports every level disabled, so lazy call sites never build text.
+ * Used for headless runs (balance sweeps, benchmarks, tests).
+ */
+public final class NoOpLogger implements Logger {
+    public static final NoOpLogger INSTANCE = new NoOpLogger();
+
+    private NoOpLogger() {}
+
+    @Override public boolean isEnabled(Level level) { return false; }
+
+    @Override public void info(String s) {}
+    @Override public void pos(String s) {}
+    @Override public void neg(String s) {}
+    @Override public void event(String s) {}
+    @Override public void header(String s) {}
+    @Override public void spacer() {}
+    @Override public void action(String s) {}
+    @Override public void warning(String s) {}
+    @Override public void critical(String s) {}
+    @Override public void popup(String title, String body, String effects) {}
+    @Override public void popup(EventCard card) {}
+    @Override public void popupUpgrade(String title, String body, String effects, String tag) {}
+    @Override public void record(EventJournal journal, long seq) {}
+}
@@ -340,11 +340,12 @@ public class ObservationEngine {
     }
 
     private String pickObservationName(GameState s) {
-        if (!s.nightPunters.isEmpty()) {
+        if (!s.punterPool.isEmpty()) {
+            PunterPool pool = s.punterPool;
             for (int i = 0; i < 4; i++) {
-                Punter candidate = s.nightPunters.get(s.random.nextInt(s.nightPunters.size()));
-                if (!candidate.isBanned() && !candidate.hasLeftBar()) {
-                    String name = candidate.getName();
+                int candidate = pool.slotAt(s.random.nextInt(pool.size()));
+                if (pool.isActive(candidate)) {
+                    String name = pool.name(candidate);
                     if (name != null && !name.isBlank()) return name;
                 }
             }
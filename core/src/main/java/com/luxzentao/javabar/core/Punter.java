@@ -45,142 +45,109 @@ public class Punter implements java.io.Serializable {
         public int getWeight() { return weight; }
     }
 
-    private final String name;
-    private final int age;
-    private double wallet;
-    private final int trouble; // 0..2
-    private final Tier tier;
-    private final int id;
-
-    private int noBuyRounds = 0;
-    private int foodCooldownRounds = 0;
-    private int foodAttempts = 0;
-    private boolean orderedFoodThisVisit = false;
-    private boolean banned = false;
-    private boolean leftBar = false;
-
-    private State state = State.CHILL;
-    private final java.util.List<Descriptor> descriptors = new java.util.ArrayList<>();
-    private int chaosContribution = 0;
+    // A Punter is a view over one slot of a PunterPool. Detached punters (built directly, e.g. in tests)
+    // own a one-slot pool of their own until PunterPool.add(Punter) adopts them.
+    private PunterPool pool;
+    private int slot;
+
+    Punter(PunterPool pool, int slot) {
+        bind(pool, slot);
+    }
 
     public Punter(int id, String name, int age, double wallet, int trouble, Tier tier) {
-        this.id = id;
-        this.name = name;
-        this.age = age;
-        this.wallet = wallet;
-        this.trouble = trouble;
-        this.tier = tier;
+        PunterPool own = new PunterPool(1);
+        bind(own, own.add(id, name, age, wallet, trouble, tier));
     }
 
     public static Punter randomPunter(int id, Random random, Tier tier) {
-        int age = 16 + random.nextInt(35);
-        double wallet = switch (tier) {
-            case LOWLIFE -> 3 + random.nextDouble() * 22;
-            case REGULAR -> 8 + random.nextDouble() * 50;
-            case DECENT -> 18 + random.nextDouble() * 90;
-            case BIG_SPENDER -> 35 + random.nextDouble() * 140;
-        };
-
-        int roll = random.nextInt(100);
-        int troubleBase = switch (tier) {
-            case LOWLIFE -> 55;
-            case REGULAR -> 70;
-            case DECENT -> 80;
-            case BIG_SPENDER -> 88;
-        };
-        int trouble = (roll < troubleBase) ? 0 : (roll < 92 ? 1 : 2);
-
-        String name = NameGenerator.randomName(random);
-        if (name == null || name.isBlank()) {
-            name = "Punter " + id;
-        }
-        Punter p = new Punter(id, name, age, wallet, trouble, tier);
-
-        if (trouble == 1 && random.nextInt(100) < 30) p.state = State.ROWDY;
-        if (trouble == 2 && random.nextInt(100) < 25) p.state = State.MENACE;
+        PunterPool own = new PunterPool(1);
+        return own.view(own.addRandom(id, random, tier));
+    }
 
-        return p;
+    void bind(PunterPool pool, int slot) {
+        this.pool = pool;
+        this.slot = slot;
     }
 
-    public String getName() { return name; }
-    public int getId() { return id; }
-    public boolean isBanned() { return banned; }
-    public boolean hasLeftBar() { return leftBar; }
-    public boolean canDrink() { return age >= 18; }
-    public double getWallet() { return wallet; }
-    public int getTrouble() { return trouble; }
-    public State getState() { return state; }
-    public Tier getTier() { return tier; }
-    public java.util.List<Descriptor> getDescriptors() { return descriptors; }
-    public int getChaosContribution() { return chaosContribution; }
-    public int getNoBuyStreak() { return noBuyRounds; }
-    public int getFoodCooldownRounds() { return foodCooldownRounds; }
-    public int getFoodAttempts() { return foodAttempts; }
-    public boolean hasOrderedFoodThisVisit() { return orderedFoodThisVisit; }
-    public void setState(State state) { this.state = state; }
-    public void setFoodCooldownRounds(int rounds) { this.foodCooldownRounds = Math.max(0, rounds); }
-    public void incrementFoodAttempts() { this.foodAttempts++; }
-    public void setOrderedFoodThisVisit(boolean ordered) { this.orderedFoodThisVisit = ordered; }
-    public void tickFoodCooldown() { if (foodCooldownRounds > 0) foodCooldownRounds--; }
+    PunterPool pool() { return pool; }
+    public int slot() { return slot; }
+
+    public String getName() { return pool.name(slot); }
+    public int getId() { return pool.id(slot); }
+    public boolean isBanned() { return pool.isBanned(slot); }
+    public boolean hasLeftBar() { return pool.hasLeft(slot); }
+    public boolean canDrink() { return pool.canDrink(slot); }
+    public double getWallet() { return pool.wallet(slot); }
+    public int getTrouble() { return pool.trouble(slot); }
+    public State getState() { return pool.state(slot); }
+    public Tier getTier() { return pool.tier(slot); }
+    public java.util.List<Descriptor> getDescriptors() {
+        int n = pool.descriptorCount(slot);
+        java.util.List<Descriptor> list = new java.util.ArrayList<>(n);
+        for (int i = 0; i < n; i++) list.add(pool.descriptor(slot, i));
+        return list;
+    }
+    public int getChaosContribution() { return pool.chaos(slot); }
+    public int getNoBuyStreak() { return pool.noBuyStreak(slot); }
+    public int getFoodCooldownRounds() { return pool.foodCooldown(slot); }
+    public int getFoodAttempts() { return pool.foodAttempts(slot); }
+    public boolean hasOrderedFoodThisVisit() { return pool.orderedFood(slot); }
+    public void setState(State state) { pool.setState(slot, state); }
+    public void setFoodCooldownRounds(int rounds) { pool.setFoodCooldown(slot, rounds); }
+    public void incrementFoodAttempts() { pool.incrementFoodAttempts(slot); }
+    public void setOrderedFoodThisVisit(boolean ordered) { pool.setOrderedFood(slot, ordered); }
+    public void tickFoodCooldown() { if (pool.foodCooldown(slot) > 0) pool.setFoodCooldown(slot, pool.foodCooldown(slot) - 1); }
     public void setDescriptors(java.util.List<Descriptor> assigned) {
-        descriptors.clear();
+        pool.clearDescriptors(slot);
         if (assigned != null) {
-            descriptors.addAll(assigned);
+            for (Descriptor d : assigned) pool.addDescriptor(slot, d);
         }
     }
 
     public void setChaosContribution(int chaosContribution) {
-        this.chaosContribution = chaosContribution;
+        pool.setChaos(slot, chaosContribution);
     }
 
     public void spend(double amount) {
-        wallet = Math.max(0, wallet - amount);
+        pool.spend(slot, amount);
     }
 
     public void leaveBar() {
-        leftBar = true;
+        pool.leaveBar(slot);
     }
 
     public void markKickedOut() {
-        banned = true;
-        leftBar = true;
+        pool.markKickedOut(slot);
     }
 
     public void incrementNoBuy() {
-        noBuyRounds++;
-        if (noBuyRounds >= 3) {
-            banned = true;
-            leftBar = true;
-        }
+        pool.incrementNoBuy(slot);
     }
 
     public boolean escalateIfStaying() {
-        return switch (state) {
-            case CHILL -> { state = State.ROWDY; yield false; }
-            case ROWDY -> { state = State.MENACE; yield false; }
-            case MENACE -> true;
-        };
+        return pool.escalateIfStaying(slot);
     }
 
     @Override
     public String toString() {
-        String vibe = switch (state) {
+        String vibe = switch (getState()) {
             case CHILL -> "chill";
             case ROWDY -> "rowdy";
             case MENACE -> "MENACE";
         };
 
-        return name + " | age " + age
-                + " | wallet " + String.format("%.2f", wallet)
-                + " | " + tier.name().toLowerCase().replace('_', ' ')
+        return getName() + " | age " + pool.age(slot)
+                + " | wallet " + String.format("%.2f", getWallet())
+                + " | " + getTier().name().toLowerCase().replace('_', ' ')
                 + " | " + vibe
-                + (descriptors.isEmpty() ? "" : " | " + descriptorSummary())
-                + (banned ? " (KICKED OUT)" : "")
-                + (leftBar ? " (LEFT)" : "");
+                + (pool.descriptorCount(slot) == 0 ? "" : " | " + descriptorSummary())
+                + (isBanned() ? " (KICKED OUT)" : "")
+                + (hasLeftBar() ? " (LEFT)" : "");
     }
 
     private String descriptorSummary() {
         StringBuilder sb = new StringBuilder();
+        java.util.List<Descriptor> descriptors = getDescriptors();
         for (int i = 0; i < descriptors.size(); i++) {
             if (i > 0) sb.append(", ");
             sb.append(descriptors.get(i).name().toLowerCase().replace('_', ' '));
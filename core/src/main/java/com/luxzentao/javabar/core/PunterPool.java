@@ -0,0 +1,432 @@
+package com.luxzentao.javabar.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tonight's punters, stored column-wise in primitive arrays.
+ *
+ * Each punter lives in a slot; slots freed by {@link #cleanupDeparted()} are recycled by the next arrival, so
+ * a busy night allocates nothing once the arrays have grown to the peak crowd. Arrival order is kept in a
+ * separate index so iteration (and therefore RNG consumption) matches the order punters walked in.
+ *
+ * Counts and the chaos sum over punters still in the bar are maintained as flags change, so the round code
+ * can read them without walking the pool. {@link Punter} is a view over one slot for UI and save code; a view
+ * is only meaningful until its punter is cleaned up and the slot handed to someone else.
+ */
+public final class PunterPool implements java.io.Serializable, Iterable<Punter> {
+    private static final long serialVersionUID = 1L;
+
+    private static final Punter.Tier[] TIERS = Punter.Tier.values();
+    private static final Punter.State[] STATES = Punter.State.values();
+    private static final Punter.Descriptor[] DESCRIPTORS = Punter.Descriptor.values();
+
+    // Descriptors are packed in the order they were drawn, DESCRIPTOR_BITS per entry holding ordinal + 1, so a
+    // zero entry ends the list and the summary reads in draw order rather than enum order.
+    private static final int DESCRIPTOR_BITS = 5;
+    private static final int DESCRIPTOR_ENTRY = (1 << DESCRIPTOR_BITS) - 1;
+    public static final int MAX_DESCRIPTORS = Integer.SIZE / DESCRIPTOR_BITS;
+
+    private static final byte LEFT = 1;
+    private static final byte BANNED = 2;
+    private static final byte ORDERED_FOOD = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // ---- columns, indexed by slot ----
+    private transient int[] ids;
+    private transient String[] names;
+    private transient byte[] ages;
+    private transient double[] wallets;
+    private transient byte[] troubles;
+    private transient byte[] tiers;
+    private transient byte[] states;
+    private transient int[] noBuy;
+    private transient int[] foodCooldown;
+    private transient int[] foodAttempts;
+    private transient int[] descriptors;
+    private transient int[] chaos;
+    private transient byte[] flags;
+
+    // ---- arrival order and slot recycling ----
+    private transient int[] order;
+    private transient int size;
+    private transient int[] free;
+    private transient int freeCount;
+    private transient int highWater;
+
+    // ---- running totals over punters still in the bar ----
+    private transient int activeCount;
+    private transient int activeChaos;
+    private transient int[] activeByTier;
+
+    public PunterPool() { this(DEFAULT_CAPACITY); }
+
+    public PunterPool(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    private void allocate(int cap) {
+        ids = new int[cap];
+        names = new String[cap];
+        ages = new byte[cap];
+        wallets = new double[cap];
+        troubles = new byte[cap];
+        tiers = new byte[cap];
+        states = new byte[cap];
+        noBuy = new int[cap];
+        foodCooldown = new int[cap];
+        foodAttempts = new int[cap];
+        descriptors = new int[cap];
+        chaos = new int[cap];
+        flags = new byte[cap];
+        order = new int[cap];
+        free = new int[cap];
+        activeByTier = new int[TIERS.length];
+        size = 0;
+        freeCount = 0;
+        highWater = 0;
+        activeCount = 0;
+        activeChaos = 0;
+    }
+
+    private void grow() {
+        int cap = ids.length * 2;
+        ids = Arrays.copyOf(ids, cap);
+        names = Arrays.copyOf(names, cap);
+        ages = Arrays.copyOf(ages, cap);
+        wallets = Arrays.copyOf(wallets, cap);
+        troubles = Arrays.copyOf(troubles, cap);
+        tiers = Arrays.copyOf(tiers, cap);
+        states = Arrays.copyOf(states, cap);
+        noBuy = Arrays.copyOf(noBuy, cap);
+        foodCooldown = Arrays.copyOf(foodCooldown, cap);
+        foodAttempts = Arrays.copyOf(foodAttempts, cap);
+        descriptors = Arrays.copyOf(descriptors, cap);
+        chaos = Arrays.copyOf(chaos, cap);
+        flags = Arrays.copyOf(flags, cap);
+        order = Arrays.copyOf(order, cap);
+        free = Arrays.copyOf(free, cap);
+    }
+
+    // ---------- population ----------
+
+    /** Adds a punter and returns its slot. */
+    public int add(int id, String name, int age, double wallet, int trouble, Punter.Tier tier) {
+        int slot;
+        if (freeCount > 0) {
+            slot = free[--freeCount];
+        } else {
+            if (highWater == ids.length) grow();
+            slot = highWater++;
+        }
+        ids[slot] = id;
+        names[slot] = name;
+        ages[slot] = (byte) Math.max(0, Math.min(127, age));
+        wallets[slot] = wallet;
+        troubles[slot] = (byte) trouble;
+        tiers[slot] = (byte) tier.ordinal();
+        states[slot] = (byte) Punter.State.CHILL.ordinal();
+        noBuy[slot] = 0;
+        foodCooldown[slot] = 0;
+        foodAttempts[slot] = 0;
+        descriptors[slot] = 0;
+        chaos[slot] = 0;
+        flags[slot] = 0;
+        order[size++] = slot;
+        activeCount++;
+        activeByTier[tier.ordinal()]++;
+        return slot;
+    }
+
+    /** Rolls a fresh punter of the given tier (same draws, in the same order, as {@link Punter#randomPunter}). */
+    public int addRandom(int id, Random random, Punter.Tier tier) {
+        int age = 16 + random.nextInt(35);
+        double wallet = switch (tier) {
+            case LOWLIFE -> 3 + random.nextDouble() * 22;
+            case REGULAR -> 8 + random.nextDouble() * 50;
+            case DECENT -> 18 + random.nextDouble() * 90;
+            case BIG_SPENDER -> 35 + random.nextDouble() * 140;
+        };
+
+        int roll = random.nextInt(100);
+        int troubleBase = switch (tier) {
+            case LOWLIFE -> 55;
+            case REGULAR -> 70;
+            case DECENT -> 80;
+            case BIG_SPENDER -> 88;
+        };
+        int trouble = (roll < troubleBase) ? 0 : (roll < 92 ? 1 : 2);
+
+        String name = NameGenerator.randomName(random);
+        if (name == null || name.isBlank()) {
+            name = "Punter " + id;
+        }
+        int slot = add(id, name, age, wallet, trouble, tier);
+
+        if (trouble == 1 && random.nextInt(100) < 30) setState(slot, Punter.State.ROWDY);
+        if (trouble == 2 && random.nextInt(100) < 25) setState(slot, Punter.State.MENACE);
+        return slot;
+    }
+
+    /**
+     * Copies a punter built outside the pool (tests, tools) into it and rebinds the view to the new slot.
+     */
+    public Punter add(Punter p) {
+        PunterPool src = p.pool();
+        int from = p.slot();
+        int slot = add(src.ids[from], src.names[from], src.ages[from], src.wallets[from], src.troubles[from], src.tier(from));
+        states[slot] = src.states[from];
+        noBuy[slot] = src.noBuy[from];
+        foodCooldown[slot] = src.foodCooldown[from];
+        foodAttempts[slot] = src.foodAttempts[from];
+        descriptors[slot] = src.descriptors[from];
+        setChaos(slot, src.chaos[from]);
+        if ((src.flags[from] & ORDERED_FOOD) != 0) flags[slot] |= ORDERED_FOOD;
+        if ((src.flags[from] & BANNED) != 0) markKickedOut(slot);
+        else if ((src.flags[from] & LEFT) != 0) leaveBar(slot);
+        p.bind(this, slot);
+        return p;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) names[order[i]] = null;
+        size = 0;
+        freeCount = 0;
+        highWater = 0;
+        activeCount = 0;
+        activeChaos = 0;
+        Arrays.fill(activeByTier, 0);
+    }
+
+    /**
+     * Drops everyone who left or was kicked out, keeping arrival order, and recycles their slots.
+     * Returns how many were removed; a round with no departures returns without touching the pool.
+     */
+    public int cleanupDeparted() {
+        if (activeCount == size) return 0;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            if (flags[slot] == 0 || flags[slot] == ORDERED_FOOD) {
+                order[kept++] = slot;
+            } else {
+                names[slot] = null;
+                free[freeCount++] = slot;
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    // ---------- counts ----------
+
+    /** Everyone tonight who hasn't been cleaned up yet, including those already out of the door. */
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    /** Slot of the {@code index}-th punter in arrival order. */
+    public int slotAt(int index) { return order[index]; }
+
+    /** Punters still in the bar (not left, not banned). */
+    public int activeCount() { return activeCount; }
+    public int activeChaosSum() { return activeChaos; }
+    public int activeCount(Punter.Tier tier) { return activeByTier[tier.ordinal()]; }
+
+    // ---------- per-slot reads ----------
+
+    public int id(int slot) { return ids[slot]; }
+    public String name(int slot) { return names[slot]; }
+    public int age(int slot) { return ages[slot]; }
+    public boolean canDrink(int slot) { return ages[slot] >= 18; }
+    public double wallet(int slot) { return wallets[slot]; }
+    public int trouble(int slot) { return troubles[slot]; }
+    public Punter.Tier tier(int slot) { return TIERS[tiers[slot]]; }
+    public Punter.State state(int slot) { return STATES[states[slot]]; }
+    public int noBuyStreak(int slot) { return noBuy[slot]; }
+    public int foodCooldown(int slot) { return foodCooldown[slot]; }
+    public int foodAttempts(int slot) { return foodAttempts[slot]; }
+    public int descriptorCount(int slot) {
+        int packed = descriptors[slot];
+        int n = 0;
+        while (n < MAX_DESCRIPTORS && ((packed >>> (n * DESCRIPTOR_BITS)) & DESCRIPTOR_ENTRY) != 0) n++;
+        return n;
+    }
+
+    /** The {@code index}-th descriptor in the order it was drawn. */
+    public Punter.Descriptor descriptor(int slot, int index) {
+        return DESCRIPTORS[((descriptors[slot] >>> (index * DESCRIPTOR_BITS)) & DESCRIPTOR_ENTRY) - 1];
+    }
+
+    public boolean hasDescriptor(int slot, Punter.Descriptor descriptor) {
+        int packed = descriptors[slot];
+        for (int n = 0; n < MAX_DESCRIPTORS; n++) {
+            int entry = (packed >>> (n * DESCRIPTOR_BITS)) & DESCRIPTOR_ENTRY;
+            if (entry == 0) return false;
+            if (entry == descriptor.ordinal() + 1) return true;
+        }
+        return false;
+    }
+    public int chaos(int slot) { return chaos[slot]; }
+    public boolean isBanned(int slot) { return (flags[slot] & BANNED) != 0; }
+    public boolean hasLeft(int slot) { return (flags[slot] & LEFT) != 0; }
+    public boolean orderedFood(int slot) { return (flags[slot] & ORDERED_FOOD) != 0; }
+    public boolean isActive(int slot) { return (flags[slot] & (LEFT | BANNED)) == 0; }
+
+    /** Sum of the descriptors' chaos deltas. */
+    public int descriptorChaos(int slot) {
+        int total = 0;
+        int packed = descriptors[slot];
+        while (packed != 0) {
+            total += DESCRIPTORS[(packed & DESCRIPTOR_ENTRY) - 1].getChaosDelta();
+            packed >>>= DESCRIPTOR_BITS;
+        }
+        return total;
+    }
+
+    public Punter view(int slot) { return new Punter(this, slot); }
+
+    /** View of the {@code index}-th punter in arrival order. */
+    public Punter get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("punter " + index + " of " + size);
+        return view(order[index]);
+    }
+
+    // ---------- per-slot writes ----------
+
+    public void spend(int slot, double amount) { wallets[slot] = Math.max(0, wallets[slot] - amount); }
+    public void setState(int slot, Punter.State state) { states[slot] = (byte) state.ordinal(); }
+    public void setFoodCooldown(int slot, int rounds) { foodCooldown[slot] = Math.max(0, rounds); }
+    public void incrementFoodAttempts(int slot) { foodAttempts[slot]++; }
+    public void clearDescriptors(int slot) { descriptors[slot] = 0; }
+
+    /** Appends {@code descriptor} after the ones already drawn; repeats and anything past the limit are ignored. */
+    public void addDescriptor(int slot, Punter.Descriptor descriptor) {
+        if (hasDescriptor(slot, descriptor)) return;
+        int n = descriptorCount(slot);
+        if (n >= MAX_DESCRIPTORS) return;
+        descriptors[slot] |= (descriptor.ordinal() + 1) << (n * DESCRIPTOR_BITS);
+    }
+
+    public void setOrderedFood(int slot, boolean ordered) {
+        if (ordered) flags[slot] |= ORDERED_FOOD;
+        else flags[slot] &= ~ORDERED_FOOD;
+    }
+
+    public void setChaos(int slot, int value) {
+        if (isActive(slot)) activeChaos += value - chaos[slot];
+        chaos[slot] = value;
+    }
+
+    /** Counts down every punter's food cooldown by one round. */
+    public void tickFoodCooldowns() {
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            if (foodCooldown[slot] > 0) foodCooldown[slot]--;
+        }
+    }
+
+    public void leaveBar(int slot) {
+        deactivate(slot);
+        flags[slot] |= LEFT;
+    }
+
+    public void markKickedOut(int slot) {
+        deactivate(slot);
+        flags[slot] |= BANNED | LEFT;
+    }
+
+    public void incrementNoBuy(int slot) {
+        noBuy[slot]++;
+        if (noBuy[slot] >= 3) markKickedOut(slot);
+    }
+
+    /** CHILL -> ROWDY -> MENACE; returns true if an already-MENACE punter snaps. */
+    public boolean escalateIfStaying(int slot) {
+        return switch (state(slot)) {
+            case CHILL -> { setState(slot, Punter.State.ROWDY); yield false; }
+            case ROWDY -> { setState(slot, Punter.State.MENACE); yield false; }
+            case MENACE -> true;
+        };
+    }
+
+    private void deactivate(int slot) {
+        if (!isActive(slot)) return;
+        activeCount--;
+        activeChaos -= chaos[slot];
+        activeByTier[tiers[slot]]--;
+    }
+
+    // ---------- views ----------
+
+    /** Views in arrival order. Allocates one {@link Punter} per step; hot paths should walk slots instead. */
+    @Override
+    public Iterator<Punter> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() { return i < size; }
+
+            @Override
+            public Punter next() {
+                if (i >= size) throw new NoSuchElementException();
+                return view(order[i++]);
+            }
+        };
+    }
+
+    // ---------- serialisation: only live slots, in arrival order ----------
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            out.writeInt(ids[slot]);
+            out.writeObject(names[slot]);
+            out.writeByte(ages[slot]);
+            out.writeDouble(wallets[slot]);
+            out.writeByte(troubles[slot]);
+            out.writeByte(tiers[slot]);
+            out.writeByte(states[slot]);
+            out.writeInt(noBuy[slot]);
+            out.writeInt(foodCooldown[slot]);
+            out.writeInt(foodAttempts[slot]);
+            out.writeInt(descriptors[slot]);
+            out.writeInt(chaos[slot]);
+            out.writeByte(flags[slot]);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        allocate(Math.max(DEFAULT_CAPACITY, count));
+        for (int i = 0; i < count; i++) {
+            int id = in.readInt();
+            String name = (String) in.readObject();
+            int age = in.readByte();
+            double wallet = in.readDouble();
+            int trouble = in.readByte();
+            int tier = in.readByte();
+            int slot = add(id, name, age, wallet, trouble, TIERS[tier]);
+            states[slot] = in.readByte();
+            noBuy[slot] = in.readInt();
+            foodCooldown[slot] = in.readInt();
+            foodAttempts[slot] = in.readInt();
+            descriptors[slot] = in.readInt();
+            setChaos(slot, in.readInt());
+            byte f = in.readByte();
+            if ((f & ORDERED_FOOD) != 0) flags[slot] |= ORDERED_FOOD;
+            if ((f & BANNED) != 0) markKickedOut(slot);
+            else if ((f & LEFT) != 0) leaveBar(slot);
+        }
+    }
+}
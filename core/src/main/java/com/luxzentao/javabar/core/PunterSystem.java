@@ -11,6 +11,10 @@ public class PunterSystem {
     private final RumorSystem rumors;
     private final Logger log;
 
+    // Reused every round by shuffleInBar(); holds pool slots.
+    private int[] serviceOrder = new int[16];
+    private int serviceCount;
+
     public PunterSystem(GameState s, EconomySystem eco, InventorySystem inv, EventSystem events, RumorSystem rumors, Logger log) {
         this.s = s;
         this.eco = eco;
@@ -21,44 +25,68 @@ public class PunterSystem {
     }
 
     public void seedNightPunters(int poolSize) {
-        s.nightPunters.clear();
+        s.punterPool.clear();
         for (int i = 0; i < poolSize; i++) {
-            s.nightPunters.add(createPunterForReputation());
+            createPunterForReputation();
         }
     }
 
-    /** Shuffled list of punters currently in the bar (not left, not banned). */
-    public List<Punter> inBarShuffled() {
-        List<Punter> bar = new ArrayList<>();
-        for (Punter p : s.nightPunters) {
-            if (!p.hasLeftBar() && !p.isBanned()) bar.add(p);
+    /**
+     * Fills the service-order buffer with everyone currently in the bar (not left, not banned) and shuffles
+     * it in place. Returns how many there are; read them with {@link #serviceSlot(int)}. The draws are the
+     * same as {@code Collections.shuffle} over a list in arrival order, so seeded runs are unchanged.
+     */
+    public int shuffleInBar() {
+        PunterPool pool = s.punterPool;
+        if (serviceOrder.length < pool.size()) {
+            serviceOrder = new int[Math.max(pool.size(), serviceOrder.length * 2)];
+        }
+        int[] order = serviceOrder;
+        int n = 0;
+        for (int i = 0; i < pool.size(); i++) {
+            int p = pool.slotAt(i);
+            if (pool.isActive(p)) order[n++] = p;
         }
-        Collections.shuffle(bar, s.random);
-        return bar;
+        for (int i = n; i > 1; i--) {
+            int j = s.random.nextInt(i);
+            int tmp = order[i - 1];
+            order[i - 1] = order[j];
+            order[j] = tmp;
+        }
+        serviceCount = n;
+        return n;
+    }
+
+    /** Pool slot of the {@code i}-th punter in this round's service order. */
+    public int serviceSlot(int i) {
+        if (i < 0 || i >= serviceCount) throw new IndexOutOfBoundsException("service position " + i + " of " + serviceCount);
+        return serviceOrder[i];
     }
 
     /** Add arrivals mid-night (respect maxBarOccupancy). Returns how many added. */
     public int addArrivals(int requested) {
-        int canAdd = Math.max(0, s.maxBarOccupancy - s.nightPunters.size());
+        int canAdd = Math.max(0, s.maxBarOccupancy - s.punterPool.size());
         int add = Math.min(requested, canAdd);
         for (int i = 0; i < add; i++) {
-            s.nightPunters.add(createPunterForReputation());
+            createPunterForReputation();
         }
         return add;
     }
 
     /** Some punters leave naturally each round to keep turnover flowing. */
     public int applyNaturalDepartures() {
+        PunterPool pool = s.punterPool;
         int left = 0;
-        int count = s.nightPunters.size();
+        int count = pool.size();
         double occupancyFactor = Math.min(0.04, count * 0.002);
         double lateNightFactor = Math.min(0.03, Math.max(0, s.roundInNight - 3) * 0.002);
         double baseChance = 0.015 + occupancyFactor + lateNightFactor;
         baseChance = Math.min(0.09, baseChance);
-        for (Punter p : s.nightPunters) {
-            if (p.hasLeftBar() || p.isBanned()) continue;
+        for (int i = 0; i < count; i++) {
+            int p = pool.slotAt(i);
+            if (!pool.isActive(p)) continue;
             if (s.random.nextDouble() < baseChance) {
-                p.leaveBar();
+                pool.leaveBar(p);
                 left++;
             }
         }
@@ -67,48 +95,52 @@ public class PunterSystem {
 
     /** Remove anyone who left or was kicked out. Returns how many removed. */
     public int cleanupDeparted() {
-        int before = s.nightPunters.size();
-        s.nightPunters.removeIf(p -> p.hasLeftBar() || p.isBanned());
-        return before - s.nightPunters.size();
+        return s.punterPool.cleanupDeparted();
     }
 
-    /** Apply consequences for punters who were present but NOT served this round. */
-    public void handleUnserved(List<Punter> unserved, double effectiveMult) {
-        if (unserved == null || unserved.isEmpty()) return;
+    /**
+     * Apply consequences for punters who were present but NOT served this round: service-order positions
+     * {@code from} (inclusive) to {@code to} (exclusive) from the last {@link #shuffleInBar()}.
+     */
+    public void handleUnserved(int from, int to, double effectiveMult) {
+        int count = Math.min(to, serviceCount) - from;
+        if (count <= 0) return;
 
-        log.neg(" " + unserved.size() + " punter(s) not served this round.");
+        log.record(s.journal(), s.journal().unserved(count));
 
         // Small rep hit per unserved (tycoon rule: service matters)
-        int repHit = Math.min(6, Math.max(1, unserved.size() / 2));
-        eco.applyRep(-repHit, "Service failure (" + unserved.size() + " unserved)");
+        int repHit = Math.min(6, Math.max(1, count / 2));
+        eco.applyRep(-repHit, "Service failure (" + count + " unserved)");
 
-        for (Punter p : unserved) {
-            p.incrementNoBuy();
+        PunterPool pool = s.punterPool;
+        for (int i = from; i < from + count; i++) {
+            int p = serviceOrder[i];
+            pool.incrementNoBuy(p);
 
             // Bouncer makes neglect less likely to turn into violence; they may just leave instead.
-            boolean fightTriggered = p.escalateIfStaying();
+            boolean fightTriggered = pool.escalateIfStaying(p);
             if (fightTriggered && bouncerIntervenes()) {
                 // Bouncer diffuses it into "storming out" instead of a fight
                     s.punterKickedOffFromNeglect++;
-                    p.leaveBar();
-                    log.info("  - " + p.getName() + " storms out (bouncer prevents a fight).");
+                    pool.leaveBar(p);
+                    if (log.isEnabled(Logger.Level.INFO)) log.info("  - " + pool.name(p) + " storms out (bouncer prevents a fight).");
                     continue;
             }
 
             if (fightTriggered) {
                 if (mitigateFightWithStaff()) {
-                    log.info("  - Staff defuse " + p.getName() + " before it escalates.");
+                    if (log.isEnabled(Logger.Level.INFO)) log.info("  - Staff defuse " + pool.name(p) + " before it escalates.");
                     s.punterKickedOffFromNeglect++;
-                    p.leaveBar();
+                    pool.leaveBar(p);
                     continue;
                 }
-                log.popup("Fight", "<b>" + p.getName() + "</b> snaps after repeated neglect.", "Rep hit | Damages");
+                log.popup("Fight", "<b>" + pool.name(p) + "</b> snaps after repeated neglect.", "Rep hit | Damages");
                 events.triggerFight("Unserved MENACE", bouncerIntervenes() ? s.bouncerNegReduction : 0.0);
             } else {
-                log.info("  - " + p.getName() + " escalates  " + p.getState() + " (no-buy " + p.getNoBuyStreak() + ")");
+                if (log.isEnabled(Logger.Level.INFO)) log.info("  - " + pool.name(p) + " escalates  " + pool.state(p) + " (no-buy " + pool.noBuyStreak(p) + ")");
             }
 
-            if (p.isBanned()) {
+            if (pool.isBanned(p)) {
                 s.punterKickedOffFromNeglect++;
                 kickOut(p, 0, "3 rounds no service / can't buy");
             }
@@ -116,21 +148,27 @@ public class PunterSystem {
     }
 
     public void handlePunter(Punter p, double effectiveMult, int sec, boolean riskyWeekend, double tipRate) {
-        if (p.isBanned() || p.hasLeftBar()) return;
+        handlePunter(p.slot(), effectiveMult, sec, riskyWeekend, tipRate);
+    }
+
+    /** Serves the punter in pool slot {@code p}. */
+    public void handlePunter(int p, double effectiveMult, int sec, boolean riskyWeekend, double tipRate) {
+        PunterPool pool = s.punterPool;
+        if (!pool.isActive(p)) return;
 
-        log.info("Punter: " + p);
+        if (log.isEnabled(Logger.Level.INFO)) log.info("Punter: " + pool.view(p));
 
         // Underage check with Trading Standards system
-        if (!p.canDrink()) {
+        if (!pool.canDrink(p)) {
             handleUnderagePunter(p, sec);
             return;
         }
 
-        if (p.getWallet() < 1.0) {
+        if (pool.wallet(p) < 1.0) {
             log.neg("  - wallet has <£1. Leaves early in a huff.");
             eco.applyRep(-1, "Broke punter leaves");
             s.punterLeftBecauseBroke++;
-            p.leaveBar();
+            pool.leaveBar(p);
             return;
         }
 
@@ -142,8 +180,8 @@ public class PunterSystem {
         }
 
         double cheapestPrice = inv.sellPrice(cheapest, effectiveMult);
-        if (p.getWallet() < cheapestPrice) {
-            log.neg("  - Can't afford cheapest (" + String.format("%.2f", cheapestPrice) + "). No-buy +1");
+        if (pool.wallet(p) < cheapestPrice) {
+            if (log.isEnabled(Logger.Level.NEG)) log.neg("  - Can't afford cheapest (" + String.format("%.2f", cheapestPrice) + "). No-buy +1");
             handlePriceComplaintIfOverpriced(p, cheapest, effectiveMult);
             cannotBuyStayAndEscalate(p, "Unaffordable prices");
             maybeTheft(p, effectiveMult, sec, riskyWeekend);
@@ -160,39 +198,41 @@ public class PunterSystem {
         maybeOrderFood(p);
     }
 
-    private void cannotBuyStayAndEscalate(Punter p, String reason) {
+    private void cannotBuyStayAndEscalate(int p, String reason) {
+        PunterPool pool = s.punterPool;
         if (reason.equals("No stock") || reason.equals("Unaffordable prices")) {
             eco.applyRep(-3, reason);
         }
 
-        p.incrementNoBuy();
+        pool.incrementNoBuy(p);
 
-        boolean fightTriggered = p.escalateIfStaying();
+        boolean fightTriggered = pool.escalateIfStaying(p);
         if (fightTriggered) {
             if (mitigateFightWithStaff()) {
                 log.info("  - Staff de-escalate the situation.");
-                p.leaveBar();
+                pool.leaveBar(p);
                 return;
             }
             log.popup("Fight", "MENACE punter snaps after repeated no-buy.", "Rep hit | Damages");
             events.triggerFight("MENACE punter", bouncerIntervenes() ? s.bouncerNegReduction : 0.0);
         } else {
-            log.info("  - Mood escalates  " + p.getState());
+            if (log.isEnabled(Logger.Level.INFO)) log.info("  - Mood escalates  " + pool.state(p));
         }
 
-        if (p.isBanned()) {
+        if (pool.isBanned(p)) {
             kickOut(p, 0, "3 rounds can't buy");
         }
     }
 
-    private void kickOut(Punter p, int repDelta, String reason) {
+    private void kickOut(int p, int repDelta, String reason) {
+        PunterPool pool = s.punterPool;
         s.nightKickedOut++;
-        log.neg("  - KICKED OUT (" + reason + ").");
+        log.record(s.journal(), s.journal().kickout(reason));
         if (repDelta != 0) eco.applyRep(repDelta, "Kickout");
-        p.markKickedOut();
+        pool.markKickedOut(p);
     }
 
-    private void maybeTheft(Punter p, double effectiveMult, int sec, boolean riskyWeekend) {
+    private void maybeTheft(int p, double effectiveMult, int sec, boolean riskyWeekend) {
         int theftChance = 10 + repToTheftBonus();
         if (effectiveMult > 1.30) theftChance += 6;
         if (riskyWeekend) theftChance += 6;
@@ -215,11 +255,12 @@ public class PunterSystem {
         if (s.random.nextInt(100) < theftChance) attemptTheft(p, sec);
     }
 
-    private void attemptTheft(Punter p, int sec) {
+    private void attemptTheft(int p, int sec) {
+        PunterPool pool = s.punterPool;
         Wine stolen = s.rack.pickRandomBottle(s.random);
         if (stolen == null) return;
 
-        log.neg("  - " + p.getName() + " attempts theft: " + stolen.getName() + " ");
+        log.record(s.journal(), s.journal().theft(pool.name(p), stolen.getName()));
 
         int chaos = repToTheftBonus();
         int caughtChance = 45 + sec * 10 - Math.max(0, chaos);
@@ -233,17 +274,17 @@ public class PunterSystem {
             log.pos("  - Caught!");
             eco.applyRep(+2, "Theft caught");
             s.addSecurityLog("Theft caught: " + stolen.getName() + " | rep +2");
-            p.incrementNoBuy();
+            pool.incrementNoBuy(p);
         } else {
             log.neg("  - Success! Bottle stolen.");
             s.rack.removeBottle(stolen);
             int repHit = s.mitigateSecurityRepHit(-7);
             eco.applyRep(repHit, "Theft succeeded");
             s.addSecurityLog("Theft: bottle lost | rep " + repHit);
-            p.incrementNoBuy();
+            pool.incrementNoBuy(p);
         }
 
-        if (p.isBanned()) kickOut(p, 0, "3 no-buy");
+        if (pool.isBanned(p)) kickOut(p, 0, "3 no-buy");
     }
 
     private int repToTheftBonus() {
@@ -254,12 +295,13 @@ public class PunterSystem {
         return +14;
     }
 
-    private void handlePriceComplaintIfOverpriced(Punter p, Wine cheapest, double effectiveMult) {
-        if (cheapest == null || p == null) return;
+    private void handlePriceComplaintIfOverpriced(int p, Wine cheapest, double effectiveMult) {
+        PunterPool pool = s.punterPool;
+        if (cheapest == null) return;
         if (effectiveMult <= 1.0) return;
 
         double basePrice = cheapest.getBasePrice();
-        if (p.getWallet() < basePrice) return;
+        if (pool.wallet(p) < basePrice) return;
 
         double overPct = Math.max(0.0, effectiveMult - 1.0);
         if (overPct <= 0.02) return;
@@ -282,20 +324,21 @@ public class PunterSystem {
         }
 
         eco.applyRep(-repLoss, "Price complaints");
-        p.leaveBar();
+        pool.leaveBar(p);
         applyTrafficLossFromComplaint(p);
 
         log.neg("  - Price complaint: \"" + cheapest.getName() + "\" felt overpriced ("
                 + (int)Math.round(overPct * 100) + "% over). Rep -" + repLoss + " and they leave.");
     }
 
-    private void applyTrafficLossFromComplaint(Punter complainant) {
-        if (s.nightPunters.size() <= 1) return;
+    private void applyTrafficLossFromComplaint(int complainant) {
+        PunterPool pool = s.punterPool;
+        if (pool.size() <= 1) return;
         int tries = 0;
         while (tries < 5) {
-            Punter other = s.nightPunters.get(s.random.nextInt(s.nightPunters.size()));
-            if (other != null && other != complainant && !other.hasLeftBar() && !other.isBanned()) {
-                other.leaveBar();
+            int other = pool.slotAt(s.random.nextInt(pool.size()));
+            if (other != complainant && pool.isActive(other)) {
+                pool.leaveBar(other);
                 log.info("  - The mood dips; another punter heads out.");
                 return;
             }
@@ -321,10 +364,10 @@ public class PunterSystem {
         return 1.25;
     }
 
-    private Punter createPunterForReputation() {
+    private int createPunterForReputation() {
         Punter.Tier tier = rollTierForReputation();
         tier = adjustTierForIdentityAndRumors(tier);
-        Punter p = Punter.randomPunter(s.nextPunterId++, s.random, tier);
+        int p = s.punterPool.addRandom(s.nextPunterId++, s.random, tier);
         assignDescriptors(p);
         applyReputationBiasToPunter(p);
         applyIdentityRumorBiasToPunter(p);
@@ -332,45 +375,44 @@ public class PunterSystem {
     }
 
     public void refreshChaosContributions() {
-        for (Punter p : s.nightPunters) {
-            updateChaosContribution(p);
+        PunterPool pool = s.punterPool;
+        for (int i = 0; i < pool.size(); i++) {
+            updateChaosContribution(pool.slotAt(i));
         }
     }
 
-    private void updateChaosContribution(Punter p) {
-        if (p == null) return;
-        int chaos = 0;
-        for (Punter.Descriptor descriptor : p.getDescriptors()) {
-            chaos += descriptor.getChaosDelta();
-        }
-        chaos += switch (p.getState()) {
+    private void updateChaosContribution(int p) {
+        PunterPool pool = s.punterPool;
+        int chaos = pool.descriptorChaos(p);
+        chaos += switch (pool.state(p)) {
             case CHILL -> -1;
             case ROWDY -> 1;
             case MENACE -> 2;
         };
-        chaos += p.getTrouble();
-        if (p.getNoBuyStreak() >= 2) chaos += 1;
-        if (p.getNoBuyStreak() >= 3) chaos += 1;
+        chaos += pool.trouble(p);
+        if (pool.noBuyStreak(p) >= 2) chaos += 1;
+        if (pool.noBuyStreak(p) >= 3) chaos += 1;
         if (s.reputation >= 60) chaos -= 1;
         if (s.reputation <= -40) chaos += 1;
         chaos = Math.max(-2, Math.min(3, chaos));
-        p.setChaosContribution(chaos);
+        pool.setChaos(p, chaos);
     }
 
-    private void assignDescriptors(Punter p) {
-        if (p == null) return;
+    private void assignDescriptors(int p) {
+        PunterPool pool = s.punterPool;
         int count = 1 + s.random.nextInt(3);
-        java.util.Set<Punter.Descriptor> picked = new java.util.LinkedHashSet<>();
+        int picked = 0;
         int attempts = 0;
-        while (picked.size() < count && attempts < 12) {
+        pool.clearDescriptors(p);
+        while (Integer.bitCount(picked) < count && attempts < 12) {
             Punter.DescriptorCategory category = pickDescriptorCategory();
             Punter.Descriptor descriptor = pickDescriptorFromCategory(category, picked);
             if (descriptor != null) {
-                picked.add(descriptor);
+                picked |= 1 << descriptor.ordinal();
+                pool.addDescriptor(p, descriptor);
             }
             attempts++;
         }
-        p.setDescriptors(new java.util.ArrayList<>(picked));
     }
 
     private Punter.DescriptorCategory pickDescriptorCategory() {
@@ -380,42 +422,42 @@ public class PunterSystem {
         return Punter.DescriptorCategory.PHYSICAL;
     }
 
-    private Punter.Descriptor pickDescriptorFromCategory(Punter.DescriptorCategory category, java.util.Set<Punter.Descriptor> taken) {
+    private Punter.Descriptor pickDescriptorFromCategory(Punter.DescriptorCategory category, int takenMask) {
         int total = 0;
         for (Punter.Descriptor d : Punter.Descriptor.values()) {
-            if (d.getCategory() != category || taken.contains(d)) continue;
+            if (d.getCategory() != category || (takenMask & (1 << d.ordinal())) != 0) continue;
             total += d.getWeight();
         }
         if (total <= 0) return null;
         int roll = s.random.nextInt(total);
         int cursor = 0;
         for (Punter.Descriptor d : Punter.Descriptor.values()) {
-            if (d.getCategory() != category || taken.contains(d)) continue;
+            if (d.getCategory() != category || (takenMask & (1 << d.ordinal())) != 0) continue;
             cursor += d.getWeight();
             if (roll < cursor) return d;
         }
         return null;
     }
 
-    private void applyReputationBiasToPunter(Punter p) {
-        if (p == null) return;
+    private void applyReputationBiasToPunter(int p) {
+        PunterPool pool = s.punterPool;
         if (s.reputation > 50) {
-            if (p.getState() == Punter.State.ROWDY && s.random.nextInt(100) < 40) {
-                p.setState(Punter.State.CHILL);
-            } else if (p.getState() == Punter.State.MENACE && s.random.nextInt(100) < 35) {
-                p.setState(Punter.State.ROWDY);
+            if (pool.state(p) == Punter.State.ROWDY && s.random.nextInt(100) < 40) {
+                pool.setState(p, Punter.State.CHILL);
+            } else if (pool.state(p) == Punter.State.MENACE && s.random.nextInt(100) < 35) {
+                pool.setState(p, Punter.State.ROWDY);
             }
         } else if (s.reputation < 0) {
-            if (p.getState() == Punter.State.CHILL && s.random.nextInt(100) < 25) {
-                p.setState(Punter.State.ROWDY);
-            } else if (p.getState() == Punter.State.ROWDY && s.random.nextInt(100) < 20) {
-                p.setState(Punter.State.MENACE);
+            if (pool.state(p) == Punter.State.CHILL && s.random.nextInt(100) < 25) {
+                pool.setState(p, Punter.State.ROWDY);
+            } else if (pool.state(p) == Punter.State.ROWDY && s.random.nextInt(100) < 20) {
+                pool.setState(p, Punter.State.MENACE);
             }
         }
     }
 
-    private void applyIdentityRumorBiasToPunter(Punter p) {
-        if (p == null) return;
+    private void applyIdentityRumorBiasToPunter(int p) {
+        PunterPool pool = s.punterPool;
 
         double moodBias = 0.0;
 
@@ -440,42 +482,44 @@ public class PunterSystem {
         }
 
         // Apply bias to state gently
-        if (moodBias > 0.15 && p.getState() != Punter.State.CHILL && s.random.nextInt(100) < 35) {
-            p.setState(Punter.State.CHILL);
+        if (moodBias > 0.15 && pool.state(p) != Punter.State.CHILL && s.random.nextInt(100) < 35) {
+            pool.setState(p, Punter.State.CHILL);
             return;
         }
 
         if (moodBias < -0.15) {
-            if (p.getState() == Punter.State.CHILL && s.random.nextInt(100) < 30) {
-                p.setState(Punter.State.ROWDY);
-            } else if (p.getState() == Punter.State.ROWDY && s.random.nextInt(100) < 20) {
-                p.setState(Punter.State.MENACE);
+            if (pool.state(p) == Punter.State.CHILL && s.random.nextInt(100) < 30) {
+                pool.setState(p, Punter.State.ROWDY);
+            } else if (pool.state(p) == Punter.State.ROWDY && s.random.nextInt(100) < 20) {
+                pool.setState(p, Punter.State.MENACE);
             }
         }
     }
 
 
-    private int desiredDrinkCount(Punter p) {
-        if (p == null) return 1;
-        if (p.getTier() == Punter.Tier.BIG_SPENDER) {
+    private int desiredDrinkCount(int p) {
+        PunterPool pool = s.punterPool;
+        
+        if (pool.tier(p) == Punter.Tier.BIG_SPENDER) {
             int roll = s.random.nextInt(100);
             if (roll < 20) return 3;
             if (roll < 55) return 2;
-        } else if (p.getTier() == Punter.Tier.DECENT) {
+        } else if (pool.tier(p) == Punter.Tier.DECENT) {
             if (s.random.nextInt(100) < 25) return 2;
         }
         return 1;
     }
 
-    private boolean attemptPurchase(Punter p, double effectiveMult, double tipRate, int sec, boolean riskyWeekend) {
-        Wine chosen = inv.randomWineForTier(p.getTier());
+    private boolean attemptPurchase(int p, double effectiveMult, double tipRate, int sec, boolean riskyWeekend) {
+        PunterPool pool = s.punterPool;
+        Wine chosen = inv.randomWineForTier(pool.tier(p));
         if (chosen == null) return false;
 
         double lastPrice = inv.sellPrice(chosen, effectiveMult);
 
         for (int attempts = 0; attempts < 12; attempts++) {
             double sellPrice = inv.sellPrice(chosen, effectiveMult);
-            if (sellPrice <= p.getWallet()) {
+            if (sellPrice <= pool.wallet(p)) {
                 s.rack.removeBottle(chosen);
 
                 eco.addCash(sellPrice, "Sale " + chosen.getName());
@@ -487,7 +531,7 @@ public class PunterSystem {
                 s.recordRoundSale("Wine", chosen.getName());
 
                 boolean cheated = s.happyHour && sellPrice > chosen.getBasePrice();
-                double tipMult = priceTipMultiplier(sellPrice, chosen.getBasePrice(), p.getTier());
+                double tipMult = priceTipMultiplier(sellPrice, chosen.getBasePrice(), pool.tier(p));
 
                 if (cheated) {
                     tipMult *= 0.6;
@@ -500,8 +544,8 @@ public class PunterSystem {
                         s.happyHourBacklashShown = true;
                     }
                     if (s.random.nextInt(100) < 25) {
-                        log.neg("  - " + p.getName() + " feels cheated and leaves.");
-                        p.leaveBar();
+                        if (log.isEnabled(Logger.Level.NEG)) log.neg("  - " + pool.name(p) + " feels cheated and leaves.");
+                        pool.leaveBar(p);
                     }
                 }
 
@@ -514,15 +558,14 @@ public class PunterSystem {
                     s.tipsPotWeek += tips;
                 }
 
-                p.spend(sellPrice);
+                pool.spend(p, sellPrice);
 
-                log.pos("  - Buys " + chosen.getName() + " for " + String.format("%.2f", sellPrice)
-                        + (tips > 0 ? " (tips +" + String.format("%.2f", tips) + ")" : ""));
+                log.record(s.journal(), s.journal().sale(chosen.getName(), sellPrice, tips));
 
                 if (effectiveMult <= 1.10) eco.applyRep(+1, "Satisfied customer");
                 
                 // Track unique punter served this service for covers count
-                s.servedPuntersThisService.add(p.getId());
+                s.servedPuntersThisService.add(pool.id(p));
                 
                 return true;
             }
@@ -544,12 +587,13 @@ public class PunterSystem {
         return false;
     }
 
-    private void maybeOrderFood(Punter p) {
-        if (p == null || !s.kitchenUnlocked) return;
-        if (p.hasOrderedFoodThisVisit()) return;
-        if (p.getFoodCooldownRounds() > 0) return;
+    private void maybeOrderFood(int p) {
+        PunterPool pool = s.punterPool;
+        if (!s.kitchenUnlocked) return;
+        if (pool.orderedFood(p)) return;
+        if (pool.foodCooldown(p) > 0) return;
 
-        double chance = switch (p.getTier()) {
+        double chance = switch (pool.tier(p)) {
             case BIG_SPENDER -> 0.45;
             case DECENT -> 0.30;
             case REGULAR -> 0.18;
@@ -571,19 +615,19 @@ public class PunterSystem {
 
         if (s.foodRack.count() <= 0) {
             if (s.kitchenQualityBonus >= 2 && s.random.nextInt(100) < 35) {
-                p.setFoodCooldownRounds(1);
+                pool.setFoodCooldown(p, 1);
                 return;
             }
-            p.incrementFoodAttempts();
-            p.setFoodCooldownRounds(2);
+            pool.incrementFoodAttempts(p);
+            pool.setFoodCooldown(p, 2);
             s.foodDisappointmentThisRound++;
-            if (p.getState() == Punter.State.CHILL) {
-                p.setState(Punter.State.ROWDY);
-            } else if (p.getState() == Punter.State.ROWDY && p.getFoodAttempts() >= 2) {
-                p.setState(Punter.State.MENACE);
+            if (pool.state(p) == Punter.State.CHILL) {
+                pool.setState(p, Punter.State.ROWDY);
+            } else if (pool.state(p) == Punter.State.ROWDY && pool.foodAttempts(p) >= 2) {
+                pool.setState(p, Punter.State.MENACE);
             }
 
-            if (p.getFoodAttempts() >= 2) {
+            if (pool.foodAttempts(p) >= 2) {
                 s.nightFoodUnserved++;
                 if (s.random.nextInt(100) < 35) {
                     eco.applyRep(-1, "Food out of stock");
@@ -601,25 +645,25 @@ public class PunterSystem {
         if (food == null) return;
 
         double price = s.foodRack.getSellPrice(food, s.kitchenQualityBonus);
-        if (p.getWallet() < price) return;
+        if (pool.wallet(p) < price) return;
 
         s.foodRack.removeFood(food);
         int prepRounds = Math.max(1, s.foodPrepRounds);
-        s.pendingFoodOrders.add(new FoodOrder(p.getId(), p.getName(), food, price, s.roundInNight + prepRounds));
-        p.setOrderedFoodThisVisit(true);
+        s.pendingFoodOrders.add(new FoodOrder(pool.id(p), pool.name(p), food, price, s.roundInNight + prepRounds));
+        pool.setOrderedFood(p, true);
         eco.addCash(price, "Meal order: " + food.getName());
         s.reportRevenue += price;
         s.nightRevenue += price;
         s.reportSales++;
         s.nightSales++;
         s.nightItemSales.merge("Food: " + food.getName(), 1, Integer::sum);
-        p.spend(price);
+        pool.spend(p, price);
         s.recordFoodQuality(food);
         applyFoodOverpricingConsequences(p, food, price);
-        log.info("  - Orders food: " + food.getName() + " (ready in " + prepRounds + " rounds).");
+        log.record(s.journal(), s.journal().foodOrder(food.getName(), prepRounds));
         
         // Track unique punter served this service for covers count
-        s.servedPuntersThisService.add(p.getId());
+        s.servedPuntersThisService.add(pool.id(p));
     }
 
     private double priceTipMultiplier(double sellPrice, double basePrice, Punter.Tier tier) {
@@ -641,8 +685,9 @@ public class PunterSystem {
         return Math.max(0.2, mult);
     }
 
-    private void applyOverpricingConsequences(Punter p, Wine wine, double sellPrice, double basePrice) {
-        if (p == null || basePrice <= 0) return;
+    private void applyOverpricingConsequences(int p, Wine wine, double sellPrice, double basePrice) {
+        PunterPool pool = s.punterPool;
+        if (basePrice <= 0) return;
         double ratio = sellPrice / basePrice;
         if (ratio <= 1.2) return;
 
@@ -659,8 +704,8 @@ public class PunterSystem {
             repLoss = 2 + (s.reputation < 0 ? 1 : 0);
         }
 
-        if (p.getTier() == Punter.Tier.BIG_SPENDER) repChance += 0.05;
-        if (p.getTier() == Punter.Tier.LOWLIFE) repChance += 0.10;
+        if (pool.tier(p) == Punter.Tier.BIG_SPENDER) repChance += 0.05;
+        if (pool.tier(p) == Punter.Tier.LOWLIFE) repChance += 0.10;
         if (wine != null) {
             repChance *= wine.getPriceSensitivity();
             repLoss = Math.max(1, (int)Math.round(repLoss * wine.getPriceSensitivity()));
@@ -673,14 +718,15 @@ public class PunterSystem {
                 s.overpricingRobberyPopupShown = true;
             }
             if (s.random.nextInt(100) < 35) {
-                p.leaveBar();
-                log.neg("  - " + p.getName() + " storms out over prices.");
+                pool.leaveBar(p);
+                if (log.isEnabled(Logger.Level.NEG)) log.neg("  - " + pool.name(p) + " storms out over prices.");
             }
         }
     }
 
-    private void applyFoodOverpricingConsequences(Punter p, Food food, double sellPrice) {
-        if (p == null || food == null) return;
+    private void applyFoodOverpricingConsequences(int p, Food food, double sellPrice) {
+        PunterPool pool = s.punterPool;
+        if (food == null) return;
         double base = food.getBasePrice();
         if (base <= 0) return;
         double ratio = sellPrice / base;
@@ -699,8 +745,8 @@ public class PunterSystem {
         if (s.random.nextDouble() < repChance) {
             eco.applyRep(-repLoss, "Food overpricing backlash");
             if (s.random.nextInt(100) < 25) {
-                p.leaveBar();
-                log.neg("  - " + p.getName() + " grumbles about food pricing.");
+                pool.leaveBar(p);
+                if (log.isEnabled(Logger.Level.NEG)) log.neg("  - " + pool.name(p) + " grumbles about food pricing.");
             }
         }
     }
@@ -868,7 +914,8 @@ public class PunterSystem {
      * Roll chance to determine if they are served or refused.
      * Chance reduced by base security and bouncer effects.
      */
-    private void handleUnderagePunter(Punter p, int sec) {
+    private void handleUnderagePunter(int p, int sec) {
+        PunterPool pool = s.punterPool;
         // Calculate probability of being served (base 70%, reduced by security)
         double baseServeChance = BASE_UNDERAGE_SERVE_CHANCE;
         
@@ -896,7 +943,7 @@ public class PunterSystem {
             evaluateTradingStandardsTier();
             
             // Punter leaves after being served
-            p.leaveBar();
+            pool.leaveBar(p);
         } else {
             // Underage punter was refused
             s.nightRefusedUnderage++;
@@ -910,8 +957,8 @@ public class PunterSystem {
             log.pos(messages[s.random.nextInt(messages.length)]);
             
             // Punter still can't buy, increment no-buy
-            p.incrementNoBuy();
-            if (p.isBanned()) kickOut(p, -4, "Underage trouble");
+            pool.incrementNoBuy(p);
+            if (pool.isBanned(p)) kickOut(p, -4, "Underage trouble");
         }
     }
     
@@ -102,7 +102,7 @@ public class ReportSystem {
         sb.append("Underage: ").append(s.nightRefusedUnderage).append("\n");
         sb.append("Events:   ").append(s.nightEvents).append("\n");
         sb.append("Refunds:  ").append(fmt2(s.nightRefundTotal)).append("\n");
-        sb.append("Bar:      ").append(s.nightPunters.size()).append("/").append(s.maxBarOccupancy).append("\n");
+        sb.append("Bar:      ").append(s.punterPool.size()).append("/").append(s.maxBarOccupancy).append("\n");
         if (s.kitchenUnlocked) {
             sb.append("Food spoiled (last night): ").append(s.foodSpoiledLastNight).append("\n");
         }
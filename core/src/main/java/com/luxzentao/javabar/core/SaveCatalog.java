@@ -0,0 +1,76 @@
+package com.luxzentao.javabar.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * What is in each save slot, for menus. Reads only the fixed-size header of each save, plus the entry headers of
+ * its journal, so listing every slot costs a few small reads instead of inflating and deserialising whole games.
+ */
+public final class SaveCatalog {
+    /** One slot as a menu shows it. {@code summary} is null if the slot is empty or its save predates summaries. */
+    public record Slot(int number, boolean occupied, SaveSummary summary) {
+        public String label() {
+            String what = !occupied ? "Empty"
+                    : summary == null ? "Older save (details on load)"
+                    : summary.describe();
+            return "Slot " + number + ": " + what;
+        }
+    }
+
+    private SaveCatalog() {}
+
+    public static List<Slot> list() {
+        List<Slot> slots = new ArrayList<>(SaveManager.SLOT_COUNT);
+        for (int n = 1; n <= SaveManager.SLOT_COUNT; n++) {
+            slots.add(read(n));
+        }
+        return slots;
+    }
+
+    public static Slot read(int slot) {
+        SaveManager.Header header;
+        try {
+            header = SaveManager.readHeader(slot);
+        } catch (IOException ex) {
+            // Unreadable headers still mean something is there; load will report what is wrong with it.
+            return new Slot(slot, SaveManager.hasSave(slot), null);
+        }
+        if (header == null) return new Slot(slot, SaveManager.hasSave(slot), null);
+        SaveSummary summary = header.summary();
+        if (summary != null) {
+            try {
+                SaveSummary journalled = SaveJournal.latestSummary(SaveManager.journalPath(slot), header.id());
+                if (journalled != null) summary = journalled;
+            } catch (IOException ignored) {
+                // The full save's own summary is still right about the full save.
+            }
+        }
+        return new Slot(slot, true, summary);
+    }
+
+    public static boolean hasAny() {
+        for (int n = 1; n <= SaveManager.SLOT_COUNT; n++) {
+            if (SaveManager.hasSave(n)) return true;
+        }
+        return false;
+    }
+
+    /** The occupied slot saved most recently; slots without a summary count as oldest. */
+    public static Optional<Slot> mostRecent() {
+        return list().stream()
+                .filter(Slot::occupied)
+                .max(Comparator.comparingLong(s -> s.summary() == null ? Long.MIN_VALUE : s.summary().savedAtMillis()));
+    }
+
+    /** The lowest empty slot number, or 0 if every slot is taken. */
+    public static int firstFree() {
+        for (int n = 1; n <= SaveManager.SLOT_COUNT; n++) {
+            if (!SaveManager.hasSave(n)) return n;
+        }
+        return 0;
+    }
+}
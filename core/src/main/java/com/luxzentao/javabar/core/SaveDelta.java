@@ -0,0 +1,172 @@
+package com.luxzentao.javabar.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Byte-level delta between two serialised saves, used by the save journal.
+ *
+ * The base is indexed in fixed blocks; the target is scanned with a rolling hash, and every stretch found in the
+ * base becomes a copy of (offset, length) while everything else is carried as a literal. Most of a week's state
+ * (upgrades, supplier catalogue, identity history, ...) serialises to the same bytes as last time, so a night's
+ * delta is mostly a handful of copies around the numbers that moved.
+ */
+final class SaveDelta {
+    private static final int BLOCK = 16;
+    private static final int HASH_MUL = 0x01000193;
+    private static final int HASH_MUL_TOP; // HASH_MUL^(BLOCK-1), to drop the byte leaving the window
+
+    private static final int END = 0;
+    private static final int COPY = 1;
+    private static final int LITERAL = 2;
+
+    static {
+        int p = 1;
+        for (int i = 1; i < BLOCK; i++) p *= HASH_MUL;
+        HASH_MUL_TOP = p;
+    }
+
+    private SaveDelta() {}
+
+    static byte[] encode(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, target.length >> 4));
+        BlockIndex index = new BlockIndex(base);
+        int literalStart = 0;
+        int p = 0;
+        int h = target.length >= BLOCK ? hash(target, 0) : 0;
+        while (p + BLOCK <= target.length) {
+            int match = index.find(h, base, target, p);
+            if (match < 0) {
+                if (p + BLOCK < target.length) h = roll(h, target[p], target[p + BLOCK]);
+                p++;
+                continue;
+            }
+            // Grow the match both ways; backwards only into bytes not yet emitted.
+            int b = match;
+            int t = p;
+            while (t > literalStart && b > 0 && base[b - 1] == target[t - 1]) { b--; t--; }
+            int end = p + BLOCK;
+            int baseEnd = match + BLOCK;
+            while (end < target.length && baseEnd < base.length && base[baseEnd] == target[end]) { end++; baseEnd++; }
+
+            literal(out, target, literalStart, t);
+            out.write(COPY);
+            writeVarint(out, b);
+            writeVarint(out, end - t);
+            p = end;
+            literalStart = end;
+            if (p + BLOCK <= target.length) h = hash(target, p);
+        }
+        literal(out, target, literalStart, target.length);
+        out.write(END);
+        return out.toByteArray();
+    }
+
+    static byte[] decode(byte[] base, byte[] delta, int targetLength) throws IOException {
+        byte[] target = new byte[targetLength];
+        int[] pos = {0};
+        int t = 0;
+        while (true) {
+            if (pos[0] >= delta.length) throw corrupt();
+            int op = delta[pos[0]++];
+            if (op == END) break;
+            byte[] source;
+            int from;
+            int len;
+            if (op == COPY) {
+                source = base;
+                from = readVarint(delta, pos);
+                len = readVarint(delta, pos);
+            } else if (op == LITERAL) {
+                source = delta;
+                len = readVarint(delta, pos);
+                from = pos[0];
+            } else {
+                throw corrupt();
+            }
+            if (len < 0 || from < 0 || len > source.length - from || len > targetLength - t) throw corrupt();
+            System.arraycopy(source, from, target, t, len);
+            t += len;
+            if (source == delta) pos[0] += len;
+        }
+        if (t != targetLength) throw corrupt();
+        return target;
+    }
+
+    private static void literal(ByteArrayOutputStream out, byte[] target, int from, int to) {
+        if (to <= from) return;
+        out.write(LITERAL);
+        writeVarint(out, to - from);
+        out.write(target, from, to - from);
+    }
+
+    private static int hash(byte[] data, int at) {
+        int h = 0;
+        for (int i = 0; i < BLOCK; i++) h = h * HASH_MUL + (data[at + i] & 0xFF);
+        return h;
+    }
+
+    private static int roll(int h, byte leaving, byte entering) {
+        return (h - (leaving & 0xFF) * HASH_MUL_TOP) * HASH_MUL + (entering & 0xFF);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] pos) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (pos[0] >= data.length) throw corrupt();
+            int b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw corrupt();
+    }
+
+    private static IOException corrupt() {
+        return new IOException("Save journal entry is corrupt.");
+    }
+
+    /** Open-addressed table of the base's aligned blocks: block hash to block offset. */
+    private static final class BlockIndex {
+        private final int[] hashes;
+        private final int[] offsets; // offset + 1, 0 marks an empty slot
+        private final int mask;
+
+        BlockIndex(byte[] base) {
+            int blocks = base.length / BLOCK;
+            int capacity = Integer.highestOneBit(Math.max(16, blocks * 2 - 1)) << 1;
+            hashes = new int[capacity];
+            offsets = new int[capacity];
+            mask = capacity - 1;
+            for (int at = 0; at + BLOCK <= base.length; at += BLOCK) {
+                int h = hash(base, at);
+                int slot = spread(h) & mask;
+                while (offsets[slot] != 0 && hashes[slot] != h) slot = (slot + 1) & mask;
+                if (offsets[slot] != 0) continue; // keep the first of repeated blocks so probes stay short
+                hashes[slot] = h;
+                offsets[slot] = at + 1;
+            }
+        }
+
+        int find(int h, byte[] base, byte[] target, int at) {
+            for (int slot = spread(h) & mask; offsets[slot] != 0; slot = (slot + 1) & mask) {
+                if (hashes[slot] != h) continue;
+                int from = offsets[slot] - 1;
+                if (Arrays.equals(base, from, from + BLOCK, target, at, at + BLOCK)) return from;
+            }
+            return -1;
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+}
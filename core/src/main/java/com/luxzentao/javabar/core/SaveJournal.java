@@ -0,0 +1,160 @@
+package com.luxzentao.javabar.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Checkpoints between full saves: an append-only file of deflated {@link SaveDelta}s, each taken against the full
+ * save beside it, so only the newest complete entry is ever needed to load.
+ *
+ * The header names the full save it belongs to by the id in that save's header. A journal left behind by a
+ * different full save is ignored and removed; a last entry cut short by a crash is trimmed off, falling back to the
+ * one before it. Each entry also carries the {@link SaveSummary} of its state, so {@link #latestSummary} can
+ * describe the slot from entry headers alone.
+ */
+final class SaveJournal {
+    private static final int MAGIC = 0x4A42534A; // "JBSJ"
+    /** 1 named its full save by the CRC and length of the state instead of an id. */
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 16; // magic, version, base id
+    private static final int ENTRY_HEADER_BYTES = 12 + SaveSummary.BYTES; // payload length, state length, state CRC, summary
+
+    private SaveJournal() {}
+
+    /** Appends {@code state} as a delta against {@code base}, starting the file if there is none; returns its size. */
+    static long append(Path file, long baseId, byte[] base, byte[] state, SaveSummary summary) throws IOException {
+        byte[] payload = deflate(SaveDelta.encode(base, state));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long end = channel.size();
+            ByteBuffer out = ByteBuffer.allocate((end == 0 ? HEADER_BYTES : 0) + ENTRY_HEADER_BYTES + payload.length);
+            if (end == 0) out.putInt(MAGIC).putInt(VERSION).putLong(baseId);
+            out.putInt(payload.length).putInt(state.length).putInt(crc(state));
+            summary.writeTo(out);
+            out.put(payload).flip();
+            while (out.hasRemaining()) end += channel.write(out, end);
+            channel.force(false);
+            return end;
+        }
+    }
+
+    /** The newest state journalled against the full save {@code baseId} holding {@code base}, or null if there is none. */
+    static byte[] latest(Path file, long baseId, byte[] base) throws IOException {
+        if (!Files.isRegularFile(file)) return null;
+        boolean stale;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            stale = !belongsTo(channel, baseId, size);
+            if (!stale) {
+                List<long[]> entries = new ArrayList<>(); // {offset, payload length, state length, state CRC}
+                long pos = HEADER_BYTES;
+                ByteBuffer entry;
+                while ((entry = read(channel, pos, ENTRY_HEADER_BYTES, size)) != null) {
+                    int length = entry.getInt();
+                    if (length < 0 || pos + ENTRY_HEADER_BYTES + length > size) break;
+                    entries.add(new long[] {pos, length, entry.getInt(), entry.getInt() & 0xFFFFFFFFL});
+                    pos += ENTRY_HEADER_BYTES + length;
+                }
+                for (int i = entries.size() - 1; i >= 0; i--) {
+                    long[] e = entries.get(i);
+                    byte[] state = decode(channel, base, e);
+                    if (state != null) {
+                        long end = e[0] + ENTRY_HEADER_BYTES + e[1];
+                        if (end < size) channel.truncate(end);
+                        return state;
+                    }
+                }
+                channel.truncate(HEADER_BYTES);
+                return null;
+            }
+        }
+        Files.deleteIfExists(file);
+        return null;
+    }
+
+    /**
+     * The summary of the newest complete entry journalled against {@code baseId}, or null if there is none. Reads
+     * entry headers only and leaves the file as it is; {@link #latest} still decides what a load gets, so a last
+     * entry that turns out to be corrupt can make this one step ahead of it.
+     */
+    static SaveSummary latestSummary(Path file, long baseId) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (!belongsTo(channel, baseId, size)) return null;
+            SaveSummary newest = null;
+            long pos = HEADER_BYTES;
+            ByteBuffer entry;
+            while ((entry = read(channel, pos, ENTRY_HEADER_BYTES, size)) != null) {
+                int length = entry.getInt();
+                if (length < 0 || pos + ENTRY_HEADER_BYTES + length > size) break;
+                newest = SaveSummary.readFrom(entry.position(12));
+                pos += ENTRY_HEADER_BYTES + length;
+            }
+            return newest;
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+    }
+
+    private static boolean belongsTo(FileChannel channel, long baseId, long size) throws IOException {
+        ByteBuffer header = read(channel, 0, HEADER_BYTES, size);
+        return header != null && header.getInt() == MAGIC && header.getInt() == VERSION && header.getLong() == baseId;
+    }
+
+    private static byte[] decode(FileChannel channel, byte[] base, long[] entry) {
+        try {
+            ByteBuffer payload = read(channel, entry[0] + ENTRY_HEADER_BYTES, (int) entry[1], Long.MAX_VALUE);
+            if (payload == null) return null;
+            Inflater inflater = new Inflater();
+            byte[] delta;
+            try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(payload.array()), inflater)) {
+                delta = in.readAllBytes();
+            } finally {
+                inflater.end();
+            }
+            byte[] state = SaveDelta.decode(base, delta, (int) entry[2]);
+            return (crc(state) & 0xFFFFFFFFL) == entry[3] ? state : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long at, int length, long size) throws IOException {
+        if (at + length > size) return null;
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, at + buf.position()) < 0) return null;
+        }
+        return buf.flip();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, data.length >> 1));
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(data);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+}
@@ -1,42 +1,237 @@
 package com.luxzentao.javabar.core;
 
-import java.io.IOException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
+/**
+ * Reads and writes save slots.
+ *
+ * There are {@link #SLOT_COUNT} slots; the plain save and load methods use the {@link #activeSlot()}. Slot 1 is
+ * the file from before there were slots, so an existing save shows up there.
+ *
+ * A save is a fixed-size header ({@link #MAGIC}, format version, flags, an id for this full save, and a
+ * {@link SaveSummary}) followed by the {@link GameState} graph, serialised once and streamed straight into the file,
+ * deflated unless the flags say otherwise. Menus read the header alone through {@link SaveCatalog}. Serializable
+ * classes in the graph pin their serialVersionUID, so adding or dropping a field only defaults or skips that field
+ * on load instead of failing the whole save.
+ *
+ * A save can also be taken in two steps: {@link #snapshot} freezes the state as its serialised bytes, which is all
+ * that has to happen while the simulation holds still, and {@link #save(Snapshot)} compresses and writes those
+ * bytes later from any thread, into the slot that was active when the snapshot was taken. Writes are one at a
+ * time, and a snapshot older than what is already in its slot is dropped rather than written over it.
+ *
+ * Between full saves, {@link #append} records a snapshot in a {@link SaveJournal} beside the save file as a delta
+ * against the last full save, and {@link #load} applies the newest one. Every full save starts the journal afresh.
+ *
+ * Older layouts are still read: format 2 had a bare 8-byte header, and saves from before any header (a
+ * {@link SaveData} wrapper around a second serialised copy, or a bare GameState before that) start with Java
+ * serialisation's own magic.
+ */
 public final class SaveManager {
+    public static final int SLOT_COUNT = 3;
+
     private static final String APP_DIR = ".publandlordidle";
+    // Slot 1 keeps the names the single save file had.
     private static final String SAVE_FILE = "savegame.dat";
     private static final String SAVE_TMP_FILE = "save.tmp";
+    private static final String JOURNAL_FILE = "savegame.journal";
+
+    private static final int MAGIC = 0x4A425356; // "JBSV"
+    /** 1 was the SaveData wrapper, which had no header of its own; 2 had no id or summary. */
+    private static final int FORMAT_VERSION = 3;
+    private static final int SHORT_HEADER_BYTES = 8; // magic, version, flags: all that format 2 had
+    static final int HEADER_BYTES = SHORT_HEADER_BYTES + 8 + SaveSummary.BYTES;
+    private static final int FLAG_DEFLATE = 1;
+    private static final boolean COMPRESS = true;
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** A journal is folded into a new full save once it is bigger than the save itself, or this, if larger. */
+    private static final long MIN_COMPACT_BYTES = 64 * 1024;
+
+    private static volatile int activeSlot = 1;
+
+    private static final Object WRITE_LOCK = new Object();
+    private static final AtomicLong taken = new AtomicLong();
+    // guarded by WRITE_LOCK
+    private static final long[] onDisk = new long[SLOT_COUNT + 1];
+    private static int baseSlot; // slot of the full save this session last wrote or loaded, 0 if none to diff against
+    private static long baseId;
+    private static byte[] base; // serialised state in that full save
+    private static long baseSize;
+    private static long journalSize;
+    private static volatile int snapshotSizeHint = 1 << 14;
+
+    private interface Body {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /** A {@link GameState} frozen as its serialised bytes; immutable, so safe to hand to another thread. */
+    public static final class Snapshot {
+        private final long seq;
+        private final int slot;
+        private final SaveSummary summary;
+        private final byte[] state;
+
+        private Snapshot(long seq, int slot, SaveSummary summary, byte[] state) {
+            this.seq = seq;
+            this.slot = slot;
+            this.summary = summary;
+            this.state = state;
+        }
+
+        public int slot() { return slot; }
+        public int size() { return state.length; }
+    }
+
+    /** A save file's header. {@code id} and {@code summary} are 0 and null for format 2. */
+    record Header(int version, int flags, long id, SaveSummary summary) {}
 
     private SaveManager() {}
 
+    public static int activeSlot() {
+        return activeSlot;
+    }
+
+    /** Picks the slot that saves, snapshots, {@link #load()} and {@link #hasSave()} use from now on. */
+    public static void setActiveSlot(int slot) {
+        activeSlot = checkSlot(slot);
+    }
+
     public static Path getSaveFilePath() {
-        return Path.of(System.getProperty("user.home"), APP_DIR, SAVE_FILE);
+        return slotPath(activeSlot);
     }
 
     public static Path savePath() {
         return getSaveFilePath();
     }
 
+    public static Path slotPath(int slot) {
+        return dir().resolve(checkSlot(slot) == 1 ? SAVE_FILE : "savegame" + slot + ".dat");
+    }
+
+    static Path journalPath(int slot) {
+        return dir().resolve(checkSlot(slot) == 1 ? JOURNAL_FILE : "savegame" + slot + ".journal");
+    }
+
+    private static Path tmpPath(int slot) {
+        return dir().resolve(slot == 1 ? SAVE_TMP_FILE : "save" + slot + ".tmp");
+    }
+
+    private static Path dir() {
+        return Path.of(System.getProperty("user.home"), APP_DIR);
+    }
+
+    private static int checkSlot(int slot) {
+        if (slot < 1 || slot > SLOT_COUNT) throw new IllegalArgumentException("No save slot " + slot);
+        return slot;
+    }
+
     public static boolean hasSave() {
-        return Files.isRegularFile(getSaveFilePath());
+        return hasSave(activeSlot);
+    }
+
+    public static boolean hasSave(int slot) {
+        return Files.isRegularFile(slotPath(slot));
     }
 
     public static void save(GameState state) throws IOException {
-        Path path = getSaveFilePath();
+        int slot = activeSlot;
+        SaveSummary summary = SaveSummary.of(state);
+        synchronized (WRITE_LOCK) {
+            long seq = taken.incrementAndGet();
+            writeFile(slot, ThreadLocalRandom.current().nextLong(), summary, out -> {
+                ObjectOutputStream objects = new ObjectOutputStream(out);
+                objects.writeObject(state);
+                objects.flush();
+            });
+            onDisk[slot] = seq;
+            if (baseSlot == slot) baseSlot = 0;
+            Files.deleteIfExists(journalPath(slot));
+        }
+    }
+
+    /**
+     * Serialises {@code state} into memory without compressing or touching the disk. Call it where the state is
+     * consistent (between rounds); the result can be saved from any thread afterwards.
+     */
+    public static Snapshot snapshot(GameState state) throws IOException {
+        int slot = activeSlot;
+        long seq = taken.incrementAndGet();
+        SaveSummary summary = SaveSummary.of(state);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(snapshotSizeHint);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        snapshotSizeHint = bytes.size() + (bytes.size() >> 3);
+        return new Snapshot(seq, slot, summary, bytes.toByteArray());
+    }
+
+    /** Writes a snapshot taken earlier. Returns false, writing nothing, if a newer save already reached its slot. */
+    public static boolean save(Snapshot snapshot) throws IOException {
+        synchronized (WRITE_LOCK) {
+            int slot = snapshot.slot;
+            if (snapshot.seq < onDisk[slot]) return false;
+            long id = ThreadLocalRandom.current().nextLong();
+            writeFile(slot, id, snapshot.summary, out -> out.write(snapshot.state));
+            onDisk[slot] = snapshot.seq;
+            baseSlot = slot;
+            baseId = id;
+            base = snapshot.state;
+            baseSize = Files.size(slotPath(slot));
+            Files.deleteIfExists(journalPath(slot));
+            journalSize = 0;
+            return true;
+        }
+    }
+
+    /**
+     * Records a snapshot as a journal entry, a few kilobytes instead of a rewrite. Falls back to a full
+     * {@link #save(Snapshot)}, which compacts the journal away, when this session has no full save of that slot to
+     * diff against or the journal has outgrown it. Returns false if a newer save already reached the slot.
+     */
+    public static boolean append(Snapshot snapshot) throws IOException {
+        synchronized (WRITE_LOCK) {
+            int slot = snapshot.slot;
+            if (snapshot.seq < onDisk[slot]) return false;
+            if (baseSlot != slot || journalSize > Math.max(baseSize, MIN_COMPACT_BYTES)) return save(snapshot);
+            journalSize = SaveJournal.append(journalPath(slot), baseId, base, snapshot.state, snapshot.summary);
+            onDisk[slot] = snapshot.seq;
+            return true;
+        }
+    }
+
+    private static void writeFile(int slot, long id, SaveSummary summary, Body body) throws IOException {
+        Path path = slotPath(slot);
         Files.createDirectories(path.getParent());
-        Path tmp = path.resolveSibling(SAVE_TMP_FILE);
-        try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(tmp))) {
-            out.writeObject(SaveData.fromState(state));
-            out.flush();
+        Path tmp = tmpPath(slot);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(Channels.newOutputStream(channel), id, summary, body, COMPRESS);
+            channel.force(false);
         }
         try {
             Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
@@ -46,64 +241,157 @@ public final class SaveManager {
     }
 
     public static GameState load() throws IOException, ClassNotFoundException {
-        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(getSaveFilePath()))) {
-            Object loaded = in.readObject();
-            if (loaded instanceof SaveData data) {
-                return data.toState();
-            }
-            // Legacy fallback for existing save files written before SaveData wrapper.
-            if (loaded instanceof GameState state) {
-                return state;
+        int slot = activeSlot;
+        synchronized (WRITE_LOCK) {
+            Path path = slotPath(slot);
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)) {
+                in.mark(HEADER_BYTES);
+                Header header = readHeader(in);
+                if (header == null) {
+                    in.reset();
+                    if (baseSlot == slot) baseSlot = 0;
+                    return readLegacy(in);
+                }
+                byte[] body = readBody(in, header.flags());
+                // Format 2 has no id for a journal to name; the next autosave of this slot will be a full one.
+                byte[] latest = header.version() < 3 ? null : SaveJournal.latest(journalPath(slot), header.id(), body);
+                baseSlot = header.version() < 3 ? 0 : slot;
+                baseId = header.id();
+                base = body;
+                baseSize = Files.size(path);
+                journalSize = Files.isRegularFile(journalPath(slot)) ? Files.size(journalPath(slot)) : 0;
+                return readState(new ObjectInputStream(new ByteArrayInputStream(latest != null ? latest : body)));
             }
-            throw new IOException("Unexpected save payload type: " + loaded.getClass().getName());
         }
     }
 
+    /** Writes a complete save around the serialised state {@code body} produces, flushing but not closing {@code target}. */
+    private static void write(OutputStream target, long id, SaveSummary summary, Body body, boolean compress)
+            throws IOException {
+        BufferedOutputStream file = new BufferedOutputStream(target, BUFFER_SIZE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort((short) FORMAT_VERSION).putShort((short) (compress ? FLAG_DEFLATE : 0));
+        header.putLong(id);
+        summary.writeTo(header);
+        file.write(header.array());
+
+        Deflater deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        try {
+            DeflaterOutputStream deflated = compress ? new DeflaterOutputStream(file, deflater, BUFFER_SIZE) : null;
+            body.writeTo(compress ? deflated : file);
+            if (deflated != null) deflated.finish();
+            file.flush();
+        } finally {
+            if (deflater != null) deflater.end();
+        }
+    }
+
+    /**
+     * Reads only the header of a slot's save: a single positional read, nothing inflated or deserialised. Null if
+     * the slot is empty or the save is from before the header.
+     */
+    static Header readHeader(int slot) throws IOException {
+        try (FileChannel channel = FileChannel.open(slotPath(slot), StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES);
+            while (buf.hasRemaining() && channel.read(buf, buf.position()) >= 0) { }
+            return parseHeader(buf.flip());
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+    }
+
+    /** Reads the header off the front of {@code in}; null, having consumed a few bytes, for a save from before it. */
+    private static Header readHeader(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(HEADER_BYTES);
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        Header header = parseHeader(buf);
+        if (header == null) return null;
+        if (header.version() >= 3 && bytes.length < HEADER_BYTES) throw new EOFException("Save file is cut short.");
+        // A format-2 body starts right after its shorter header.
+        if (header.version() < 3) {
+            in.reset();
+            in.skipNBytes(SHORT_HEADER_BYTES);
+        }
+        return header;
+    }
+
+    private static Header parseHeader(ByteBuffer buf) throws IOException {
+        if (buf.remaining() < SHORT_HEADER_BYTES || buf.getInt() != MAGIC) return null;
+        int version = buf.getShort() & 0xFFFF;
+        int flags = buf.getShort() & 0xFFFF;
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Save was written by a newer version of the game (format " + version + ").");
+        }
+        if (version < 3 || buf.remaining() < HEADER_BYTES - SHORT_HEADER_BYTES) return new Header(version, flags, 0, null);
+        return new Header(version, flags, buf.getLong(), SaveSummary.readFrom(buf));
+    }
+
+    /** The serialised state following the header, inflated if {@code flags} say it was deflated. */
+    private static byte[] readBody(InputStream in, int flags) throws IOException {
+        if ((flags & FLAG_DEFLATE) == 0) return in.readAllBytes();
+        Inflater inflater = new Inflater();
+        try {
+            return new InflaterInputStream(in, inflater, BUFFER_SIZE).readAllBytes();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static GameState readLegacy(InputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream objects = new ObjectInputStream(in);
+        Object loaded;
+        try {
+            loaded = objects.readObject();
+        } catch (InvalidClassException ex) {
+            throw incompatible(ex);
+        }
+        if (loaded instanceof SaveData data) {
+            return data.toState();
+        }
+        // Legacy fallback for existing save files written before SaveData wrapper.
+        if (loaded instanceof GameState state) {
+            return state;
+        }
+        throw new IOException("Unexpected save payload type: " + loaded.getClass().getName());
+    }
+
+    private static GameState readState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        Object loaded;
+        try {
+            loaded = in.readObject();
+        } catch (InvalidClassException ex) {
+            throw incompatible(ex);
+        }
+        if (loaded instanceof GameState state) {
+            return state;
+        }
+        throw new IOException("Unexpected save payload type: " + loaded.getClass().getName());
+    }
+
+    private static IllegalStateException incompatible(InvalidClassException ex) {
+        return new IllegalStateException("Save file is incompatible with this version of the game. " +
+            "The game code has changed since this save was created. " +
+            "Please start a new game or restore a backup save file.", ex);
+    }
+
+    /** The format-1 wrapper: a second serialised copy of the state inside the first. Only read now, never written. */
     public static final class SaveData implements Serializable {
         private static final long serialVersionUID = 1L;
 
         private final int schemaVersion;
         private final byte[] stateBytes;
 
-        private SaveData(GameState state) {
-            this.schemaVersion = 1;
-            this.stateBytes = serializeState(state);
-        }
-
-        public static SaveData fromState(GameState state) {
-            return new SaveData(state);
+        private SaveData(int schemaVersion, byte[] stateBytes) {
+            this.schemaVersion = schemaVersion;
+            this.stateBytes = stateBytes;
         }
 
         public GameState toState() {
             if (schemaVersion != 1) {
                 throw new IllegalStateException("Unsupported save schema version: " + schemaVersion);
             }
-            return deserializeState(stateBytes);
-        }
-
-        private static byte[] serializeState(GameState state) {
-            try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-                 ObjectOutputStream out = new ObjectOutputStream(bytes)) {
-                out.writeObject(state);
-                out.flush();
-                return bytes.toByteArray();
-            } catch (IOException ex) {
-                throw new IllegalStateException("Unable to serialize game state for save.", ex);
-            }
-        }
-
-        private static GameState deserializeState(byte[] bytes) {
-            try (ByteArrayInputStream inBytes = new ByteArrayInputStream(bytes);
-                 ObjectInputStream in = new ObjectInputStream(inBytes)) {
-                Object loaded = in.readObject();
-                if (loaded instanceof GameState state) {
-                    return state;
-                }
-                throw new IllegalStateException("SaveData payload is not GameState: " + loaded.getClass().getName());
-            } catch (java.io.InvalidClassException ex) {
-                throw new IllegalStateException("Save file is incompatible with this version of the game. " +
-                    "The game code has changed since this save was created. " +
-                    "Please start a new game or restore a backup save file.", ex);
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stateBytes))) {
+                return readState(in);
             } catch (IOException | ClassNotFoundException ex) {
                 throw new IllegalStateException("Unable to deserialize game state from save data.", ex);
             }
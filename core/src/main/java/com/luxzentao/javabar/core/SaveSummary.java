@@ -0,0 +1,89 @@
+package com.luxzentao.javabar.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The few facts a menu shows about a save, stored in a fixed-size block ahead of the state so they can be read
+ * without deserialising anything. Longer pub names are cut to fit.
+ */
+public record SaveSummary(
+        long savedAtMillis,
+        String pubName,
+        int week,
+        int dayIndex,
+        int nightCount,
+        double cash,
+        double debt,
+        int reputation,
+        int stars,
+        int pubLevel
+) {
+    /** Encoded size; never changes within a format version. */
+    static final int BYTES = 112;
+    private static final int FIXED_BYTES = 8 + 4 * 3 + 8 * 2 + 4 * 3 + 2;
+    private static final int MAX_NAME_BYTES = BYTES - FIXED_BYTES;
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    public static SaveSummary of(GameState state) {
+        return new SaveSummary(System.currentTimeMillis(), state.pubName, Math.max(1, state.weekCount),
+                state.dayIndex, state.nightCount, state.cash, state.totalCreditBalance(), state.reputation,
+                state.starCount, state.pubLevel);
+    }
+
+    /** One line for a slot list, e.g. "The Rose & Crown - Week 5 Tue, night 32 - £1,234.50, 2 stars". */
+    public String describe() {
+        String name = pubName == null || pubName.isBlank() ? "Unnamed pub" : pubName;
+        String day = dayIndex >= 0 && dayIndex < DAYS.length ? " " + DAYS[dayIndex] : "";
+        return name + " - Week " + week + day + ", night " + nightCount
+                + " - " + String.format(Locale.US, "£%,.2f", cash)
+                + (debt > 0.01 ? String.format(Locale.US, " (debt £%,.2f)", debt) : "")
+                + ", " + stars + (stars == 1 ? " star" : " stars");
+    }
+
+    void writeTo(ByteBuffer out) {
+        int start = out.position();
+        out.putLong(savedAtMillis).putInt(week).putInt(dayIndex).putInt(nightCount)
+                .putDouble(cash).putDouble(debt).putInt(reputation).putInt(stars).putInt(pubLevel);
+        byte[] name = encodeName(pubName);
+        out.putShort((short) name.length).put(name);
+        while (out.position() < start + BYTES) out.put((byte) 0);
+    }
+
+    static SaveSummary readFrom(ByteBuffer in) {
+        int start = in.position();
+        long savedAt = in.getLong();
+        int week = in.getInt();
+        int dayIndex = in.getInt();
+        int nightCount = in.getInt();
+        double cash = in.getDouble();
+        double debt = in.getDouble();
+        int reputation = in.getInt();
+        int stars = in.getInt();
+        int pubLevel = in.getInt();
+        int nameLength = Math.min(Math.max(0, in.getShort()), MAX_NAME_BYTES);
+        byte[] name = new byte[nameLength];
+        in.get(name);
+        in.position(start + BYTES);
+        return new SaveSummary(savedAt, new String(name, StandardCharsets.UTF_8), week, dayIndex, nightCount,
+                cash, debt, reputation, stars, pubLevel);
+    }
+
+    private static byte[] encodeName(String name) {
+        if (name == null) return new byte[0];
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_NAME_BYTES) return bytes;
+        // Cut on a character boundary so the stored name still decodes cleanly.
+        int end = 0;
+        for (int i = 0; i < name.length(); ) {
+            int cp = name.codePointAt(i);
+            int next = end + new String(Character.toChars(cp)).getBytes(StandardCharsets.UTF_8).length;
+            if (next > MAX_NAME_BYTES) break;
+            end = next;
+            i += Character.charCount(cp);
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+}
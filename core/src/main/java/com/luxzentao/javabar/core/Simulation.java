@@ -172,7 +172,12 @@ public class Simulation {
     private final AudioManager audioManager;
     private final VIPSystem vipSystem;
     private final LandlordPromptEventSystem landlordPromptEvents;
+    private final GameModifierPipeline modifierPipeline = new GameModifierPipeline();
+    private final MetricsSections metrics = new MetricsSections();
+    private double metricsTrafficMult;
+    private long metricsTrafficVersion = -1;
     private java.util.function.IntConsumer weekStartHook;
+    private java.util.function.IntConsumer nightEndHook;
 
     public Simulation(GameState state, Logger log) {
 
@@ -200,6 +205,7 @@ public class Simulation {
         this.audioManager = new AudioManager();
         this.vipSystem = new VIPSystem();
         this.landlordPromptEvents = new LandlordPromptEventSystem(s);
+        registerMetricsSections();
 
         markReportStartIfMissing();
         s.creditScoreAtWeekStart = s.creditScore;
@@ -226,11 +232,18 @@ public class Simulation {
         this.weekStartHook = weekStartHook;
     }
 
+    /** Called with the night count once closeNight has fully settled, including any week rollover. */
+    public void setNightEndHook(java.util.function.IntConsumer nightEndHook) {
+        this.nightEndHook = nightEndHook;
+    }
+
     public void setMusicVolume(int volume) {
+        metricsChanged(MetricsSections.Section.MUSIC);
         audioManager.setMusicVolume(volume);
     }
 
     public void setChatterVolume(int volume) {
+        metricsChanged(MetricsSections.Section.MUSIC);
         audioManager.setChatterVolume(volume);
     }
 
@@ -258,7 +271,7 @@ public class Simulation {
         s.rack.setSpoilAfterDays(s.spoilDays);
 
         // Security baseline bonus from upgrades (kept as separate field to avoid rewriting SecuritySystem)
-        UpgradeSystem.UpgradeModifierSnapshot upgradeMods = upgrades.buildModifierSnapshot();
+        UpgradeSystem.UpgradeModifierSnapshot upgradeMods = upgrades.modifiers();
         s.upgradeSecurityBonus = upgradeMods.securityBonus();
         s.fohStaffCap = Math.max(1, s.baseStaffCap + s.pubLevelStaffCapBonus + upgradeMods.staffCapBonus());
         s.bouncerCap = Math.max(1, s.baseBouncerCap + s.pubLevelBouncerCapBonus + upgradeMods.bouncerCapBonus());
@@ -462,6 +475,7 @@ public class Simulation {
     }
 
     public boolean confirmPrestige() {
+        metricsChanged();
         if (!isPrestigeAvailable()) return false;
         LegacyBonuses award = prestigeSystem.computePrestigeAward(s, upgrades);
         s.legacy.add(award);
@@ -469,6 +483,7 @@ public class Simulation {
         s.prestigeWeekStart = s.weekCount;
         s.prestigeMilestones.clear();
         s.achievedMilestones.clear();
+        milestones.onAchievedReset();
         resetUpgradeStateForPrestige();
         applyPersistentUpgrades();
         return true;
@@ -517,6 +532,7 @@ public class Simulation {
     }
 
     public LandlordActionResolution resolveLandlordAction(LandlordActionId id) {
+        metricsChanged();
         LandlordActionDef def = LandlordActionCatalog.byId(id);
         if (def == null) return LandlordActionResolution.blocked(null, "Unknown action.");
         LandlordActionAvailability availability = landlordActionAvailability(def);
@@ -740,10 +756,12 @@ public class Simulation {
 
     // ---------- GUI actions ----------
     public void setPriceMultiplier(double m) {
+        metricsChanged(MetricsSections.Section.HUD, MetricsSections.Section.ECONOMY);
         s.priceMultiplier = Math.max(0.50, Math.min(2.50, m));
     }
 
     public boolean setMusicProfile(MusicProfileType profile) {
+        metricsChanged(MetricsSections.Section.MUSIC);
         if (profile == null) return false;
         if (s.currentMusicProfile == profile) return false;
         TimePhase phase = s.getCurrentPhase();
@@ -798,6 +816,7 @@ public class Simulation {
     }
 
     public void recomputeActivityAvailability() {
+        metricsChanged(MetricsSections.Section.OPERATIONS, MetricsSections.Section.PROGRESSION);
         milestones.recomputeActivityAvailability();
         milestones.recomputeUpgradeAvailability();
     }
@@ -817,6 +836,7 @@ public class Simulation {
     }
 
     public void toggleHappyHour(boolean on) {
+        metricsChanged();
         if (!s.nightOpen && on) { log.neg(" Happy Hour can only be toggled while the pub is OPEN."); return; }
         s.happyHour = on;
         if (on) {
@@ -827,6 +847,7 @@ public class Simulation {
     }
 
     public void startActivity(PubActivity a) {
+        metricsChanged();
         if (s.nightOpen) { log.neg("Activities can only be scheduled between nights."); return; }
         recomputeActivityAvailability();
         MilestoneSystem.ActivityAvailability availability = milestones.getActivityAvailability(a);
@@ -856,6 +877,7 @@ public class Simulation {
     public void buyFromSupplier(Wine w) { buyFromSupplier(w, 1); }
 
     public void buyFromSupplier(Wine w, int qty) {
+        metricsChanged();
         if (s.rack.count() >= s.rack.getCapacity()) { log.neg("Inventory full."); return; }
 
         qty = Math.max(1, qty);
@@ -923,6 +945,7 @@ public class Simulation {
     }
 
     public void buyFoodFromSupplier(Food food, int qty) {
+        metricsChanged();
         if (!s.kitchenUnlocked) { log.neg("Kitchen not unlocked."); return; }
         if (s.foodRack.count() >= s.foodRack.getCapacity()) { log.neg("Kitchen inventory full."); return; }
 
@@ -973,6 +996,7 @@ public class Simulation {
     }
 
     public void buyUpgrade(PubUpgrade up) {
+        metricsChanged();
         if (s.nightOpen) { log.neg("Upgrades can only be bought between nights."); return; }
         if (s.ownedUpgrades.contains(up)) { log.info("Already owned."); return; }
         if (isUpgradeInstalling(up)) { log.info("Upgrade already installing."); return; }
@@ -1015,6 +1039,7 @@ public class Simulation {
     }
 
     public void hireStaff(Staff.Type t) {
+        metricsChanged();
         if (s.nightOpen) { log.neg("Hire staff between nights."); return; }
         Staff.Type requestedType = t;
         t = applyDebtSpiralHiringShift(t);
@@ -1135,6 +1160,7 @@ public class Simulation {
 
 
     public void fireStaffAt(int index) {
+        metricsChanged();
         if (s.nightOpen) { log.neg("Fire staff between nights."); return; }
         if (index < 0 || index >= s.fohStaff.size()) return;
 
@@ -1154,6 +1180,7 @@ public class Simulation {
     }
 
     public void fireBohStaffAt(int index) {
+        metricsChanged();
         if (s.nightOpen) { log.neg("Fire staff between nights."); return; }
         if (index < 0 || index >= s.bohStaff.size()) return;
 
@@ -1173,6 +1200,7 @@ public class Simulation {
     }
 
     public void fireManagerAt(int index) {
+        metricsChanged();
         if (s.nightOpen) { log.neg("Fire manager between nights."); return; }
         if (index < 0 || index >= s.generalManagers.size()) return;
 
@@ -1191,8 +1219,8 @@ public class Simulation {
         eco.applyRep(-2, "Manager fired (panic)");
     }
 
-    public void hireBouncerTonight() { security.hireBouncerTonight(); }
-    public void upgradeSecurity() { security.upgradeBaseSecurity(); }
+    public void hireBouncerTonight() { metricsChanged(); security.hireBouncerTonight(); }
+    public void upgradeSecurity() { metricsChanged(); security.upgradeBaseSecurity(); }
     public double peekSecurityUpgradeCost() { return security.nextUpgradeCost(); }
 
     public boolean canBuyUpgrade(PubUpgrade up) { return milestones.getUpgradeAvailability(up, s.cash).unlocked(); }
@@ -1202,6 +1230,7 @@ public class Simulation {
     // Credit lines + loan shark
     // --------------------
     public void openCreditLine(Bank bank) {
+        metricsChanged();
         if (bank == null) return;
         if (s.bankruptcyLockWeeksRemaining > 0) {
             log.critical("Bankruptcy lock active: banks refuse credit for " + s.bankruptcyLockWeeksRemaining + " more week(s).");
@@ -1235,6 +1264,7 @@ public class Simulation {
     }
 
     public void openSharkLine() {
+        metricsChanged();
         if (s.loanShark.isOpen()) {
             log.info("Loan shark already engaged.");
             return;
@@ -1256,6 +1286,7 @@ public class Simulation {
     }
 
     public void repayCreditLineInFull(String lineId) {
+        metricsChanged();
         CreditLine line = s.creditLines.getLineById(lineId);
         if (line == null) { log.neg("Credit line not found."); return; }
         s.creditLines.repayInFull(s, line, log);
@@ -1263,6 +1294,7 @@ public class Simulation {
 
     // ---------- Night loop ----------
     public void openNight() {
+        metricsChanged();
         if (s.nightOpen) { log.info("Pub already open."); return; }
 
         // upgrades can change caps / security etc
@@ -1270,6 +1302,7 @@ public class Simulation {
 
         s.nightOpen = true;
         s.roundInNight = 0;
+        s.journal().at(s.dayCounter, 0);
         s.nightCount++;
         s.lastMusicChangePhase = null;
         s.teamFatigue = Math.max(0.0, s.teamFatigue * 0.15);
@@ -1370,10 +1403,10 @@ public class Simulation {
             vipSystem.ensureRosterFromNames(currentPunterNames(), s.random);
         }
         audioManager.setPubOpen(true);
-        audioManager.updateChatterOccupancy(s.nightPunters.size(), s.maxBarOccupancy);
+        audioManager.updateChatterOccupancy(s.punterPool.size(), s.maxBarOccupancy);
 
         log.header(" " + s.pubName + " OPEN - " + s.dayName() + " | Week " + s.weekCount);
-        log.info("Punters in bar: " + s.nightPunters.size() + "/" + s.maxBarOccupancy);
+        log.info("Punters in bar: " + s.punterPool.size() + "/" + s.maxBarOccupancy);
         log.info("Inventory: " + s.rack.count() + "/" + s.rack.getCapacity());
         log.popup("Supplier deal", "Locked for this night: " + supplierSystem.dealLabel(), "");
         if (s.tempServeBonusTonight > 0) {
@@ -1382,6 +1415,7 @@ public class Simulation {
     }
 
     public void setRoomPrice(double price) {
+        metricsChanged();
         double nextPrice = Math.max(0.0, price);
         if (Math.abs(s.roomPrice - nextPrice) < 0.0001) return;
         double previousPrice = s.roomPrice;
@@ -1413,6 +1447,7 @@ public class Simulation {
     }
 
     public void setSecurityPolicy(SecurityPolicy policy) {
+        metricsChanged();
         if (policy == null) return;
         if (s.securityPolicy == policy) return;
         s.securityPolicy = policy;
@@ -1421,6 +1456,7 @@ public class Simulation {
     }
 
     public void hireMarshall() {
+        metricsChanged();
         if (!s.isMarshallUnlocked()) {
             log.neg("Marshalls unlock via the Marshalls upgrade.");
             return;
@@ -1519,6 +1555,7 @@ public class Simulation {
     }
 
     public SecurityTaskResolution resolveSecurityTask(SecurityTask task) {
+        metricsChanged();
         SecurityTaskAvailability availability = securityTaskAvailability(task);
         if (!availability.canUse()) {
             log.neg("Security task unavailable: " + availability.reason());
@@ -1561,8 +1598,18 @@ public class Simulation {
     }
 
     public void playRound() {
+        metricsChanged();
         if (!s.nightOpen) return;
 
+        milestones.beginRound();
+        try {
+            runRound();
+        } finally {
+            milestones.endRound();
+        }
+    }
+
+    private void runRound() {
         s.roundInNight++;
         tickLandlordActionCooldowns();
         tickSecurityTaskCooldowns();
@@ -1574,17 +1621,17 @@ public class Simulation {
         s.foodDisappointmentThisRound = 0;
         s.foodDisappointmentPopupShown = false;
         s.staffIncidentThisRound = false;
-        log.header("- Round " + s.roundInNight + "/" + s.getClosingRound() + " -");
+        EventJournal journal = s.journal();
+        journal.at(s.dayCounter, s.roundInNight);
+        log.record(journal, journal.round(s.roundInNight, s.getClosingRound()));
         s.roundItemSales.clear();
 
         processSupplierDeliveries();
         processFoodOrders();
-        for (Punter p : s.nightPunters) {
-            p.tickFoodCooldown();
-        }
+        s.punterPool.tickFoodCooldowns();
 
         // 1b) Operating costs per round (tiny now, matters later)
-        double opCost = staff.roundOperatingCost(s.nightPunters.size());
+        double opCost = staff.roundOperatingCost(s.punterPool.size());
         if (!eco.tryPay(opCost, TransactionType.OTHER, "Operating costs (this round)", CostTag.OPERATING)) return;
         s.nightRoundCostsTotal += opCost;
 
@@ -1658,10 +1705,10 @@ public class Simulation {
         int added = arrivals > 0 ? punters.addArrivals(arrivals) : 0;
         int leftNaturally = punters.applyNaturalDepartures();
         if (leftNaturally > 0) {
-            log.info(" Some punters headed off — nothing wrong, just time to go. (" + leftNaturally + ")");
+            if (log.isEnabled(Logger.Level.INFO)) log.info(" Some punters headed off — nothing wrong, just time to go. (" + leftNaturally + ")");
         }
         if (added > 0) {
-            log.info(" " + added + " punter(s) wandered in.");
+            if (log.isEnabled(Logger.Level.INFO)) log.info(" " + added + " punter(s) wandered in.");
         }
         s.lastNaturalDepartures = leftNaturally;
         s.nightNaturalDepartures += leftNaturally;
@@ -1674,8 +1721,7 @@ public class Simulation {
         int eventsThisRound = Math.max(0, s.nightEvents - eventsBefore);
 
         // 7) Service round
-        List<Punter> bar = punters.inBarShuffled();
-        int barCount = bar.size();
+        int barCount = punters.shuffleInBar();
 
         int demand = Math.max(1, (int)Math.round(barCount * trafficMult));
         demand = Math.min(demand, barCount);
@@ -1689,14 +1735,16 @@ public class Simulation {
         s.lastRoundWorkload = workloadProfile.workload();
         s.lastRoundWorkloadPenalty = workloadProfile.penalty();
 
-        if (demand > serveCap) log.neg(" Overwhelmed: demand " + demand + " > serve cap " + serveCap);
+        if (demand > serveCap && log.isEnabled(Logger.Level.NEG)) {
+            log.neg(" Overwhelmed: demand " + demand + " > serve cap " + serveCap);
+        }
 
         for (int i = 0; i < servedCount; i++) {
-            punters.handlePunter(bar.get(i), effectiveMult, sec, riskyWeekend, tipRate);
+            punters.handlePunter(punters.serviceSlot(i), effectiveMult, sec, riskyWeekend, tipRate);
         }
 
         if (unserved > 0) {
-            punters.handleUnserved(bar.subList(servedCount, servedCount + unserved), effectiveMult);
+            punters.handleUnserved(servedCount, servedCount + unserved, effectiveMult);
             s.nightUnserved += unserved;
         }
 
@@ -1704,21 +1752,23 @@ public class Simulation {
         finalizeRoundSales();
 
         int removed = punters.cleanupDeparted();
-        audioManager.updateChatterOccupancy(s.nightPunters.size(), s.maxBarOccupancy);
-        if (removed > 0) log.info("Bar cleared: -" + removed + " (now " + s.nightPunters.size() + "/" + s.maxBarOccupancy + ")");
+        audioManager.updateChatterOccupancy(s.punterPool.size(), s.maxBarOccupancy);
+        if (removed > 0 && log.isEnabled(Logger.Level.INFO)) log.info("Bar cleared: -" + removed + " (now " + s.punterPool.size() + "/" + s.maxBarOccupancy + ")");
         s.lastTrafficIn = added;
         s.lastTrafficOut = removed;
 
-        log.info("Round summary: bar " + barCount
-                + " | demand " + demand
-                + " | served " + servedCount
-                + " | unserved " + unserved
-                + " | staff cap " + serveCap
-                + " | traffic x" + String.format("%.2f", trafficMult)
-                + " | price x" + String.format("%.2f", effectiveMult)
-                + " | security " + sec);
-        log.info("Drivers -> " + s.lastServiceDrivers);
-        log.info("Drivers -> " + s.lastStabilityDrivers);
+        if (log.isEnabled(Logger.Level.INFO)) {
+            log.info("Round summary: bar " + barCount
+                    + " | demand " + demand
+                    + " | served " + servedCount
+                    + " | unserved " + unserved
+                    + " | staff cap " + serveCap
+                    + " | traffic x" + String.format("%.2f", trafficMult)
+                    + " | price x" + String.format("%.2f", effectiveMult)
+                    + " | security " + sec);
+            log.info("Drivers -> " + s.lastServiceDrivers);
+            log.info("Drivers -> " + s.lastStabilityDrivers);
+        }
         int fightsThisRound = Math.max(0, s.nightFights - fightsBefore);
         int refundsThisRound = Math.max(0, s.nightRefunds - refundsBefore);
         updateObservationLine(barCount, unserved, fightsThisRound, eventsThisRound, refundsThisRound, modifiers);
@@ -1789,7 +1839,10 @@ public class Simulation {
     }
 
     public void closeNight(String reason) {
+        metricsChanged();
         if (!s.nightOpen) return;
+        // Settle rep-driven milestone checks from the round before night-end state starts moving.
+        milestones.endRound();
 
         //  Early close penalty (strategy pressure)
         boolean early = s.roundInNight < s.getClosingRound();
@@ -1947,6 +2000,7 @@ public class Simulation {
         milestones.onNightEnd();
         recomputeActivityAvailability();
         audioManager.onNightEnd();
+        if (nightEndHook != null) nightEndHook.accept(s.nightCount);
     }
 
     void runInnNightly() {
@@ -2408,6 +2462,7 @@ public class Simulation {
     // ==================== END INN EVENTS SYSTEM ====================
 
     public void installUpgradeForTest(PubUpgrade up) {
+        metricsChanged();
         installUpgradeNow(up, false);
     }
 
@@ -3276,6 +3331,7 @@ public class Simulation {
     public record SupplierPaymentResult(boolean success, String message) {}
 
     public SupplierPaymentResult paySupplierInvoice(SupplierAccount accountType, double amount, String sourceId) {
+        metricsChanged();
         if (accountType == null) return new SupplierPaymentResult(false, "No supplier selected.");
         SupplierTradeCredit account = accountType == SupplierAccount.FOOD
                 ? s.supplierFoodCredit
@@ -3321,6 +3377,7 @@ public class Simulation {
     }
 
     public void applyPaydayPayments(List<PaydayBill> bills) {
+        metricsChanged();
         if (bills == null || bills.isEmpty()) {
             s.paydayReady = false;
             milestones.onPaydayResolved();
@@ -3598,6 +3655,7 @@ public class Simulation {
     }
 
     public void declareBankruptcy() {
+        metricsChanged();
         java.util.List<String> removedUpgrades = new java.util.ArrayList<>();
         for (PubUpgrade up : s.ownedUpgrades) {
             removedUpgrades.add(up.getLabel());
@@ -3784,6 +3842,7 @@ public class Simulation {
      * Tier E: >80-100% (Heroic) - Morale boost, chaos reduction, rep bonus
      */
     public void applyTipSplit() {
+        metricsChanged();
         if (s.tipsPotWeek <= 0) {
             s.tipsPotWeek = 0.0;
             return;
@@ -3853,20 +3912,81 @@ public class Simulation {
         s.tipsPotWeek = 0.0;
     }
 
+    /**
+     * Report text for every panel, rebuilt from scratch. The HUD should read {@link #metrics()} instead, which only
+     * rebuilds what changed; this stays for callers that edit {@link GameState} directly and so can't rely on the
+     * dirty marks.
+     */
     public MetricsSnapshot buildMetricsSnapshot() {
+        metrics.markAllDirty();
+        return metrics.snapshot();
+    }
+
+    /** Cached, per-section report text; sections are rebuilt lazily after the actions below mark them dirty. */
+    public MetricsSections metrics() {
+        return metrics;
+    }
+
+    private void metricsChanged() {
+        metrics.markAllDirty();
+    }
+
+    private void metricsChanged(MetricsSections.Section... sections) {
+        metrics.markDirty(sections);
+    }
+
+    private void registerMetricsSections() {
+        metrics.register(MetricsSections.Section.HUD, this::buildHudSection);
+        metrics.register(MetricsSections.Section.ECONOMY, this::buildEconomySection);
+        metrics.register(MetricsSections.Section.OPERATIONS, this::buildOperationsSection);
+        metrics.register(MetricsSections.Section.STAFF,
+                () -> new MetricsSections.Staff(buildStaffTabSummary(staff.totalServeCapacity()), buildStaffDetailText()));
+        metrics.register(MetricsSections.Section.RISK, () -> {
+            int sec = security.effectiveSecurity();
+            return new MetricsSections.Risk(buildRiskSummaryText(sec), buildSecurityDetailText(sec));
+        });
+        metrics.register(MetricsSections.Section.REPUTATION,
+                () -> new MetricsSections.Reputation(buildReputationSummaryText(), buildRumorTabText()));
+        metrics.register(MetricsSections.Section.TRAFFIC, this::buildTrafficPuntersText);
+        metrics.register(MetricsSections.Section.PROGRESSION, this::buildProgressionDetailText);
+        metrics.register(MetricsSections.Section.INN, this::buildInnDetailText);
+        metrics.register(MetricsSections.Section.PRESTIGE, this::buildPrestigeText);
+        metrics.register(MetricsSections.Section.MUSIC, this::buildMusicDetailText);
+    }
+
+    /**
+     * The base multiplier rolls weekday variance off the game RNG, so sections built against the same state share
+     * one roll instead of each drawing their own (a full rebuild draws exactly as the single-pass builder did).
+     */
+    private double combinedTrafficMultiplier() {
+        if (metricsTrafficVersion != metrics.version()) {
+            metricsTrafficMult = baseTrafficMultiplier() * identityTrafficMultiplier() * rumorTrafficMultiplier()
+                    * activities.trafficMultiplier() * securityPolicyTrafficMultiplier()
+                    * securityTaskTrafficMultiplier()
+                    * (1.0 + s.landlordTrafficBonusPct)
+                    * rivalTrafficMultiplier();
+            metricsTrafficVersion = metrics.version();
+        }
+        return metricsTrafficMult;
+    }
+
+    private double creditBalanceWithShark() {
+        return s.totalCreditBalance()
+                + (s.loanShark.isOpen() ? s.loanShark.getBalance() : 0.0);
+    }
+
+    private String identityLine() {
+        return s.pubIdentity.name().replace('_', ' ') + " " + s.identityDrift;
+    }
+
+    private MetricsSections.Hud buildHudSection() {
         int serveCap = staff.totalServeCapacity();
         int sec = security.effectiveSecurity();
         String mood = repMoodLabel();
-        String identityLine = s.pubIdentity.name().replace('_', ' ') + " " + s.identityDrift;
+        String identityLine = identityLine();
         String chaosLabel = chaosMoodLabel();
-        double trafficMult = baseTrafficMultiplier() * identityTrafficMultiplier() * rumorTrafficMultiplier()
-                * activities.trafficMultiplier() * securityPolicyTrafficMultiplier()
-                * securityTaskTrafficMultiplier()
-                * (1.0 + s.landlordTrafficBonusPct)
-                * rivalTrafficMultiplier();
-        double creditBalance = s.totalCreditBalance()
-                + (s.loanShark.isOpen() ? s.loanShark.getBalance() : 0.0);
-        double creditWeeklyDue = s.totalCreditWeeklyPaymentDue();
+        double trafficMult = combinedTrafficMultiplier();
+        double creditBalance = creditBalanceWithShark();
 
         java.util.List<String> overview = new java.util.ArrayList<>();
         overview.add("Cash: GBP " + fmt2(s.cash) + " | Debt: GBP " + fmt2(creditBalance)
@@ -3886,6 +4006,27 @@ public class Simulation {
         overview.add("Active rumors: " + s.activeRumors.size());
         overview.add("Business status: " + (s.businessCollapsed ? "Collapsed (Recovery Possible)" : "Operating"));
 
+        return new MetricsSections.Hud(
+                "Cash: GBP " + fmt2(s.cash),
+                "Debt: GBP " + fmt2(creditBalance),
+                "Reputation: " + s.reputation + " (" + mood + ")",
+                " " + s.pubName + " (Lv " + s.pubLevel + ")",
+                "Weekly Costs (Due at Payday): GBP " + fmt2(weeklyMinDueTotal()),
+                "Week " + s.weekCount + "  " + s.dayName() + " | Service " + s.nightCount,
+                s.nightOpen
+                        ? ("Service OPEN  Round " + s.roundInNight + "/" + s.getClosingRound()
+                        + " | Bar " + s.punterPool.size() + "/" + s.maxBarOccupancy)
+                        : "Service CLOSED  Ready",
+                "Security: " + sec,
+                "Staff: " + s.staff().summaryLine() + " | Serve cap " + serveCap,
+                "Report: " + s.reports().summaryLine(),
+                "Can serve (per round): " + serveCap,
+                overview);
+    }
+
+    private MetricsSections.Economy buildEconomySection() {
+        double creditBalance = creditBalanceWithShark();
+        double creditWeeklyDue = s.totalCreditWeeklyPaymentDue();
         String economy = "Revenue (week): GBP " + fmt2(s.weekRevenue)
                 + "\nCosts (week): GBP " + fmt2(s.weekCosts)
                 + "\nProfit (week): GBP " + fmt2(s.weekRevenue - s.weekCosts)
@@ -3919,6 +4060,14 @@ public class Simulation {
                 + "\nPrice multiplier avg: " + fmt2(avgPriceMultiplier())
                 + "\nPrice volatility: " + fmt2(s.weekPriceMultiplierAbsDelta);
 
+        return new MetricsSections.Economy(economy, buildFinanceBankingText(creditBalance, creditWeeklyDue),
+                buildLoanSummaryText(), buildPaydayDetailText(), buildSuppliersDetailText());
+    }
+
+    private MetricsSections.Operations buildOperationsSection() {
+        int serveCap = staff.totalServeCapacity();
+        String chaosLabel = chaosMoodLabel();
+        double trafficMult = combinedTrafficMultiplier();
         String operations = "Service: " + (s.nightOpen ? "OPEN" : "CLOSED")
                 + "\nRound: " + s.roundInNight + "/" + s.getClosingRound()
                 + "\nServe cap: " + serveCap
@@ -3933,9 +4082,18 @@ public class Simulation {
                 + "\n\nActivity info:\n" + buildUnlockedActivityInfoText()
                 + "\n\nMilestone rewards:\n" + buildMilestoneRewardSummaryText();
 
-        String staffText = buildStaffTabSummary(serveCap);
+        String inventory = "Wine: " + s.rack.count() + "/" + s.rack.getCapacity()
+                + "\nFood: " + (s.kitchenUnlocked ? (s.foodRack.count() + "/" + s.foodRack.getCapacity()) : "Locked")
+                + "\nFood spoiled last night: " + s.foodSpoiledLastNight;
+
+        String logSummary = "Service events: " + s.nightEvents
+                + "\nBetween-night: " + s.lastBetweenNightEventSummary;
+
+        return new MetricsSections.Operations(operations, inventory, logSummary);
+    }
 
-        String risk = "Security: " + sec
+    private String buildRiskSummaryText(int sec) {
+        return "Security: " + sec
                 + "\nPolicy: " + (s.securityPolicy != null ? s.securityPolicy.getLabel() : "Balanced")
                 + "\nBouncers hired: " + s.bouncersHiredTonight + "/" + s.bouncerCap
                 + "\nFights (week): " + s.fightsThisWeek
@@ -3943,15 +4101,20 @@ public class Simulation {
                 + "\nUnserved (week): " + s.unservedThisWeek
                 + "\nChaos: " + String.format("%.1f", s.chaos)
                 + "\nActive risk rumors: " + riskRumorCount();
+    }
 
-        String reputation = "Reputation: " + s.reputation + " (" + mood + ")"
+    private String buildReputationSummaryText() {
+        String mood = repMoodLabel();
+        String identityLine = identityLine();
+        return "Reputation: " + s.reputation + " (" + mood + ")"
                 + "\nIdentity: " + identityLine
                 + "\nWeekly narrative: " + (s.weeklyIdentityFlavorText == null ? "" : s.weeklyIdentityFlavorText)
                 + "\nDrift summary: " + (s.identityDriftSummary == null ? "" : s.identityDriftSummary);
+    }
 
-        String rumors = buildRumorTabText();
-
-        String trafficPunters = "Traffic multiplier: x" + fmt2(trafficMult)
+    private String buildTrafficPuntersText() {
+        double trafficMult = combinedTrafficMultiplier();
+        return "Traffic multiplier: x" + fmt2(trafficMult)
                 + "\nBase traffic: x" + fmt2(baseTrafficMultiplier())
                 + "\nIdentity traffic: x" + fmt2(identityTrafficMultiplier())
                 + "\nRumor traffic: x" + fmt2(rumorTrafficMultiplier())
@@ -3962,66 +4125,11 @@ public class Simulation {
                 + "\nRival traffic: x" + fmt2(s.rivalDemandTrafficMultiplier)
                 + "\n\nSeasonal Effects:\n" + buildSeasonalEffectsText()
                 + "\n\nVIP Status:\n" + buildVipStatusText()
-                + "\n\nPunters in bar: " + s.nightPunters.size() + "/" + s.maxBarOccupancy
+                + "\n\nPunters in bar: " + s.punterPool.size() + "/" + s.maxBarOccupancy
                 + "\nNatural departures (night): " + s.nightNaturalDepartures
                 + "\nTier mix: " + punterTierBreakdown();
-
-        String inventory = "Wine: " + s.rack.count() + "/" + s.rack.getCapacity()
-                + "\nFood: " + (s.kitchenUnlocked ? (s.foodRack.count() + "/" + s.foodRack.getCapacity()) : "Locked")
-                + "\nFood spoiled last night: " + s.foodSpoiledLastNight;
-
-        String loans = buildLoanSummaryText();
-
-        String financeBanking = buildFinanceBankingText(creditBalance, creditWeeklyDue);
-        String payday = buildPaydayDetailText();
-        String suppliers = buildSuppliersDetailText();
-        String progression = buildProgressionDetailText();
-        String securityDetail = buildSecurityDetailText(sec);
-        String staffDetail = buildStaffDetailText();
-        String innDetail = buildInnDetailText();
-        String prestigeDetail = buildPrestigeText();
-        String musicDetail = buildMusicDetailText();
-
-        String logSummary = "Service events: " + s.nightEvents
-                + "\nBetween-night: " + s.lastBetweenNightEventSummary;
-
-        return new MetricsSnapshot(
-                "Cash: GBP " + fmt2(s.cash),
-                "Debt: GBP " + fmt2(creditBalance),
-                "Reputation: " + s.reputation + " (" + mood + ")",
-                " " + s.pubName + " (Lv " + s.pubLevel + ")",
-                "Weekly Costs (Due at Payday): GBP " + fmt2(weeklyMinDueTotal()),
-                "Week " + s.weekCount + "  " + s.dayName() + " | Service " + s.nightCount,
-                s.nightOpen
-                        ? ("Service OPEN  Round " + s.roundInNight + "/" + s.getClosingRound()
-                        + " | Bar " + s.nightPunters.size() + "/" + s.maxBarOccupancy)
-                        : "Service CLOSED  Ready",
-                "Security: " + sec,
-                "Staff: " + s.staff().summaryLine() + " | Serve cap " + serveCap,
-                "Report: " + s.reports().summaryLine(),
-                "Can serve (per round): " + serveCap,
-                overview,
-                economy,
-                operations,
-                staffText,
-                risk,
-                reputation,
-                rumors,
-                trafficPunters,
-                inventory,
-                loans,
-                logSummary,
-                financeBanking,
-                payday,
-                suppliers,
-                progression,
-                securityDetail,
-                staffDetail,
-                innDetail,
-                prestigeDetail,
-                musicDetail
-        );
     }
+
     private String buildMusicDetailText() {
         TimePhase phase = s.getCurrentPhase();
         MusicEffects fx = musicSystem.computeEffects(s.currentMusicProfile, phase);
@@ -5451,12 +5559,7 @@ public class Simulation {
                                   int fightsThisRound,
                                   int refundsThisRound,
                                   int eventsThisRound) {
-        double punterSum = 0.0;
-        for (Punter p : s.nightPunters) {
-            if (!p.hasLeftBar() && !p.isBanned()) {
-                punterSum += p.getChaosContribution();
-            }
-        }
+        double punterSum = s.punterPool.activeChaosSum();
         double unservedPressure = unserved * 1.2;
         double fightPressure = fightsThisRound * 4.0;
         double refundPressure = refundsThisRound * 1.5;
@@ -5690,7 +5793,7 @@ public class Simulation {
     }
 
     private GameModifierSnapshot buildModifierSnapshot() {
-        return GameModifierSnapshot.from(s);
+        return modifierPipeline.snapshot(s);
     }
 
     private void debugModifierSnapshot(String context, GameModifierSnapshot mods) {
@@ -5781,21 +5884,25 @@ public class Simulation {
 
     private List<String> currentPunterNames() {
         List<String> names = new java.util.ArrayList<>();
-        for (Punter punter : s.nightPunters) {
-            if (punter != null && punter.getName() != null && !punter.getName().isBlank()) {
-                names.add(punter.getName());
+        PunterPool pool = s.punterPool;
+        for (int i = 0; i < pool.size(); i++) {
+            String name = pool.name(pool.slotAt(i));
+            if (name != null && !name.isBlank()) {
+                names.add(name);
             }
         }
         return names;
     }
 
     public String vipInHouseHudLine() {
-        if (!FeatureFlags.FEATURE_VIPS || s.nightPunters == null || s.nightPunters.isEmpty()) return "VIP: none in-house";
+        if (!FeatureFlags.FEATURE_VIPS || s.punterPool == null || s.punterPool.isEmpty()) return "VIP: none in-house";
 
         java.util.Set<String> present = new java.util.LinkedHashSet<>();
-        for (Punter punter : s.nightPunters) {
-            if (punter != null && punter.getName() != null && !punter.getName().isBlank()) {
-                present.add(punter.getName().trim());
+        PunterPool pool = s.punterPool;
+        for (int i = 0; i < pool.size(); i++) {
+            String name = pool.name(pool.slotAt(i));
+            if (name != null && !name.isBlank()) {
+                present.add(name.trim());
             }
         }
         if (present.isEmpty()) return "VIP: none in-house";
@@ -5883,14 +5990,8 @@ public class Simulation {
     }
 
     private String chaosBreakdownLine() {
-        double punterSum = 0.0;
-        int activePunters = 0;
-        for (Punter p : s.nightPunters) {
-            if (!p.hasLeftBar() && !p.isBanned()) {
-                punterSum += p.getChaosContribution();
-                activePunters++;
-            }
-        }
+        double punterSum = s.punterPool.activeChaosSum();
+        int activePunters = s.punterPool.activeCount();
         double moralePressure = Math.max(0.0, 60.0 - s.teamMorale) / 6.0;
         double repVolatility = Math.min(10.0, s.weeklyRepDeltaAbs * 0.15);
         double occupancyRatio = Math.max(0.0, (double) activePunters / Math.max(1, s.maxBarOccupancy));
@@ -5960,19 +6061,11 @@ public class Simulation {
     }
 
     private String punterTierBreakdown() {
-        int lowlife = 0;
-        int regular = 0;
-        int decent = 0;
-        int big = 0;
-        for (Punter p : s.nightPunters) {
-            if (p.hasLeftBar() || p.isBanned()) continue;
-            switch (p.getTier()) {
-                case LOWLIFE -> lowlife++;
-                case REGULAR -> regular++;
-                case DECENT -> decent++;
-                case BIG_SPENDER -> big++;
-            }
-        }
+        PunterPool pool = s.punterPool;
+        int lowlife = pool.activeCount(Punter.Tier.LOWLIFE);
+        int regular = pool.activeCount(Punter.Tier.REGULAR);
+        int decent = pool.activeCount(Punter.Tier.DECENT);
+        int big = pool.activeCount(Punter.Tier.BIG_SPENDER);
         return "Lowlife " + lowlife + " | Regular " + regular + " | Decent " + decent + " | Big " + big;
     }
 
@@ -6063,7 +6156,7 @@ public class Simulation {
     }
 
     private int rollArrivals(double trafficMult, boolean weekend) {
-        int capLeft = Math.max(0, s.maxBarOccupancy - s.nightPunters.size());
+        int capLeft = Math.max(0, s.maxBarOccupancy - s.punterPool.size());
         if (capLeft <= 0) return 0;
 
         double expect = expectedArrivals(trafficMult, weekend);
@@ -6155,7 +6248,10 @@ public class Simulation {
                     s.recordRefund(refund);
                     s.nightRefunds++;
                     eco.applyRep(-1, "Food refund");
-                    log.popup("Food refund", "<b>" + order.food().getName() + "</b> was sent back.", "Cash -" + String.format("%.2f", refund));
+                    s.journal().refund(order.food().getName(), refund);
+                    if (log.isEnabled(Logger.Level.POPUP)) {
+                        log.popup("Food refund", "<b>" + order.food().getName() + "</b> was sent back.", "Cash -" + String.format("%.2f", refund));
+                    }
                 }
             }
             s.pendingFoodOrders.remove(i);
@@ -6168,6 +6264,7 @@ public class Simulation {
                 PendingSupplierDelivery delivery = s.pendingSupplierDeliveries.get(i);
                 if (delivery.deliverRound() > s.roundInNight) continue;
                 int added = s.rack.addBottles(delivery.wine(), delivery.quantity(), s.absDayIndex());
+                s.journal().delivery(delivery.wine().getName(), delivery.quantity());
                 log.popup(" Supplier delivery", delivery.quantity() + "x " + delivery.wine().getName() + " arrived.", "");
                 s.pendingSupplierDeliveries.remove(i);
                 if (added < delivery.quantity()) {
@@ -6181,6 +6278,7 @@ public class Simulation {
                 PendingFoodDelivery delivery = s.pendingFoodDeliveries.get(i);
                 if (delivery.deliverRound() > s.roundInNight) continue;
                 int added = s.foodRack.addMeals(delivery.food(), delivery.quantity(), s.absDayIndex());
+                s.journal().delivery(delivery.food().getName(), delivery.quantity());
                 log.popup(" Food delivery", delivery.quantity() + "x " + delivery.food().getName() + " arrived.", "");
                 s.pendingFoodDeliveries.remove(i);
                 if (added < delivery.quantity()) {
@@ -6220,6 +6318,7 @@ public class Simulation {
      * Tips are capped at 25% of gross sales to prevent economic imbalance.
      */
     public void calculateTipsTonight() {
+        metricsChanged();
         if (s.nightRevenue <= 0) {
             s.tipsEarnedTonight = 0.0;
             return;
@@ -6346,6 +6445,7 @@ public class Simulation {
      * Returns null if no event should spawn.
      */
     public LandlordPromptEventDef checkLandlordPromptEvent() {
+        metricsChanged();
         return landlordPromptEvents.maybeSpawnEvent();
     }
 
@@ -6353,6 +6453,7 @@ public class Simulation {
      * Apply the effects of a landlord prompt event resolution.
      */
     public void applyLandlordPromptEventEffects(LandlordPromptEffectPackage effects) {
+        metricsChanged();
         landlordPromptEvents.applyEffects(effects, eco, log);
     }
 
@@ -6360,6 +6461,7 @@ public class Simulation {
      * Record that a landlord prompt event occurred.
      */
     public void recordLandlordPromptEventOccurred() {
+        metricsChanged();
         landlordPromptEvents.recordEventOccurred();
     }
 
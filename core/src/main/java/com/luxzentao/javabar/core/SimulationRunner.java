@@ -0,0 +1,188 @@
+package com.luxzentao.javabar.core;
+
+/**
+ * Headless fast-forward driver. Runs whole weeks of nights, paydays and week ends back to back with
+ * no UI, delegating the player's between-night decisions to a {@link Policy}.
+ *
+ * Seed {@code state.random} before calling {@link #run} for reproducible sweeps.
+ */
+public final class SimulationRunner {
+
+    private static final int NIGHTS_PER_WEEK = 7;
+    // Guard against a night that never reaches closing time (should not happen, but a sweep must not hang).
+    private static final int MAX_ROUNDS_PER_NIGHT = 200;
+
+    /** Player decisions taken between nights. Each hook runs while the pub is closed. */
+    public interface Policy {
+        default void restock(Simulation sim, GameState s) {}
+        default void hire(Simulation sim, GameState s) {}
+        /** Checked before each round; returning true calls last orders early, like the Close Night button. */
+        default boolean closeEarly(Simulation sim, GameState s) { return false; }
+        /** Called once payday bills are ready. Bills arrive pre-selected at their minimum due. */
+        default void payBills(Simulation sim, GameState s) {
+            sim.applyPaydayPayments();
+            sim.applyTipSplit();
+        }
+
+        /** Pays minimums and otherwise leaves the pub alone. */
+        static Policy passive() {
+            return new Policy() {};
+        }
+
+        /**
+         * Keeps the rack topped up with the cheapest wines and closes once it runs dry. Always has at least one
+         * server on, hiring further servers up to the front-of-house cap only while cash is at least £300, and
+         * pays bills in full.
+         */
+        static Policy steady() {
+            return new SteadyPolicy();
+        }
+    }
+
+    public record Result(
+            int weeksSimulated,
+            int nightsSimulated,
+            int roundsSimulated,
+            double finalCash,
+            double finalDebt,
+            int finalReputation,
+            double totalRevenue,
+            double totalCosts,
+            int totalSales,
+            int totalUnserved,
+            int totalFights,
+            int milestonesAchieved,
+            int pubLevel,
+            boolean stoppedEarly,
+            long elapsedNanos
+    ) {
+        public double profit() { return totalRevenue - totalCosts; }
+
+        public double weeksPerSecond() {
+            return elapsedNanos <= 0 ? 0.0 : weeksSimulated / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+
+    private SimulationRunner() {}
+
+    public static Result run(GameState state, Policy policy, int weeks) {
+        if (state == null) throw new IllegalArgumentException("state required");
+        Policy p = policy == null ? Policy.passive() : policy;
+        Simulation sim = new Simulation(state, NoOpLogger.INSTANCE);
+
+        long start = System.nanoTime();
+        int nights = 0;
+        int rounds = 0;
+        int weeksDone = 0;
+        double revenue = 0.0;
+        double costs = 0.0;
+        int sales = 0;
+        int unserved = 0;
+        int fights = 0;
+        boolean stopped = false;
+
+        outer:
+        for (int week = 0; week < weeks; week++) {
+            for (int night = 0; night < NIGHTS_PER_WEEK; night++) {
+                if (isFinished(state)) {
+                    stopped = true;
+                    break outer;
+                }
+                p.restock(sim, state);
+                p.hire(sim, state);
+
+                sim.openNight();
+                int roundsTonight = 0;
+                while (state.nightOpen && roundsTonight < MAX_ROUNDS_PER_NIGHT) {
+                    if (p.closeEarly(sim, state)) break;
+                    sim.playRound();
+                    roundsTonight++;
+                }
+                if (state.nightOpen) sim.closeNight("Last orders.");
+                rounds += roundsTonight;
+                nights++;
+                revenue += state.nightRevenue;
+                costs += state.nightRoundCostsTotal;
+                sales += state.nightSales;
+                unserved += state.nightUnserved;
+                fights += state.nightFights;
+
+                if (state.paydayReady) {
+                    p.payBills(sim, state);
+                    state.paydayReady = false;
+                }
+                dismissReports(state);
+            }
+            weeksDone++;
+        }
+
+        return new Result(
+                weeksDone,
+                nights,
+                rounds,
+                state.cash,
+                state.totalCreditBalance(),
+                state.reputation,
+                revenue,
+                costs,
+                sales,
+                unserved,
+                fights,
+                state.milestonesAchievedCount,
+                state.pubLevel,
+                stopped,
+                System.nanoTime() - start
+        );
+    }
+
+    private static boolean isFinished(GameState s) {
+        return s.gameOver || s.businessCollapsed || s.consecutiveNeg100Rounds >= 3;
+    }
+
+    // The UI normally consumes these; headless runs just drop them so the queues stay bounded.
+    private static void dismissReports(GameState s) {
+        s.weeklyReportReady = false;
+        s.fourWeekReportReady = false;
+        s.milestonePopups.clear();
+    }
+
+    private static final class SteadyPolicy implements Policy {
+        private static final double RESTOCK_CASH_FLOOR = 5.0;
+        // A new hire costs roughly a week of wages up front, so only grow the roster with a buffer in hand.
+        private static final double HIRE_CASH_FLOOR = 300.0;
+
+        @Override
+        public void restock(Simulation sim, GameState s) {
+            if (s.supplier.isEmpty()) return;
+            int space = s.rack.getCapacity() - s.rack.count();
+            if (space <= 0 || s.cash < RESTOCK_CASH_FLOOR) return;
+            // Split the gap across the two cheapest house wines so low-tier punters always find something.
+            int cheapTiers = Math.min(2, s.supplier.size());
+            for (int i = 0; i < cheapTiers; i++) {
+                int qty = (space + cheapTiers - 1 - i) / cheapTiers;
+                if (qty > 0) sim.buyFromSupplier(s.supplier.get(i), qty);
+            }
+        }
+
+        @Override
+        public boolean closeEarly(Simulation sim, GameState s) {
+            return s.rack.count() == 0;
+        }
+
+        @Override
+        public void hire(Simulation sim, GameState s) {
+            if (s.fohStaffCount() >= s.fohStaffCap) return;
+            if (s.fohStaffCount() > 0 && s.cash < HIRE_CASH_FLOOR) return;
+            sim.hireStaff(Staff.Type.EXPERIENCED);
+        }
+
+        @Override
+        public void payBills(Simulation sim, GameState s) {
+            for (PaydayBill bill : s.paydayBills) {
+                bill.setSelectedAmount(bill.getFullDue());
+            }
+            sim.applyPaydayPayments();
+            sim.applyTipSplit();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.luxzentao.javabar.core;
 
 public class SupplierTradeCredit  implements java.io.Serializable {
+    // Fixed at the value older saves were written with.
+    private static final long serialVersionUID = -2741158996357714246L;
     private double balance;
     private double penaltyAddOnApr;
     private int consecutiveFullPays;
@@ -1,5 +1,7 @@
 package com.luxzentao.javabar.core;
 
+import java.util.EnumSet;
+
 public class UpgradeSystem {
 
     /*
@@ -50,10 +52,46 @@ public class UpgradeSystem {
             int roundCapBonus
     ) {}
 
+    /**
+     * Per-state cache of the aggregated snapshot. It remembers the owned set it was built from, so
+     * any change to {@code ownedUpgrades} (purchase install, prestige reset, load) triggers exactly one rebuild.
+     */
+    static final class ModifierCache {
+        private final EnumSet<PubUpgrade> builtFrom = EnumSet.noneOf(PubUpgrade.class);
+        private UpgradeModifierSnapshot snapshot;
+        private long version = 0L;
+    }
+
     private final GameState s;
 
     public UpgradeSystem(GameState s) { this.s = s; }
 
+    /** Cached modifier snapshot for the state's current upgrades. */
+    public UpgradeModifierSnapshot modifiers() {
+        return modifiers(s);
+    }
+
+    /** Bumps whenever the cached snapshot is rebuilt; lets readers skip work when upgrades have not changed. */
+    public long modifierVersion() {
+        modifiers(s);
+        return s.upgradeModifierCache.version;
+    }
+
+    static UpgradeModifierSnapshot modifiers(GameState s) {
+        ModifierCache cache = s.upgradeModifierCache;
+        if (cache == null) {
+            cache = new ModifierCache();
+            s.upgradeModifierCache = cache;
+        }
+        if (cache.snapshot == null || !cache.builtFrom.equals(s.ownedUpgrades)) {
+            cache.builtFrom.clear();
+            cache.builtFrom.addAll(s.ownedUpgrades);
+            cache.snapshot = new UpgradeSystem(s).buildModifierSnapshot();
+            cache.version++;
+        }
+        return cache.snapshot;
+    }
+
     public UpgradeModifierSnapshot buildModifierSnapshot() {
         double trafficPct = 0.0;
         int repDrift = 0;
@@ -243,23 +281,23 @@ public class UpgradeSystem {
         return Math.max(min, Math.min(max, value));
     }
 
-    public double trafficMultiplier() { return buildModifierSnapshot().trafficMultiplier(); }
-    public int repDriftPerRound() { return buildModifierSnapshot().repDriftPerRound(); }
-    public int eventBonusChance() { return buildModifierSnapshot().eventBonusChance(); }
-    public int barCapBonus() { return buildModifierSnapshot().barCapBonus(); }
-    public int serveCapBonus() { return buildModifierSnapshot().serveCapBonus(); }
-    public int rackCapBonus() { return buildModifierSnapshot().rackCapBonus(); }
-    public int foodRackCapBonus() { return buildModifierSnapshot().foodRackCapBonus(); }
-    public int securityBonus() { return buildModifierSnapshot().securityBonus(); }
-    public int staffCapBonus() { return buildModifierSnapshot().staffCapBonus(); }
-    public int bouncerCapBonus() { return buildModifierSnapshot().bouncerCapBonus(); }
-    public int managerCapBonus() { return buildModifierSnapshot().managerCapBonus(); }
-    public int chefCapBonus() { return buildModifierSnapshot().chefCapBonus(); }
-    public int kitchenQualityBonus() { return buildModifierSnapshot().kitchenQualityBonus(); }
-    public double refundRiskReductionPct() { return buildModifierSnapshot().refundRiskReductionPct(); }
-    public double staffMisconductReductionPct() { return buildModifierSnapshot().staffMisconductReductionPct(); }
-    public double tipBonusPct() { return buildModifierSnapshot().tipBonusPct(); }
-    public double eventDamageReductionPct() { return buildModifierSnapshot().eventDamageReductionPct(); }
-    public double riskReductionPct() { return buildModifierSnapshot().riskReductionPct(); }
-    public double wageEfficiencyPct() { return buildModifierSnapshot().wageEfficiencyPct(); }
+    public double trafficMultiplier() { return modifiers().trafficMultiplier(); }
+    public int repDriftPerRound() { return modifiers().repDriftPerRound(); }
+    public int eventBonusChance() { return modifiers().eventBonusChance(); }
+    public int barCapBonus() { return modifiers().barCapBonus(); }
+    public int serveCapBonus() { return modifiers().serveCapBonus(); }
+    public int rackCapBonus() { return modifiers().rackCapBonus(); }
+    public int foodRackCapBonus() { return modifiers().foodRackCapBonus(); }
+    public int securityBonus() { return modifiers().securityBonus(); }
+    public int staffCapBonus() { return modifiers().staffCapBonus(); }
+    public int bouncerCapBonus() { return modifiers().bouncerCapBonus(); }
+    public int managerCapBonus() { return modifiers().managerCapBonus(); }
+    public int chefCapBonus() { return modifiers().chefCapBonus(); }
+    public int kitchenQualityBonus() { return modifiers().kitchenQualityBonus(); }
+    public double refundRiskReductionPct() { return modifiers().refundRiskReductionPct(); }
+    public double staffMisconductReductionPct() { return modifiers().staffMisconductReductionPct(); }
+    public double tipBonusPct() { return modifiers().tipBonusPct(); }
+    public double eventDamageReductionPct() { return modifiers().eventDamageReductionPct(); }
+    public double riskReductionPct() { return modifiers().riskReductionPct(); }
+    public double wageEfficiencyPct() { return modifiers().wageEfficiencyPct(); }
 }
@@ -2,6 +2,8 @@ package com.luxzentao.javabar.core;
 
 // Wine.java
 public class Wine  implements java.io.Serializable {
+    // Same value the JVM derived before it was pinned; saves hold a Wine for every bottle and deal.
+    private static final long serialVersionUID = 8647870730764372079L;
     private final String name;
     private final int year;
     private final String region;
@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.Consumer;
 
 public class WineRack  implements java.io.Serializable {
+    // Pinned to the value the JVM computed for the one-Bottle-per-bottle layout so those saves still load.
+    private static final long serialVersionUID = -8326416098061588850L;
 
     /** Each bottle carries the day it was added (for spoilage). */
     public static class Bottle implements java.io.Serializable {
@@ -19,53 +21,139 @@ public class WineRack  implements java.io.Serializable {
         }
     }
 
-    private final List<Bottle> bottles = new ArrayList<>();
+    /** Bottles of one SKU added on the same day with the same shelf life. */
+    static final class Batch implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+        final int dayAdded;
+        final int spoilAfterDays;
+        int qty;
+
+        Batch(int dayAdded, int spoilAfterDays, int qty) {
+            this.dayAdded = dayAdded;
+            this.spoilAfterDays = spoilAfterDays;
+            this.qty = qty;
+        }
+    }
+
+    /**
+     * Everything on the rack for one wine (matched by name): a count plus batches in the order they arrived.
+     * Sales take from the oldest batch, the same bottle the old one-object-per-bottle list used to remove.
+     */
+    public static final class Sku implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+        private final Wine wine;
+        private final ArrayDeque<Batch> batches = new ArrayDeque<>();
+        private int count;
+        transient int pos = -1; // position in the sampler's price order
+
+        Sku(Wine wine) { this.wine = wine; }
+
+        public Wine wine() { return wine; }
+        public int count() { return count; }
+
+        void add(int dayAdded, int spoilAfterDays, int qty) {
+            Batch last = batches.peekLast();
+            if (last != null && last.dayAdded == dayAdded && last.spoilAfterDays == spoilAfterDays) {
+                last.qty += qty;
+            } else {
+                batches.addLast(new Batch(dayAdded, spoilAfterDays, qty));
+            }
+            count += qty;
+        }
+
+        void removeOldest() {
+            Batch first = batches.peekFirst();
+            if (--first.qty == 0) batches.pollFirst();
+            count--;
+        }
+    }
+
+    // Insertion-ordered so counts and snapshots list wines in the order they first came in.
+    private Map<String, Sku> skus = new LinkedHashMap<>();
+    private int count;
     private int capacity = 50;
+    private transient WineSampler sampler;
+    // Bumped by every add, removal and spoil, so a panel can tell the stock moved without walking it.
+    private transient int modCount;
 
     /** After this many days in stock, the bottle goes off and is removed. */
     private int spoilAfterDays = 3;
 
+    /** Only set when loading a save written before bottles were counted per SKU; folded into skus on load. */
+    private List<Bottle> bottles;
+
     public void setCapacity(int cap) { this.capacity = Math.max(1, cap); }
     public int getCapacity() { return capacity; }
 
     public void setSpoilAfterDays(int days) { this.spoilAfterDays = Math.max(1, days); }
     public int getSpoilAfterDays() { return spoilAfterDays; }
 
+    public int modCount() { return modCount; }
+
     public boolean addBottle(Wine wine, int dayAdded) {
-        if (bottles.size() >= capacity) return false;
-        int spoil = (wine != null && wine.getSpoilDays() > 0) ? wine.getSpoilDays() : spoilAfterDays;
-        bottles.add(new Bottle(wine, dayAdded, spoil));
-        return true;
+        return addBottles(wine, 1, dayAdded) == 1;
     }
 
     public int addBottles(Wine wine, int qty, int dayAdded) {
-        int added = 0;
-        for (int i = 0; i < qty; i++) {
-            if (!addBottle(wine, dayAdded)) break;
-            added++;
+        int added = Math.min(Math.max(0, qty), capacity - count);
+        if (added <= 0) return 0;
+        int spoil = (wine != null && wine.getSpoilDays() > 0) ? wine.getSpoilDays() : spoilAfterDays;
+        Sku sku = skus.get(wine.getName());
+        if (sku == null) {
+            sku = new Sku(wine);
+            skus.put(wine.getName(), sku);
+            invalidateSampler();
+        } else if (sampler != null) {
+            sampler.adjust(sku, added);
         }
+        sku.add(dayAdded, spoil, added);
+        count += added;
+        modCount++;
         return added;
     }
 
     public boolean removeBottle(Wine wine) {
-        for (int i = 0; i < bottles.size(); i++) {
-            if (bottles.get(i).wine.getName().equals(wine.getName())) {
-                bottles.remove(i);
-                return true;
-            }
+        Sku sku = skus.get(wine.getName());
+        if (sku == null) return false;
+        sku.removeOldest();
+        count--;
+        modCount++;
+        if (sku.count == 0) {
+            skus.remove(wine.getName());
+            invalidateSampler();
+        } else if (sampler != null) {
+            sampler.adjust(sku, -1);
         }
-        return false;
+        return true;
     }
 
-    public boolean isEmpty() { return bottles.isEmpty(); }
-    public int count() { return bottles.size(); }
+    public void clear() {
+        skus.clear();
+        count = 0;
+        modCount++;
+        invalidateSampler();
+    }
 
-    public List<Bottle> getBottleEntries() { return bottles; }
+    public boolean isEmpty() { return count == 0; }
+    public int count() { return count; }
 
-    /** Returns a snapshot list of just wines (easy for UI + systems). */
+    /** Bottles on the rack of this wine (by name). */
+    public int count(Wine wine) {
+        Sku sku = skus.get(wine.getName());
+        return sku == null ? 0 : sku.count;
+    }
+
+    /** Wines currently in stock, one entry per SKU, in the order they first came in. Read-only. */
+    public Collection<Sku> skus() {
+        return Collections.unmodifiableCollection(skus.values());
+    }
+
+    /** Returns a snapshot list of just wines, one per bottle (easy for UI + systems). */
     public List<Wine> getWinesSnapshot() {
-        List<Wine> out = new ArrayList<>(bottles.size());
-        for (Bottle b : bottles) out.add(b.wine);
+        List<Wine> out = new ArrayList<>(count);
+        for (Sku sku : skus.values()) {
+            for (int i = 0; i < sku.count; i++) out.add(sku.wine);
+        }
         return out;
     }
 
@@ -75,9 +163,8 @@ public class WineRack  implements java.io.Serializable {
 
     public Map<String, Integer> inventoryCounts() {
         Map<String, Integer> counts = new LinkedHashMap<>();
-        for (Bottle b : bottles) {
-            String name = b.wine.getName();
-            counts.put(name, counts.getOrDefault(name, 0) + 1);
+        for (Map.Entry<String, Sku> e : skus.entrySet()) {
+            counts.put(e.getKey(), e.getValue().count);
         }
         return counts;
     }
@@ -85,18 +172,16 @@ public class WineRack  implements java.io.Serializable {
     public record SpoilageLine(String wineName, int count, int daysRemaining) {}
 
     public List<SpoilageLine> spoilageForecast(int todayIndex) {
-        Map<String, Map<Integer, Integer>> grouped = new HashMap<>();
-        for (Bottle b : bottles) {
-            int age = todayIndex - b.dayAdded;
-            int daysRemaining = Math.max(0, b.spoilAfterDays - age);
-            grouped
-                    .computeIfAbsent(b.wine.getName(), k -> new HashMap<>())
-                    .merge(daysRemaining, 1, Integer::sum);
-        }
-
         List<SpoilageLine> lines = new ArrayList<>();
-        for (Map.Entry<String, Map<Integer, Integer>> entry : grouped.entrySet()) {
-            for (Map.Entry<Integer, Integer> sub : entry.getValue().entrySet()) {
+        Map<Integer, Integer> byDays = new HashMap<>();
+        for (Map.Entry<String, Sku> entry : skus.entrySet()) {
+            byDays.clear();
+            for (Batch b : entry.getValue().batches) {
+                int age = todayIndex - b.dayAdded;
+                int daysRemaining = Math.max(0, b.spoilAfterDays - age);
+                byDays.merge(daysRemaining, b.qty, Integer::sum);
+            }
+            for (Map.Entry<Integer, Integer> sub : byDays.entrySet()) {
                 lines.add(new SpoilageLine(entry.getKey(), sub.getValue(), sub.getKey()));
             }
         }
@@ -108,34 +193,91 @@ public class WineRack  implements java.io.Serializable {
     }
 
     public void displayInventory(Consumer<String> out) {
-        if (bottles.isEmpty()) {
+        if (count == 0) {
             out.accept("Inventory: (empty)");
             return;
         }
         out.accept("\n=== Inventory (count by type) ===");
-        Map<String, Integer> counts = inventoryCounts();
-        for (Map.Entry<String, Integer> e : counts.entrySet()) {
-            out.accept(" - " + e.getKey() + " x" + e.getValue());
+        for (Map.Entry<String, Sku> e : skus.entrySet()) {
+            out.accept(" - " + e.getKey() + " x" + e.getValue().count);
         }
-        out.accept("Total bottles: " + bottles.size() + "/" + capacity);
+        out.accept("Total bottles: " + count + "/" + capacity);
         out.accept("================================\n");
     }
 
+    // ---------- drawing ----------
+
+    /** Uniform over bottles, so a wine is picked in proportion to how many of it are on the rack. */
     public Wine pickRandomBottle(Random random) {
-        if (bottles.isEmpty()) return null;
-        return bottles.get(random.nextInt(bottles.size())).wine;
+        if (count == 0) return null;
+        return sampler().pickAny(random);
+    }
+
+    /** A bottle for a punter of this tier; wines aimed at the tier are weighted up. */
+    public Wine pickForTier(Punter.Tier tier, Random random) {
+        if (count == 0) return null;
+        return sampler().pickForTier(tier, random);
+    }
+
+    /** Uniform over bottles whose sell price at {@code priceMultiplier} is under {@code ceiling}. */
+    public Wine pickCheaperThan(double ceiling, double priceMultiplier, Random random) {
+        if (count == 0) return null;
+        return sampler().pickCheaperThan(ceiling, priceMultiplier, random);
+    }
+
+    /** Lowest base price on the rack (first in arrival order on ties). */
+    public Wine cheapest() {
+        if (count == 0) return null;
+        return sampler().cheapest();
+    }
+
+    private WineSampler sampler() {
+        if (sampler == null) sampler = new WineSampler();
+        if (sampler.isStale()) sampler.rebuild(skus.values());
+        return sampler;
+    }
+
+    private void invalidateSampler() {
+        if (sampler != null) sampler.invalidate();
     }
 
-    /** Removes bottles that are older than spoilAfterDays. Returns how many removed. */
+    /** Removes bottles that are older than their shelf life. Returns how many removed. */
     public int removeSpoiled(int currentDay) {
         int removed = 0;
-        for (int i = bottles.size() - 1; i >= 0; i--) {
-            Bottle b = bottles.get(i);
-            if ((currentDay - b.dayAdded) >= b.spoilAfterDays) {
-                bottles.remove(i);
-                removed++;
+        Iterator<Sku> it = skus.values().iterator();
+        while (it.hasNext()) {
+            Sku sku = it.next();
+            Iterator<Batch> batches = sku.batches.iterator();
+            while (batches.hasNext()) {
+                Batch b = batches.next();
+                if ((currentDay - b.dayAdded) >= b.spoilAfterDays) {
+                    batches.remove();
+                    sku.count -= b.qty;
+                    removed += b.qty;
+                }
             }
+            if (sku.count == 0) it.remove();
+        }
+        count -= removed;
+        if (removed > 0) {
+            modCount++;
+            invalidateSampler();
         }
         return removed;
     }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (skus == null) skus = new LinkedHashMap<>();
+        if (bottles != null) {
+            // Pre-SKU save: one Bottle per bottle, oldest first.
+            for (Bottle b : bottles) {
+                if (b == null || b.wine == null) continue;
+                skus.computeIfAbsent(b.wine.getName(), k -> new Sku(b.wine)).add(b.dayAdded, b.spoilAfterDays, 1);
+            }
+            bottles = null;
+        }
+        count = 0;
+        for (Sku sku : skus.values()) count += sku.count;
+    }
 }
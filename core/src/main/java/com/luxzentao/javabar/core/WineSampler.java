@@ -0,0 +1,139 @@
+package com.luxzentao.javabar.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Draw tables over a {@link WineRack}'s SKUs.
+ *
+ * SKUs are held in base-price order (ties keep arrival order). Per-bottle counts, and counts times each tier's
+ * preference weight, live in Fenwick trees over that order, so a sale adjusts them in O(log n) and a draw is a
+ * single O(log n) descent. A "cheaper than" draw binary-searches the price order for its cut-off and samples the
+ * prefix. The order itself is only rebuilt when a wine is added to or disappears from the rack.
+ */
+final class WineSampler {
+
+    private static final Punter.Tier[] TIERS = Punter.Tier.values();
+    private static final Comparator<WineRack.Sku> BY_PRICE = Comparator.comparingDouble(sku -> sku.wine().getBasePrice());
+
+    private WineRack.Sku[] byPrice = new WineRack.Sku[0];
+    private int[] countTree = new int[1];
+    private final int[][] tierTrees = new int[TIERS.length][];
+    private final int[][] tierWeights = new int[TIERS.length][];
+    private boolean stale = true;
+
+    /** How much more likely a punter of this tier is to reach for a bottle of this wine. */
+    static int tierWeight(Wine w, Punter.Tier tier) {
+        int weight = 1;
+        if (w.getTargetTier() == tier) weight += 3;
+        if (tier == Punter.Tier.BIG_SPENDER && w.getBasePrice() > 25) weight += 2;
+        if (tier == Punter.Tier.LOWLIFE && w.getBasePrice() < 10) weight += 2;
+        return weight;
+    }
+
+    boolean isStale() { return stale; }
+
+    void invalidate() { stale = true; }
+
+    void rebuild(Collection<WineRack.Sku> skus) {
+        WineRack.Sku[] sorted = skus.toArray(new WineRack.Sku[0]);
+        Arrays.sort(sorted, BY_PRICE); // stable, so equal prices stay in arrival order
+        int n = sorted.length;
+        byPrice = sorted;
+        countTree = new int[n + 1];
+        for (int t = 0; t < TIERS.length; t++) {
+            tierTrees[t] = new int[n + 1];
+            tierWeights[t] = new int[n];
+        }
+        for (int i = 0; i < n; i++) {
+            WineRack.Sku sku = sorted[i];
+            sku.pos = i;
+            countTree[i + 1] = sku.count();
+            for (int t = 0; t < TIERS.length; t++) {
+                int w = tierWeight(sku.wine(), TIERS[t]);
+                tierWeights[t][i] = w;
+                tierTrees[t][i + 1] = sku.count() * w;
+            }
+        }
+        heapify(countTree);
+        for (int[] tree : tierTrees) heapify(tree);
+        stale = false;
+    }
+
+    /** A SKU already in the tables gained or lost {@code delta} bottles. */
+    void adjust(WineRack.Sku sku, int delta) {
+        if (stale) return;
+        int i = sku.pos;
+        add(countTree, i, delta);
+        for (int t = 0; t < TIERS.length; t++) add(tierTrees[t], i, delta * tierWeights[t][i]);
+    }
+
+    /** Lowest base price; for any positive price multiplier that is also the lowest sell price. */
+    Wine cheapest() {
+        return byPrice.length == 0 ? null : byPrice[0].wine();
+    }
+
+    /** Uniform over bottles. */
+    Wine pickAny(Random random) {
+        int total = prefix(countTree, byPrice.length);
+        if (total <= 0) return null;
+        return byPrice[search(countTree, random.nextInt(total))].wine();
+    }
+
+    /** Each bottle counts {@link #tierWeight} times. */
+    Wine pickForTier(Punter.Tier tier, Random random) {
+        int[] tree = tierTrees[tier.ordinal()];
+        int total = prefix(tree, byPrice.length);
+        if (total <= 0) return null;
+        return byPrice[search(tree, random.nextInt(total))].wine();
+    }
+
+    /** Uniform over bottles whose sell price ({@code base * mult}) is under the ceiling. */
+    Wine pickCheaperThan(double ceiling, double mult, Random random) {
+        int lo = 0;
+        int hi = byPrice.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (byPrice[mid].wine().getBasePrice() * mult < ceiling) lo = mid + 1;
+            else hi = mid;
+        }
+        int total = prefix(countTree, lo);
+        if (total <= 0) return null;
+        return byPrice[search(countTree, random.nextInt(total))].wine();
+    }
+
+    // ---------- Fenwick tree helpers (1-based storage, 0-based positions) ----------
+
+    private static void heapify(int[] tree) {
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) tree[parent] += tree[i];
+        }
+    }
+
+    private static void add(int[] tree, int pos, int delta) {
+        for (int i = pos + 1; i < tree.length; i += i & -i) tree[i] += delta;
+    }
+
+    /** Sum of the first {@code n} positions. */
+    private static int prefix(int[] tree, int n) {
+        int sum = 0;
+        for (int i = n; i > 0; i -= i & -i) sum += tree[i];
+        return sum;
+    }
+
+    /** Position whose cumulative range contains {@code roll} (0 <= roll < total). */
+    private static int search(int[] tree, int roll) {
+        int pos = 0;
+        for (int step = Integer.highestOneBit(Math.max(1, tree.length - 1)); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] <= roll) {
+                pos = next;
+                roll -= tree[next];
+            }
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,61 @@
+package com.luxzentao.javabar.core.bridge;
+
+/**
+ * Number formatting for HUD text straight into a {@link StringBuilder}, without {@code String.format}'s
+ * Formatter, boxing and intermediate strings. Output matches the {@code Locale.US} patterns it replaces for the
+ * magnitudes the HUD shows.
+ */
+final class HudFormat {
+    private static final long[] POW10 = {1L, 10L, 100L, 1_000L, 10_000L};
+
+    private HudFormat() {}
+
+    /** {@code %.Nf}. */
+    static StringBuilder fixed(StringBuilder sb, double value, int decimals) {
+        return append(sb, value, decimals, false);
+    }
+
+    /** {@code £%.2f}. */
+    static StringBuilder pounds(StringBuilder sb, double value) {
+        return append(sb.append('£'), value, 2, false);
+    }
+
+    /** {@code £%,.2f}. */
+    static StringBuilder poundsGrouped(StringBuilder sb, double value) {
+        return append(sb.append('£'), value, 2, true);
+    }
+
+    private static StringBuilder append(StringBuilder sb, double value, int decimals, boolean grouped) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) return sb.append(value);
+        long scale = POW10[decimals];
+        double abs = Math.abs(value);
+        // Formatter rounds the shortest decimal form half-up, so 1.005 shows as 1.01 even though the double is a
+        // hair below. Comparing against the double nearest the halfway decimal reproduces that.
+        long scaled = (long) Math.floor(abs * scale);
+        if (abs >= (scaled + 0.5) / scale) scaled++;
+        if (Math.copySign(1.0, value) < 0) sb.append('-'); // Formatter keeps the sign on -0.00 too
+        long whole = scaled / scale;
+        if (grouped) appendGrouped(sb, whole);
+        else sb.append(whole);
+        if (decimals > 0) {
+            sb.append('.');
+            long frac = scaled % scale;
+            for (long p = scale / 10; p > 1 && frac < p; p /= 10) sb.append('0');
+            sb.append(frac);
+        }
+        return sb;
+    }
+
+    private static void appendGrouped(StringBuilder sb, long whole) {
+        if (whole < 1000) {
+            sb.append(whole);
+            return;
+        }
+        appendGrouped(sb, whole / 1000);
+        long rest = whole % 1000;
+        sb.append(',');
+        if (rest < 100) sb.append('0');
+        if (rest < 10) sb.append('0');
+        sb.append(rest);
+    }
+}
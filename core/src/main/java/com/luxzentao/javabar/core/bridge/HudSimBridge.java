@@ -2,16 +2,46 @@ package com.luxzentao.javabar.core.bridge;
 
 import com.luxzentao.javabar.core.*;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
-import java.util.Comparator;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * HUD side of the simulation. Commands are queued onto the {@link SimulationThread}; after each one that moved
+ * the metrics, {@link #publish()} composes a new {@link HudSnapshot} there, and the render thread only ever reads
+ * the latest published one.
+ */
 public class HudSimBridge {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
+
+    private volatile HudSnapshot latest;
+    private long publishedVersion = -1;
+
+    // Simulation-thread only: reused by every publish.
+    private final StringBuilder sb = new StringBuilder(512);
+    private final String[] topSellerNames = new String[3];
+    private final int[] topSellerCounts = new int[3];
+    private final PanelText pub = new PanelText();
+    private final PanelText reputation = new PanelText();
+    private final PanelText calendar = new PanelText();
+    private final PanelText service = new PanelText();
+    private final PanelText weeklyCosts = new PanelText();
+    private final PanelText report = new PanelText();
+    private final PanelText flavor = new PanelText();
+    private final PanelText policy = new PanelText();
+    private final PanelText staff = new PanelText();
+    private final PanelText traffic = new PanelText();
+    private final PanelText reportsLive = new PanelText();
+    private final PanelText inventory = new PanelText();
+    private final PanelText missionOverview = new PanelText();
+    private final PanelText missionMilestones = new PanelText();
+    private final PanelText missionRisk = new PanelText();
+    private final PanelText missionEconomy = new PanelText();
+    private final PanelText missionStaff = new PanelText();
 
     private Runnable supplierHook;
     private Runnable foodSupplierHook;
@@ -24,162 +54,344 @@ public class HudSimBridge {
     private Runnable activitiesHook;
     private Runnable actionsHook;
 
-    public HudSimBridge(Simulation sim, GameState state, SimEventBus eventBus) {
+    /** Call before any command is submitted: the first snapshot is built on the caller's thread. */
+    public HudSimBridge(Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
+        publish();
     }
 
-    public void setSupplierHook(Runnable r)      { this.supplierHook = r; }
-    public void setFoodSupplierHook(Runnable r)  { this.foodSupplierHook = r; }
-    public void setBankHook(Runnable r)           { this.bankHook = r; }
-    public void setLoanSharkHook(Runnable r)      { this.loanSharkHook = r; }
-    public void setStaffHook(Runnable r)          { this.staffHook = r; }
-    public void setInnHook(Runnable r)            { this.innHook = r; }
-    public void setUpgradesHook(Runnable r)       { this.upgradesHook = r; }
-    public void setSecurityHook(Runnable r)       { this.securityHook = r; }
-    public void setActivitiesHook(Runnable r)     { this.activitiesHook = r; }
-    public void setActionsHook(Runnable r)        { this.actionsHook = r; }
+    public SimulationThread simulationThread() { return simThread; }
+
+    public void setSupplierHook(Runnable r)      { this.supplierHook = () -> simThread.whenIdle(r); }
+    public void setFoodSupplierHook(Runnable r)  { this.foodSupplierHook = () -> simThread.whenIdle(r); }
+    public void setBankHook(Runnable r)           { this.bankHook = () -> simThread.whenIdle(r); }
+    public void setLoanSharkHook(Runnable r)      { this.loanSharkHook = () -> simThread.whenIdle(r); }
+    public void setStaffHook(Runnable r)          { this.staffHook = () -> simThread.whenIdle(r); }
+    public void setInnHook(Runnable r)            { this.innHook = () -> simThread.whenIdle(r); }
+    public void setUpgradesHook(Runnable r)       { this.upgradesHook = () -> simThread.whenIdle(r); }
+    public void setSecurityHook(Runnable r)       { this.securityHook = () -> simThread.whenIdle(r); }
+    public void setActivitiesHook(Runnable r)     { this.activitiesHook = () -> simThread.whenIdle(r); }
+    public void setActionsHook(Runnable r)        { this.actionsHook = () -> simThread.whenIdle(r); }
+
+    /** The latest published snapshot. Lock-free; safe from any thread. */
+    public HudSnapshot snapshot() { return latest; }
+
+    /**
+     * Rebuilds the snapshot if a simulation action marked the metrics dirty since the last one. Runs on the
+     * simulation thread after every command (and once from the constructor); never call it from the UI.
+     *
+     * Each panel is keyed on the handful of numbers and cached section records it is built from and only
+     * re-rendered when one of them moved; unchanged panels carry their previous String forward.
+     */
+    public void publish() {
+        MetricsSections sections = sim.metrics();
+        long version = sections.version();
+        if (latest != null && version == publishedVersion) return;
 
-    public MetricsSnapshot metrics() { return sim.buildMetricsSnapshot(); }
+        MetricsSections.Hud hud = sections.hud();
+        MetricsSections.Reputation rep = sections.reputation();
+        latest = new HudSnapshot(
+                version,
+                pubText(hud),
+                reputationText(hud, rep),
+                calendarText(),
+                serviceText(),
+                hud.cash(),
+                weeklyCostsText(),
+                reportText(),
+                flavorText(hud),
+                hud.debt(),
+                policyText(),
+                staffText(),
+                trafficText(),
+                reportsLiveText(),
+                inventoryText(),
+                missionOverviewText(sections),
+                missionMilestonesText(sections),
+                missionRiskText(sections),
+                missionEconomyText(sections),
+                missionStaffText(sections));
+        publishedVersion = version;
+    }
 
-    public String weekLine() {
-        return "Week " + Math.max(1, state.weekCount) + " " + state.dayName() + " | Service " + state.nightCount;
+    private StringBuilder text() {
+        sb.setLength(0);
+        return sb;
     }
 
-    public String calendarLine() {
-        return "Date " + (state.dateString() == null ? "--" : state.dateString()) + " | Weather " + state.weatherLabel();
+    private String pubText(MetricsSections.Hud hud) {
+        if (!pub.begin().with(hud).with(state.weekCount).with(state.dayIndex).with(state.nightCount).changed()) {
+            return pub.text();
+        }
+        return pub.set(appendWeekLine(text().append(hud.pubName()).append('\n')));
     }
 
-    public String serviceLine() {
-        return (state.nightOpen ? "Service OPEN" : "Service CLOSED")
-                + " Round " + state.roundInNight + "/" + state.getClosingRound()
-                + " | Bar " + state.nightPunters.size() + "/" + state.maxBarOccupancy
-                + " | Time " + state.getCurrentTime()
-                + " | Phase " + state.getCurrentPhase()
-                + " | Music " + state.currentMusicProfile.getLabel();
+    private String reputationText(MetricsSections.Hud hud, MetricsSections.Reputation rep) {
+        if (!reputation.begin().with(hud).with(rep).changed()) return reputation.text();
+        StringBuilder b = text().append(hud.rep()).append("\nIdentity: ");
+        appendFirstLine(b, rep.identity()).append("\nRumor: ");
+        return reputation.set(appendFirstLine(b, rep.rumors()));
     }
 
-    public String costsSummaryLineA() {
-        Simulation.WeeklyDueBreakdown due = sim.weeklyMinDueBreakdown();
-        return String.format(Locale.US, "Supplier £%.2f | Wages £%.2f | Rent £%.2f", due.supplier(), due.wages(), due.rent());
+    private String calendarText() {
+        if (!calendar.begin().with(state.weekCount).with(state.dayIndex).with(state.nightCount)
+                .with(state.dayCounter).with(state.currentWeather).changed()) {
+            return calendar.text();
+        }
+        StringBuilder b = appendWeekLine(text()).append("\nDate ");
+        String date = state.dateString();
+        return calendar.set(b.append(date == null ? "--" : date).append(" | Weather ").append(state.weatherLabel()));
     }
 
-    public String costsSummaryLineB() {
+    private StringBuilder appendWeekLine(StringBuilder b) {
+        return b.append("Week ").append(Math.max(1, state.weekCount)).append(' ').append(state.dayName())
+                .append(" | Service ").append(state.nightCount);
+    }
+
+    private String serviceText() {
+        if (!service.begin().with(state.nightOpen).with(state.roundInNight).with(state.getClosingRound())
+                .with(state.punterPool.size()).with(state.maxBarOccupancy).with(state.currentMusicProfile)
+                .with(state.dayIndex).changed()) {
+            return service.text();
+        }
+        return service.set(text().append(state.nightOpen ? "Service OPEN" : "Service CLOSED")
+                .append(" Round ").append(state.roundInNight).append('/').append(state.getClosingRound())
+                .append(" | Bar ").append(state.punterPool.size()).append('/').append(state.maxBarOccupancy)
+                .append(" | Time ").append(state.getCurrentTime())
+                .append(" | Phase ").append(state.getCurrentPhase())
+                .append(" | Music ").append(state.currentMusicProfile.getLabel()));
+    }
+
+    private String weeklyCostsText() {
         Simulation.WeeklyDueBreakdown due = sim.weeklyMinDueBreakdown();
-        return String.format(Locale.US, "Security £%.2f | Credit £%.2f | Shark £%.2f", due.security(), due.creditLines(), due.loanShark());
+        if (!weeklyCosts.begin().with(due.supplier()).with(due.wages()).with(due.rent()).with(due.security())
+                .with(due.creditLines()).with(due.loanShark()).changed()) {
+            return weeklyCosts.text();
+        }
+        StringBuilder b = text().append("Weekly Costs\nSupplier ");
+        HudFormat.pounds(b, due.supplier()).append(" | Wages ");
+        HudFormat.pounds(b, due.wages()).append(" | Rent ");
+        HudFormat.pounds(b, due.rent()).append("\nSecurity ");
+        HudFormat.pounds(b, due.security()).append(" | Credit ");
+        HudFormat.pounds(b, due.creditLines()).append(" | Shark ");
+        return weeklyCosts.set(HudFormat.pounds(b, due.loanShark()));
     }
 
-    public String reportLine() {
-        return "Report #" + state.reportIndex + " (week " + Math.max(1, state.weeksIntoReport + 1)
-                + "/4) | profit " + money(state.reportRevenue - state.reportCosts)
-                + " | sales " + state.reportSales + " | events " + state.reportEvents;
+    private String reportText() {
+        if (!report.begin().with(state.reportIndex).with(state.weeksIntoReport).with(state.reportRevenue)
+                .with(state.reportCosts).with(state.reportSales).with(state.reportEvents).changed()) {
+            return report.text();
+        }
+        StringBuilder b = text().append("Report #").append(state.reportIndex)
+                .append(" (week ").append(Math.max(1, state.weeksIntoReport + 1)).append("/4) | profit ");
+        HudFormat.poundsGrouped(b, state.reportRevenue - state.reportCosts);
+        return report.set(b.append(" | sales ").append(state.reportSales).append(" | events ").append(state.reportEvents));
+    }
+
+    private String flavorText(MetricsSections.Hud hud) {
+        if (!flavor.begin().with(hud).changed()) return flavor.text();
+        List<String> lines = hud.overviewLines();
+        return flavor.set(lines.isEmpty() ? "NPC: Keeping the taps warm." : lines.get(Math.min(3, lines.size() - 1)));
     }
 
-    public String policyLine() {
-        String task = state.activeSecurityTask == null ? "None" : state.activeSecurityTask.getLabel();
-        return "Policy " + state.securityPolicy.getShortLabel() + " | Task " + task
-                + " | Sec " + sim.securityBreakdown().total()
-                + " | Chaos " + String.format(Locale.US, "%.1f", state.chaos)
-                + " | TS " + state.tradingStandardsCounter;
+    private String policyText() {
+        int sec = sim.securityBreakdown().total();
+        if (!policy.begin().with(state.securityPolicy).with(state.activeSecurityTask).with(sec)
+                .with(state.chaos).with(state.tradingStandardsCounter).changed()) {
+            return policy.text();
+        }
+        StringBuilder b = text().append("Policy ").append(state.securityPolicy.getShortLabel())
+                .append(" | Task ").append(state.activeSecurityTask == null ? "None" : state.activeSecurityTask.getLabel())
+                .append(" | Sec ").append(sec).append(" | Chaos ");
+        HudFormat.fixed(b, state.chaos, 1);
+        return policy.set(b.append(" | TS ").append(state.tradingStandardsCounter));
     }
 
-    public String staffLine() {
+    private String staffText() {
         GameState.StaffSummary ss = state.staff();
-        return "Staff " + ss.staffCount() + "/" + ss.staffCap() + " | Managers " + ss.managerPoolCount() + "/" + ss.managerCap()
-                + " | Morale " + (int) Math.round(ss.teamMorale()) + " | Upgrades " + ss.upgradesOwned()
-                + " | Serve cap " + sim.peekServeCapacity();
+        int serveCap = sim.peekServeCapacity();
+        int morale = (int) Math.round(ss.teamMorale());
+        if (!staff.begin().with(ss.staffCount()).with(ss.staffCap()).with(ss.managerPoolCount()).with(ss.managerCap())
+                .with(morale).with(ss.upgradesOwned()).with(serveCap)
+                .with(state.fohStaffCount()).with(state.fohStaffCap).with(state.hohStaffCount()).with(state.hohStaffCap)
+                .with(state.bohStaff.size()).with(state.kitchenChefCap).changed()) {
+            return staff.text();
+        }
+        return staff.set(text().append("Staff ").append(ss.staffCount()).append('/').append(ss.staffCap())
+                .append(" | Managers ").append(ss.managerPoolCount()).append('/').append(ss.managerCap())
+                .append(" | Morale ").append(morale).append(" | Upgrades ").append(ss.upgradesOwned())
+                .append(" | Serve cap ").append(serveCap)
+                .append("\nFOH ").append(state.fohStaffCount()).append('/').append(state.fohStaffCap)
+                .append(" | HOH ").append(state.hohStaffCount()).append('/').append(state.hohStaffCap)
+                .append(" | BOH ").append(state.bohStaff.size()).append('/').append(state.kitchenChefCap));
     }
 
-    public String countsLine() {
-        return "FOH " + state.fohStaffCount() + "/" + state.fohStaffCap
-                + " | HOH " + state.hohStaffCount() + "/" + state.hohStaffCap
-                + " | BOH " + state.bohStaff.size() + "/" + state.kitchenChefCap;
+    private String trafficText() {
+        if (!traffic.begin().with(state.punterPool.size()).with(state.nightKickedOut).with(state.lastNaturalDepartures)
+                .with(state.trafficForecastLine).with(state.nightCount).with(state.nightSales).changed()) {
+            return traffic.text();
+        }
+        StringBuilder b = text().append("In ").append(state.punterPool.size()).append(" | Out ").append(state.nightKickedOut)
+                .append(" (natural ").append(state.lastNaturalDepartures).append(") | ").append(state.trafficForecastLine)
+                .append('\n');
+        return traffic.set(appendTopSellers(b));
     }
 
-    public String forecastLine() {
-        return "In " + state.nightPunters.size() + " | Out " + state.nightKickedOut
-                + " (natural " + state.lastNaturalDepartures + ") | " + state.trafficForecastLine;
+    /** Best three sellers tonight, highest count first; ties keep map order, as the stable sort it replaces did. */
+    private StringBuilder appendTopSellers(StringBuilder b) {
+        if (state.nightItemSales.isEmpty()) return b.append("Top sellers: --");
+        int filled = 0;
+        for (Map.Entry<String, Integer> e : state.nightItemSales.entrySet()) {
+            int sold = e.getValue();
+            int at = filled;
+            while (at > 0 && topSellerCounts[at - 1] < sold) at--;
+            if (at >= topSellerNames.length) continue;
+            int last = Math.min(filled, topSellerNames.length - 1);
+            System.arraycopy(topSellerNames, at, topSellerNames, at + 1, last - at);
+            System.arraycopy(topSellerCounts, at, topSellerCounts, at + 1, last - at);
+            topSellerNames[at] = e.getKey();
+            topSellerCounts[at] = sold;
+            if (filled < topSellerNames.length) filled++;
+        }
+        b.append("Top sellers: ");
+        for (int i = 0; i < filled; i++) {
+            if (i > 0) b.append(" | ");
+            b.append(topSellerNames[i]).append(" x").append(topSellerCounts[i]);
+            topSellerNames[i] = null;
+        }
+        return b;
     }
 
-    public String topSellerLine() {
-        if (state.nightItemSales.isEmpty()) return "Top sellers: --";
-        String tops = state.nightItemSales.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
-                .limit(3)
-                .map(e -> e.getKey() + " x" + e.getValue())
-                .collect(Collectors.joining(" | "));
-        return "Top sellers: " + tops;
+    private String reportsLiveText() {
+        if (!reportsLive.begin().with(state.tradingStandardsCounter).with(state.nightEvents).with(state.nightRefundTotal)
+                .with(state.punterPool.size()).with(state.maxBarOccupancy).with(state.foodSpoiledLastNight)
+                .with(state.roomsBookedLast).with(state.roomsTotal).with(state.innRep).with(state.innEventLog.size())
+                .changed()) {
+            return reportsLive.text();
+        }
+        StringBuilder b = text().append("Underage: ").append(state.tradingStandardsCounter)
+                .append("\nEvents: ").append(state.nightEvents)
+                .append("\nRefunds: ");
+        HudFormat.fixed(b, state.nightRefundTotal, 2)
+                .append("\nBar: ").append(state.punterPool.size()).append('/').append(state.maxBarOccupancy)
+                .append("\nFood spoiled (last night): ").append(state.foodSpoiledLastNight)
+                .append("\nInn: ").append(state.roomsBookedLast).append('/').append(state.roomsTotal).append(" rooms booked")
+                .append("\nInn rep: ");
+        HudFormat.fixed(b, state.innRep, 2);
+        return reportsLive.set(b.append("\nInn events: ").append(state.innEventLog.size()));
     }
 
-    public String reportsLiveText() {
-        return "Underage: " + state.tradingStandardsCounter
-                + "\nEvents: " + state.nightEvents
-                + "\nRefunds: " + String.format(Locale.US, "%.2f", state.nightRefundTotal)
-                + "\nBar: " + state.nightPunters.size() + "/" + state.maxBarOccupancy
-                + "\nFood spoiled (last night): " + state.foodSpoiledLastNight
-                + "\nInn: " + state.roomsBookedLast + "/" + state.roomsTotal + " rooms booked"
-                + "\nInn rep: " + String.format(Locale.US, "%.2f", state.innRep)
-                + "\nInn events: " + state.innEventLog.size();
+    private String inventoryText() {
+        WineRack rack = state.rack;
+        FoodRack food = state.foodRack;
+        if (!inventory.begin().with(rack).with(rack.modCount()).with(rack.getCapacity())
+                .with(food).with(food.modCount()).with(food.getCapacity()).with(state.absDayIndex()).changed()) {
+            return inventory.text();
+        }
+        StringBuilder b = text();
+        state.rack.inventoryCounts().forEach((name, qty) -> b.append(name).append(" x").append(qty).append('\n'));
+        b.append("Total: ").append(state.rack.count()).append('/').append(state.rack.getCapacity()).append("\n\n=== Food ===\n");
+        state.foodRack.inventoryCounts().forEach((name, qty) -> b.append(name).append(" x").append(qty).append('\n'));
+        b.append("Total: ").append(state.foodRack.count()).append('/').append(state.foodRack.getCapacity()).append("\n\n=== Spoilage forecast ===\n");
+        for (WineRack.SpoilageLine line : state.rack.spoilageForecast(state.absDayIndex())) {
+            b.append(line.wineName()).append(" x").append(line.count()).append(" - spoil in ").append(line.daysRemaining()).append(" days\n");
+        }
+        return inventory.set(b);
     }
 
-    public String inventoryText() {
-        StringBuilder sb = new StringBuilder();
-        state.rack.inventoryCounts().forEach((name, qty) -> sb.append(name).append(" x").append(qty).append("\n"));
-        sb.append("Total: ").append(state.rack.count()).append("/").append(state.rack.getCapacity()).append("\n\n=== Food ===\n");
-        state.foodRack.inventoryCounts().forEach((name, qty) -> sb.append(name).append(" x").append(qty).append("\n"));
-        sb.append("Total: ").append(state.foodRack.count()).append("/").append(state.foodRack.getCapacity()).append("\n\n=== Spoilage forecast ===\n");
-        state.rack.spoilageForecast(state.absDayIndex()).forEach(line -> sb.append(line.wineName()).append(" x").append(line.count()).append(" - spoil in ").append(line.daysRemaining()).append(" days\n"));
-        return sb.toString();
+    private String missionOverviewText(MetricsSections sections) {
+        MetricsSections.Operations ops = sections.operations();
+        if (!missionOverview.begin().with(ops).changed()) return missionOverview.text();
+        return missionOverview.set(ops.summary());
     }
 
-    public String missionOverview() { return metrics().operations; }
-    public String missionMilestones() { return metrics().progression + "\n\n" + metrics().prestige; }
-    public String missionRisk() { return metrics().risk + "\n\n" + metrics().security; }
-    public String missionEconomy() { return metrics().economy + "\n\n" + metrics().financeBanking; }
-    public String missionStaff() { return metrics().staffDetail + "\n\n" + metrics().inn; }
+    private String missionMilestonesText(MetricsSections sections) {
+        String progression = sections.progression();
+        String prestige = sections.prestige();
+        if (!missionMilestones.begin().with(progression).with(prestige).changed()) return missionMilestones.text();
+        return missionMilestones.set(text().append(progression).append("\n\n").append(prestige));
+    }
 
-    public void commandOpenPub() { sim.openNight(); }
-    public void commandNextRound() { sim.playRound(); }
-    public void commandCloseNight() { sim.closeNight("Closed by landlord."); }
-    public void commandSetHappyHour(boolean on) { sim.toggleHappyHour(on); }
-    public void commandSetPriceMultiplier(double multiplier) { sim.setPriceMultiplier(multiplier); }
+    private String missionRiskText(MetricsSections sections) {
+        MetricsSections.Risk risk = sections.risk();
+        if (!missionRisk.begin().with(risk).changed()) return missionRisk.text();
+        return missionRisk.set(text().append(risk.summary()).append("\n\n").append(risk.security()));
+    }
+
+    private String missionEconomyText(MetricsSections sections) {
+        MetricsSections.Economy economy = sections.economy();
+        if (!missionEconomy.begin().with(economy).changed()) return missionEconomy.text();
+        return missionEconomy.set(text().append(economy.summary()).append("\n\n").append(economy.financeBanking()));
+    }
+
+    private String missionStaffText(MetricsSections sections) {
+        MetricsSections.Staff staffSection = sections.staff();
+        String inn = sections.inn();
+        if (!missionStaff.begin().with(staffSection).with(inn).changed()) return missionStaff.text();
+        return missionStaff.set(text().append(staffSection.detail()).append("\n\n").append(inn));
+    }
+
+    private static StringBuilder appendFirstLine(StringBuilder b, String text) {
+        int nl = text.indexOf('\n');
+        return nl < 0 ? b.append(text) : b.append(text, 0, nl);
+    }
+
+    public String missionOverview() { return latest.missionOverview(); }
+    public String missionMilestones() { return latest.missionMilestones(); }
+    public String missionRisk() { return latest.missionRisk(); }
+    public String missionEconomy() { return latest.missionEconomy(); }
+    public String missionStaff() { return latest.missionStaff(); }
+
+    public void commandOpenPub() { simThread.submit(sim::openNight); }
+    public void commandNextRound() { simThread.submit(sim::playRound); }
+    public void commandCloseNight() { simThread.submit(() -> sim.closeNight("Closed by landlord.")); }
+    public void commandSetHappyHour(boolean on) { simThread.submit(() -> sim.toggleHappyHour(on)); }
+    public void commandSetPriceMultiplier(double multiplier) { simThread.submit(() -> sim.setPriceMultiplier(multiplier)); }
 
     public void commandSupplier() {
         if (supplierHook != null) { supplierHook.run(); return; }
-        if (!state.supplier.isEmpty()) sim.buyFromSupplier(state.supplier.get(0), 1);
-        else eventBus.fireLog("[TODO] Supplier purchase UI not available yet.");
+        simThread.submit(() -> {
+            if (!state.supplier.isEmpty()) sim.buyFromSupplier(state.supplier.get(0), 1);
+            else eventBus.fireLog("[TODO] Supplier purchase UI not available yet.");
+        });
     }
 
     public void commandFoodSupplier() {
         if (foodSupplierHook != null) { foodSupplierHook.run(); return; }
-        if (!state.foodSupplier.isEmpty()) sim.buyFoodFromSupplier(state.foodSupplier.get(0), 1);
-        else eventBus.fireLog("[TODO] Food supplier purchase UI not available yet.");
+        simThread.submit(() -> {
+            if (!state.foodSupplier.isEmpty()) sim.buyFoodFromSupplier(state.foodSupplier.get(0), 1);
+            else eventBus.fireLog("[TODO] Food supplier purchase UI not available yet.");
+        });
     }
 
     public void commandPayDebt() {
         if (bankHook != null) { bankHook.run(); return; }
-        if (state.creditLines.getOpenLines().isEmpty()) {
-            eventBus.fireLog("[TODO] No bank credit line to repay.");
-            return;
-        }
-        sim.repayCreditLineInFull(state.creditLines.getOpenLines().get(0).getId());
+        simThread.submit(() -> {
+            if (state.creditLines.getOpenLines().isEmpty()) {
+                eventBus.fireLog("[TODO] No bank credit line to repay.");
+                return;
+            }
+            sim.repayCreditLineInFull(state.creditLines.getOpenLines().get(0).getId());
+        });
     }
 
     public void commandLoanShark() {
         if (loanSharkHook != null) { loanSharkHook.run(); return; }
-        if (state.loanShark.isOpen()) eventBus.fireLog("[TODO] Loan shark repayment flow not yet in HUD.");
-        else sim.openSharkLine();
+        simThread.submit(() -> {
+            if (state.loanShark.isOpen()) eventBus.fireLog("[TODO] Loan shark repayment flow not yet in HUD.");
+            else sim.openSharkLine();
+        });
     }
 
     public void commandStaff()      { if (staffHook      != null) staffHook.run();      else eventBus.fireLog("[TODO] Staff roster modal hook pending."); }
     public void commandInn()        { if (innHook        != null) innHook.run();        else eventBus.fireLog("[TODO] Inn management modal hook pending."); }
     public void commandUpgrades()   { if (upgradesHook   != null) upgradesHook.run();   else eventBus.fireLog("[TODO] Upgrade browser modal hook pending."); }
-    public void commandSecurity()   { if (securityHook   != null) securityHook.run();   else sim.setSecurityPolicy(SecurityPolicy.STRICT_DOOR); }
+    public void commandSecurity()   { if (securityHook   != null) securityHook.run();   else simThread.submit(() -> sim.setSecurityPolicy(SecurityPolicy.STRICT_DOOR)); }
     public void commandActivities() { if (activitiesHook != null) activitiesHook.run(); else eventBus.fireLog("[TODO] Activities picker modal hook pending."); }
     public void commandActions()    { if (actionsHook    != null) actionsHook.run();    else eventBus.fireLog("[TODO] Landlord actions modal hook pending."); }
     public void commandAuto(boolean enabled) { eventBus.fireLog("[TODO] Automation toggled: " + enabled); }
     public void commandOptions() { eventBus.fireLog("[TODO] Options modal hook pending."); }
-
-    private String money(double value) { return String.format(Locale.US, "£%,.2f", value); }
 }
@@ -0,0 +1,28 @@
+package com.luxzentao.javabar.core.bridge;
+
+/**
+ * Everything the HUD draws, composed on the simulation thread after a command and read as-is by the render thread.
+ * Immutable; a newer command publishes a new one rather than touching this.
+ */
+public record HudSnapshot(
+        long version,
+        String pub,
+        String reputation,
+        String calendar,
+        String service,
+        String cash,
+        String weeklyCosts,
+        String report,
+        String flavor,
+        String debt,
+        String policy,
+        String staff,
+        String traffic,
+        String reportsLive,
+        String inventory,
+        String missionOverview,
+        String missionMilestones,
+        String missionRisk,
+        String missionEconomy,
+        String missionStaff
+) {}
@@ -0,0 +1,73 @@
+package com.luxzentao.javabar.core.bridge;
+
+import java.util.Arrays;
+
+/**
+ * One HUD panel's text together with the inputs it was rendered from.
+ *
+ * Each publish lists the panel's inputs again ({@link #begin()} then {@code with(...)}); {@link #changed()} says
+ * whether any differ from last time, and only then is the text rebuilt. Numbers are compared by value and objects
+ * by identity, so pass immutable things (strings, enums, cached section records), never a live collection.
+ * An unchanged panel hands back the very same String, which lets the HUD skip the label with an identity check.
+ */
+final class PanelText {
+    private long[] values = new long[8];
+    private long[] seenValues = new long[8];
+    private Object[] refs = new Object[4];
+    private Object[] seenRefs = new Object[4];
+    private int valueCount;
+    private int refCount;
+    private int seenValueCount = -1;
+    private int seenRefCount = -1;
+    private String text = "";
+
+    PanelText begin() {
+        valueCount = 0;
+        refCount = 0;
+        return this;
+    }
+
+    PanelText with(long value) {
+        if (valueCount == values.length) values = Arrays.copyOf(values, valueCount * 2);
+        values[valueCount++] = value;
+        return this;
+    }
+
+    PanelText with(double value) {
+        return with(Double.doubleToLongBits(value));
+    }
+
+    PanelText with(boolean value) {
+        return with(value ? 1L : 0L);
+    }
+
+    PanelText with(Object ref) {
+        if (refCount == refs.length) refs = Arrays.copyOf(refs, refCount * 2);
+        refs[refCount++] = ref;
+        return this;
+    }
+
+    /** True the first time and whenever an input differs from the previous {@link #begin()} round. */
+    boolean changed() {
+        boolean same = valueCount == seenValueCount && refCount == seenRefCount
+                && Arrays.equals(values, 0, valueCount, seenValues, 0, valueCount);
+        for (int i = 0; same && i < refCount; i++) same = refs[i] == seenRefs[i];
+        if (same) return false;
+
+        if (seenValues.length < valueCount) seenValues = new long[values.length];
+        if (seenRefs.length < refCount) seenRefs = new Object[refs.length];
+        System.arraycopy(values, 0, seenValues, 0, valueCount);
+        System.arraycopy(refs, 0, seenRefs, 0, refCount);
+        seenValueCount = valueCount;
+        seenRefCount = refCount;
+        return true;
+    }
+
+    /** Takes the builder's contents, keeping the old String if the text came out the same anyway. */
+    String set(CharSequence rendered) {
+        if (!text.contentEquals(rendered)) text = rendered.toString();
+        return text;
+    }
+
+    String text() { return text; }
+}
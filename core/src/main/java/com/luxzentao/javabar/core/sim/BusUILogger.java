@@ -1,6 +1,8 @@
 package com.luxzentao.javabar.core.sim;
 
 import com.luxzentao.javabar.core.EventCard;
+import com.luxzentao.javabar.core.EventJournal;
+import com.luxzentao.javabar.core.Logger;
 import com.luxzentao.javabar.core.UILogger;
 
 public class BusUILogger extends UILogger {
@@ -10,37 +12,43 @@ public class BusUILogger extends UILogger {
         this.eventBus = eventBus;
     }
 
-    @Override public void info(String s) { super.info(s); eventBus.fireLog(s); }
-    @Override public void pos(String s) { super.pos(s); eventBus.fireLog(s); }
-    @Override public void neg(String s) { super.neg(s); eventBus.fireLog(s); }
-    @Override public void event(String s) { super.event(s); eventBus.fireLog(s); }
-    @Override public void header(String s) { super.header(s); eventBus.fireLog(s); }
-
-    @Override public void neutral(String s) { super.neutral(s); eventBus.fireLog(s); }
-    @Override public void mid(String s) { super.mid(s); eventBus.fireLog(s); }
-    @Override public void great(String s) { super.great(s); eventBus.fireLog(s); }
-    @Override public void action(String s) { super.action(s); eventBus.fireLog(s); }
-    @Override public void warning(String s) { super.warning(s); eventBus.fireLog(s); }
-    @Override public void critical(String s) { super.critical(s); eventBus.fireLog(s); }
-    @Override public void money(String s) { super.money(s); eventBus.fireLog(s); }
-    @Override public void security(String s) { super.security(s); eventBus.fireLog(s); }
-    @Override public void reputation(String s) { super.reputation(s); eventBus.fireLog(s); }
+    @Override public void info(String s) { super.info(s); eventBus.fireLog(s, Logger.Level.INFO); }
+    @Override public void pos(String s) { super.pos(s); eventBus.fireLog(s, Logger.Level.POS); }
+    @Override public void neg(String s) { super.neg(s); eventBus.fireLog(s, Logger.Level.NEG); }
+    @Override public void event(String s) { super.event(s); eventBus.fireLog(s, Logger.Level.EVENT); }
+    @Override public void header(String s) { super.header(s); eventBus.fireLog(s, Logger.Level.HEADER); }
+
+    @Override public void neutral(String s) { super.neutral(s); eventBus.fireLog(s, Logger.Level.INFO); }
+    @Override public void mid(String s) { super.mid(s); eventBus.fireLog(s, Logger.Level.INFO); }
+    @Override public void great(String s) { super.great(s); eventBus.fireLog(s, Logger.Level.POS); }
+    @Override public void action(String s) { super.action(s); eventBus.fireLog(s, Logger.Level.ACTION); }
+    @Override public void warning(String s) { super.warning(s); eventBus.fireLog(s, Logger.Level.WARNING); }
+    @Override public void critical(String s) { super.critical(s); eventBus.fireLog(s, Logger.Level.CRITICAL); }
+    @Override public void money(String s) { super.money(s); eventBus.fireLog(s, Logger.Level.INFO); }
+    @Override public void security(String s) { super.security(s); eventBus.fireLog(s, Logger.Level.INFO); }
+    @Override public void reputation(String s) { super.reputation(s); eventBus.fireLog(s, Logger.Level.INFO); }
+
+    /** Journal records go to the HUD as copied columns; the panel renders the ones it shows. */
+    @Override
+    public void record(EventJournal journal, long seq) {
+        eventBus.fireJournal(journal, seq);
+    }
 
     @Override
     public void popup(String title, String body, String effects) {
         super.popup(title, body, effects);
-        eventBus.fireLog((title == null ? "" : title) + " | " + (body == null ? "" : body));
+        eventBus.fireLog((title == null ? "" : title) + " | " + (body == null ? "" : body), Logger.Level.POPUP);
     }
 
     @Override
     public void popup(EventCard card) {
         super.popup(card);
-        if (card != null) eventBus.fireLog(card.title() + " | " + card.body());
+        if (card != null) eventBus.fireLog(card.title() + " | " + card.body(), Logger.Level.POPUP);
     }
 
     @Override
     public void popupUpgrade(String title, String body, String effects) {
         super.popupUpgrade(title, body, effects);
-        eventBus.fireLog((title == null ? "" : title) + " | " + (body == null ? "" : body));
+        eventBus.fireLog((title == null ? "" : title) + " | " + (body == null ? "" : body), Logger.Level.POPUP);
     }
 }
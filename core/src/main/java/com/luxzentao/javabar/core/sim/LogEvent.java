@@ -0,0 +1,31 @@
+package com.luxzentao.javabar.core.sim;
+
+import com.luxzentao.javabar.core.EventJournal;
+import com.luxzentao.javabar.core.Logger;
+
+/**
+ * One queued log line: either prose or a copied journal record. {@code repeats} counts identical prose lines that
+ * arrived back to back and were merged into this one.
+ */
+public record LogEvent(String message, Logger.Level level, EventJournal.Entry entry, int repeats) {
+
+    static LogEvent line(String message, Logger.Level level) {
+        return new LogEvent(message, level, null, 1);
+    }
+
+    static LogEvent journal(EventJournal.Entry entry) {
+        return new LogEvent(null, entry.level(), entry, 1);
+    }
+
+    public boolean isJournal() { return entry != null; }
+
+    /** Journal text is rendered here, on the reader's side, from the record copied when it was queued. */
+    public String text() {
+        String base = entry == null ? message : entry.render();
+        return repeats > 1 ? base + " (x" + repeats + ")" : base;
+    }
+
+    LogEvent repeated() {
+        return new LogEvent(message, level, entry, repeats + 1);
+    }
+}
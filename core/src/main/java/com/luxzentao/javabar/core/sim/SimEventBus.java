@@ -1,10 +1,38 @@
 package com.luxzentao.javabar.core.sim;
 
+import com.luxzentao.javabar.core.EventJournal;
+import com.luxzentao.javabar.core.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Carries simulation output to the UI.
+ *
+ * Log lines and journal records are queued in a bounded ring as they are written, so the simulation never waits
+ * on a listener; {@link #flush()} hands them over once per frame on the render thread as one batch. Bursts are absorbed by merging repeats of the same line and,
+ * once the ring is full, by dropping chatter (journal records and plain info / pos / neg lines) while anything
+ * louder evicts the oldest entry. Whatever was dropped is reported as one warning in the next batch.
+ */
 public class SimEventBus {
+    public static final int DEFAULT_CAPACITY = 1024;
+
     private final CopyOnWriteArrayList<SimListener> listeners = new CopyOnWriteArrayList<>();
 
+    private final LogEvent[] ring;
+    private int head;
+    private int size;
+    private int dropped;
+    private final ArrayList<LogEvent> batch = new ArrayList<>();
+
+    public SimEventBus() { this(DEFAULT_CAPACITY); }
+
+    public SimEventBus(int capacity) {
+        this.ring = new LogEvent[Math.max(16, capacity)];
+    }
+
     public void addListener(SimListener listener) {
         if (listener != null) listeners.addIfAbsent(listener);
     }
@@ -13,32 +41,75 @@ public class SimEventBus {
         listeners.remove(listener);
     }
 
-    public void fireWeek(int week) {
-        for (SimListener listener : listeners) listener.onWeekChanged(week);
+    public void fireLog(String message) {
+        fireLog(message, Logger.Level.INFO);
     }
 
-    public void fireCash(double cash) {
-        for (SimListener listener : listeners) listener.onCashChanged(cash);
+    public void fireLog(String message, Logger.Level level) {
+        if (message == null || message.isBlank()) return;
+        enqueue(LogEvent.line(message, level == null ? Logger.Level.INFO : level));
     }
 
-    public void fireLog(String message) {
-        if (message == null || message.isBlank()) return;
-        for (SimListener listener : listeners) listener.onLog(message);
+    /** Call on the thread writing {@code journal}: the record is copied out here, before the ring can reuse it. */
+    public void fireJournal(EventJournal journal, long seq) {
+        if (journal == null || !journal.contains(seq)) return;
+        enqueue(LogEvent.journal(journal.entry(seq)));
     }
 
-    public void fireNightStatus(boolean nightOpen) {
-        for (SimListener listener : listeners) listener.onNightStatusChanged(nightOpen);
+    /** Lines waiting for the next flush. */
+    public synchronized int pending() {
+        return size;
     }
 
-    public void fireRep(int rep) {
-        for (SimListener listener : listeners) listener.onRepChanged(rep);
+    private synchronized void enqueue(LogEvent event) {
+        if (size > 0 && !event.isJournal()) {
+            int tail = (head + size - 1) % ring.length;
+            LogEvent last = ring[tail];
+            if (!last.isJournal() && last.level() == event.level() && last.message().equals(event.message())) {
+                ring[tail] = last.repeated();
+                return;
+            }
+        }
+        if (size == ring.length) {
+            if (isChatter(event.level())) {
+                dropped++;
+                return;
+            }
+            head = (head + 1) % ring.length;
+            size--;
+            dropped++;
+        }
+        ring[(head + size) % ring.length] = event;
+        size++;
     }
 
-    public void fireStaff(int total) {
-        for (SimListener listener : listeners) listener.onStaffChanged(total);
+    private static boolean isChatter(Logger.Level level) {
+        return level == Logger.Level.INFO || level == Logger.Level.POS || level == Logger.Level.NEG;
     }
 
-    public void firePunters(int count) {
-        for (SimListener listener : listeners) listener.onPuntersChanged(count);
+    /**
+     * Delivers everything queued since the last call as one {@link SimListener#onLogBatch} batch. Call once per frame
+     * on the thread that owns the UI.
+     */
+    public void flush() {
+        synchronized (this) {
+            batch.clear();
+            if (dropped > 0) {
+                batch.add(LogEvent.line(dropped + " log line(s) skipped during a burst.", Logger.Level.WARNING));
+                dropped = 0;
+            }
+            for (int i = 0; i < size; i++) {
+                int idx = (head + i) % ring.length;
+                batch.add(ring[idx]);
+                ring[idx] = null;
+            }
+            head = 0;
+            size = 0;
+        }
+        if (!batch.isEmpty()) {
+            List<LogEvent> view = Collections.unmodifiableList(batch);
+            for (SimListener listener : listeners) listener.onLogBatch(view);
+            batch.clear();
+        }
     }
 }
@@ -1,19 +1,29 @@
 package com.luxzentao.javabar.core.sim;
 
+import com.luxzentao.javabar.core.EventJournal;
+import com.luxzentao.javabar.core.Logger;
+
+import java.util.List;
+
 public interface SimListener {
-    void onWeekChanged(int week);
-    void onCashChanged(double cash);
     void onLog(String message);
 
-    /** Called whenever the bar's open/closed status changes. */
-    default void onNightStatusChanged(boolean nightOpen) {}
-
-    /** Called when reputation changes. */
-    default void onRepChanged(int rep) {}
+    /** Log line with the channel it was written on, so listeners can style it without parsing the text. */
+    default void onLog(String message, Logger.Level level) { onLog(message); }
 
-    /** Called when total active staff count changes. */
-    default void onStaffChanged(int total) {}
+    /**
+     * Everything logged since the last frame, oldest first. The list is only valid for the duration of the call.
+     * The default hands each entry to {@link #onJournalEvent} or {@link #onLog(String, Logger.Level)}.
+     */
+    default void onLogBatch(List<LogEvent> batch) {
+        for (LogEvent event : batch) {
+            if (event.isJournal()) onJournalEvent(event.entry());
+            else onLog(event.text(), event.level());
+        }
+    }
 
-    /** Called when the number of punters currently in the bar changes. */
-    default void onPuntersChanged(int count) {}
+    /** Typed journal record. Render only if the line is actually going to be shown. */
+    default void onJournalEvent(EventJournal.Entry entry) {
+        onLog(entry.render(), entry.level());
+    }
 }
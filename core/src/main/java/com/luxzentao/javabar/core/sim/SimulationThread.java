@@ -0,0 +1,125 @@
+package com.luxzentao.javabar.core.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The one thread allowed to mutate the simulation.
+ *
+ * UI code submits commands instead of calling {@code Simulation} directly; they run one at a time, in order, on a
+ * background thread, and after each one {@code publish} runs on that same thread to hand the render thread a fresh
+ * immutable snapshot. A slow close-night then costs the HUD a stale frame or two, not a frozen one.
+ *
+ * Follow-up work that must touch the scene graph (or read live state, like a window rebuilding its rows) is passed
+ * back through {@code ui}, normally {@code Gdx.app::postRunnable}, and only runs once the queue has drained, so it
+ * never sees the simulation half way through a command.
+ */
+public final class SimulationThread {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "simulation");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Runnable publish;
+    private final Executor ui;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<Runnable> idleWaiters = new ArrayList<>();
+
+    public SimulationThread(Runnable publish, Executor ui) {
+        this.publish = publish;
+        this.ui = ui;
+    }
+
+    public void submit(Runnable command) {
+        submit(command, null);
+    }
+
+    /** Runs {@code command} on the simulation thread, then {@code thenOnUi} on the UI thread once idle. */
+    public void submit(Runnable command, Runnable thenOnUi) {
+        inFlight.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                ui.execute(() -> { throw e; });
+            } finally {
+                publishThenFinish(thenOnUi);
+            }
+        });
+    }
+
+    /** Like {@link #submit(Runnable, Runnable)}, passing the command's result to the UI callback. */
+    public <T> void call(Supplier<T> command, Consumer<T> thenOnUi) {
+        inFlight.incrementAndGet();
+        executor.execute(() -> {
+            Runnable followUp = null;
+            try {
+                T result = command.get();
+                followUp = () -> thenOnUi.accept(result);
+            } catch (RuntimeException e) {
+                ui.execute(() -> { throw e; });
+            } finally {
+                publishThenFinish(followUp);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code task} now if no command is queued or running, otherwise once the queue drains. Call from the UI
+     * thread; anything that reads live simulation state outside a command should go through here.
+     */
+    public void whenIdle(Runnable task) {
+        synchronized (idleWaiters) {
+            if (inFlight.get() != 0) {
+                idleWaiters.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    public boolean isIdle() {
+        return inFlight.get() == 0;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A failing publish must not leave the command counted as in flight, or every whenIdle task waits forever.
+    private void publishThenFinish(Runnable followUp) {
+        try {
+            publish.run();
+        } catch (RuntimeException e) {
+            ui.execute(() -> { throw e; });
+        } finally {
+            finish(followUp);
+        }
+    }
+
+    private void finish(Runnable followUp) {
+        List<Runnable> ready = null;
+        synchronized (idleWaiters) {
+            if (followUp != null) idleWaiters.add(followUp);
+            if (inFlight.decrementAndGet() == 0 && !idleWaiters.isEmpty()) {
+                ready = new ArrayList<>(idleWaiters);
+                idleWaiters.clear();
+            }
+        }
+        if (ready == null) return;
+        // Re-checked on the UI thread: another command may have been submitted before these get to run.
+        for (Runnable task : ready) ui.execute(() -> whenIdle(task));
+    }
+}
@@ -11,6 +11,7 @@ import com.luxzentao.javabar.core.LandlordActionId;
 import com.luxzentao.javabar.core.LandlordActionResolution;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -23,15 +24,17 @@ public class ActionsWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Skin uiSkin;
     private final Label headerLabel;
     private final Table actionRows;
 
-    public ActionsWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public ActionsWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Landlord Actions", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -94,13 +97,14 @@ public class ActionsWindow extends Window {
             useBtn.addListener(new ChangeListener() {
                 @Override public void changed(ChangeEvent event, Actor actor) {
                     if (useBtn.isDisabled()) return;
-                    LandlordActionResolution result = sim.resolveLandlordAction(id);
-                    if (result != null) {
-                        eventBus.fireLog(result.blocked()
-                                ? "Action blocked: " + result.message()
-                                : "Action: " + def.getName() + " — " + result.message());
-                    }
-                    refresh();
+                    simThread.call(() -> sim.resolveLandlordAction(id), result -> {
+                        if (result != null) {
+                            eventBus.fireLog(result.blocked()
+                                    ? "Action blocked: " + result.message()
+                                    : "Action: " + def.getName() + " — " + result.message());
+                        }
+                        refresh();
+                    });
                 }
             });
             actionRows.add(useBtn).width(80f).height(34f).pad(2f);
@@ -10,6 +10,7 @@ import com.luxzentao.javabar.core.MilestoneSystem;
 import com.luxzentao.javabar.core.PubActivity;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -21,14 +22,16 @@ public class ActivitiesWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Skin uiSkin;
     private final Table activityRows;
 
-    public ActivitiesWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public ActivitiesWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Activities (Scheduled)", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -53,7 +56,10 @@ public class ActivitiesWindow extends Window {
     }
 
     public void refresh() {
-        sim.recomputeActivityAvailability();
+        simThread.submit(sim::recomputeActivityAvailability, this::rebuildRows);
+    }
+
+    private void rebuildRows() {
         activityRows.clear();
         activityRows.add(new Label("Activity", uiSkin)).left().minWidth(180f).padRight(8f);
         activityRows.add(new Label("Cost", uiSkin)).width(60f).center();
@@ -100,9 +106,10 @@ public class ActivitiesWindow extends Window {
             scheduleBtn.addListener(new ChangeListener() {
                 @Override public void changed(ChangeEvent event, Actor actor) {
                     if (scheduleBtn.isDisabled()) return;
-                    sim.startActivity(a);
-                    eventBus.fireLog("Scheduled: " + a);
-                    refresh();
+                    simThread.submit(() -> {
+                        sim.startActivity(a);
+                        eventBus.fireLog("Scheduled: " + a);
+                    }, ActivitiesWindow.this::refresh);
                 }
             });
             activityRows.add(scheduleBtn).width(100f).height(34f).pad(2f);
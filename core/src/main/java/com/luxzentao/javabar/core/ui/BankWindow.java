@@ -10,6 +10,7 @@ import com.luxzentao.javabar.core.CreditLine;
 import com.luxzentao.javabar.core.GameState;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -22,16 +23,18 @@ public class BankWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Label scoreLabel;
     private final Table linesTable;
     private final Table banksTable;
     private final Skin uiSkin;
 
-    public BankWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public BankWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Bank / Finance", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -89,9 +92,10 @@ public class BankWindow extends Window {
                 repayBtn.addListener(new ChangeListener() {
                     @Override public void changed(ChangeEvent event, Actor actor) {
                         if (!repayBtn.isDisabled()) {
-                            sim.repayCreditLineInFull(line.getId());
-                            eventBus.fireLog("Repaid " + line.getLenderName());
-                            refresh();
+                            simThread.submit(() -> {
+                                sim.repayCreditLineInFull(line.getId());
+                                eventBus.fireLog("Repaid " + line.getLenderName());
+                            }, BankWindow.this::refresh);
                         }
                     }
                 });
@@ -123,9 +127,10 @@ public class BankWindow extends Window {
             openBtn.addListener(new ChangeListener() {
                 @Override public void changed(ChangeEvent event, Actor actor) {
                     if (!openBtn.isDisabled()) {
-                        sim.openCreditLine(bank);
-                        eventBus.fireLog("Applied for credit: " + bank.getName());
-                        refresh();
+                        simThread.submit(() -> {
+                            sim.openCreditLine(bank);
+                            eventBus.fireLog("Applied for credit: " + bank.getName());
+                        }, BankWindow.this::refresh);
                     }
                 }
             });
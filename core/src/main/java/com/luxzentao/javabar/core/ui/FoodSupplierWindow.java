@@ -9,6 +9,7 @@ import com.luxzentao.javabar.core.Food;
 import com.luxzentao.javabar.core.GameState;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -23,16 +24,18 @@ public class FoodSupplierWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Skin uiSkin;
     private final Label noticeLabel;
     private final Label creditLabel;
     private final Table foodRows;
 
-    public FoodSupplierWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public FoodSupplierWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Food Supplier (Bulk Buy)", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -101,9 +104,10 @@ public class FoodSupplierWindow extends Window {
                 btn.addListener(new ChangeListener() {
                     @Override public void changed(ChangeEvent event, Actor actor) {
                         if (btn.isDisabled()) return;
-                        sim.buyFoodFromSupplier(f, qty);
-                        eventBus.fireLog("Bought " + qty + "x " + f.getName());
-                        refresh();
+                        simThread.submit(() -> {
+                            sim.buyFoodFromSupplier(f, qty);
+                            eventBus.fireLog("Bought " + qty + "x " + f.getName());
+                        }, FoodSupplierWindow.this::refresh);
                     }
                 });
                 foodRows.add(btn).width(72f).height(46f).pad(2f);
@@ -1,15 +1,20 @@
 package com.luxzentao.javabar.core.ui;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.utils.Align;
+import com.luxzentao.javabar.core.EventJournal;
 import com.luxzentao.javabar.core.GameState;
+import com.luxzentao.javabar.core.Logger;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.bridge.HudSimBridge;
+import com.luxzentao.javabar.core.bridge.HudSnapshot;
 import com.luxzentao.javabar.core.sim.SimEventBus;
 import com.luxzentao.javabar.core.sim.SimListener;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 import com.luxzentao.javabar.core.ui.hud.ActivityLogPanel;
 import com.luxzentao.javabar.core.ui.hud.MissionControlModal;
 import com.luxzentao.javabar.core.ui.hud.RightDrawer;
@@ -34,6 +39,7 @@ public class HudView implements SimListener {
     private final Label inventoryBody;
 
     private final MissionControlModal missionControlModal;
+    private HudSnapshot shown;
 
     // Modals wired to bridge hooks
     private final SupplierWindow supplierWindow;
@@ -47,24 +53,25 @@ public class HudView implements SimListener {
     private final ActivitiesWindow activitiesWindow;
     private final ActionsWindow actionsWindow;
 
-    public HudView(Stage stage, Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public HudView(Stage stage, Skin skin, Simulation sim, GameState state, SimEventBus eventBus, HudSimBridge bridge) {
         this.stage = stage;
         this.eventBus = eventBus;
         this.toastManager = new ToastManager(stage, skin);
-        this.bridge = new HudSimBridge(sim, state, eventBus);
+        this.bridge = bridge;
         this.missionControlModal = new MissionControlModal(skin, bridge);
 
-        // Create windows
-        supplierWindow     = new SupplierWindow(skin, sim, state, eventBus);
-        foodSupplierWindow = new FoodSupplierWindow(skin, sim, state, eventBus);
-        bankWindow         = new BankWindow(skin, sim, state, eventBus);
-        loanSharkWindow    = new LoanSharkWindow(skin, sim, state, eventBus);
-        staffWindow        = new StaffWindow(skin, sim, state, eventBus);
-        innWindow          = new InnWindow(skin, sim, state, eventBus);
-        upgradesWindow     = new UpgradesWindow(skin, sim, state, eventBus);
-        securityWindow     = new SecurityWindow(skin, sim, state, eventBus);
-        activitiesWindow   = new ActivitiesWindow(skin, sim, state, eventBus);
-        actionsWindow      = new ActionsWindow(skin, sim, state, eventBus);
+        // Create windows; their actions go through the simulation thread like the bar's buttons
+        SimulationThread simThread = bridge.simulationThread();
+        supplierWindow     = new SupplierWindow(skin, sim, state, eventBus, simThread);
+        foodSupplierWindow = new FoodSupplierWindow(skin, sim, state, eventBus, simThread);
+        bankWindow         = new BankWindow(skin, sim, state, eventBus, simThread);
+        loanSharkWindow    = new LoanSharkWindow(skin, sim, state, eventBus, simThread);
+        staffWindow        = new StaffWindow(skin, sim, state, eventBus, simThread);
+        innWindow          = new InnWindow(skin, sim, state, eventBus, simThread);
+        upgradesWindow     = new UpgradesWindow(skin, sim, state, eventBus, simThread);
+        securityWindow     = new SecurityWindow(skin, sim, state, eventBus, simThread);
+        activitiesWindow   = new ActivitiesWindow(skin, sim, state, eventBus, simThread);
+        actionsWindow      = new ActionsWindow(skin, sim, state, eventBus, simThread);
 
         // Wire hooks
         bridge.setSupplierHook(()      -> supplierWindow.show(stage));
@@ -232,31 +239,35 @@ public class HudView implements SimListener {
     }
 
     private void refreshStats() {
-        var m = bridge.metrics();
-        leftA.setText(m.hudPubName + "\n" + bridge.weekLine());
-        leftB.setText(m.hudRep + "\nIdentity: " + bridge.metrics().reputationIdentity.split("\n")[0] + "\nRumor: " + bridge.metrics().rumors.split("\n")[0]);
-        leftC.setText(bridge.weekLine() + "\n" + bridge.calendarLine());
-        leftD.setText(bridge.serviceLine());
-
-        midA.setText(m.hudCash);
-        midB.setText("Weekly Costs\n" + bridge.costsSummaryLineA() + "\n" + bridge.costsSummaryLineB());
-        midC.setText(bridge.reportLine());
-        midD.setText(stateFlavor(m));
-
-        rightA.setText(m.hudDebt);
-        rightB.setText(bridge.policyLine());
-        rightC.setText(bridge.staffLine() + "\n" + bridge.countsLine());
-        rightD.setText(bridge.forecastLine() + "\n" + bridge.topSellerLine());
-
-        reportsBody.setText(bridge.reportsLiveText());
-        inventoryBody.setText(bridge.inventoryText());
+        // Labels only ever come from the published snapshot; the live state belongs to the simulation thread.
+        // Until a command publishes a new one there is nothing to redo, and within a new one the bridge hands back
+        // the same String for every panel it did not re-render, so only those labels are touched (and re-laid out).
+        HudSnapshot snap = bridge.snapshot();
+        if (snap == shown) return;
+        HudSnapshot was = shown;
+        shown = snap;
+        boolean all = was == null;
+
+        if (all || snap.pub() != was.pub()) leftA.setText(snap.pub());
+        if (all || snap.reputation() != was.reputation()) leftB.setText(snap.reputation());
+        if (all || snap.calendar() != was.calendar()) leftC.setText(snap.calendar());
+        if (all || snap.service() != was.service()) leftD.setText(snap.service());
+
+        if (all || snap.cash() != was.cash()) midA.setText(snap.cash());
+        if (all || snap.weeklyCosts() != was.weeklyCosts()) midB.setText(snap.weeklyCosts());
+        if (all || snap.report() != was.report()) midC.setText(snap.report());
+        if (all || snap.flavor() != was.flavor()) midD.setText(snap.flavor());
+
+        if (all || snap.debt() != was.debt()) rightA.setText(snap.debt());
+        if (all || snap.policy() != was.policy()) rightB.setText(snap.policy());
+        if (all || snap.staff() != was.staff()) rightC.setText(snap.staff());
+        if (all || snap.traffic() != was.traffic()) rightD.setText(snap.traffic());
+
+        if (all || snap.reportsLive() != was.reportsLive()) reportsBody.setText(snap.reportsLive());
+        if (all || snap.inventory() != was.inventory()) inventoryBody.setText(snap.inventory());
         missionControlModal.refresh();
     }
 
-    private String stateFlavor(com.luxzentao.javabar.core.MetricsSnapshot m) {
-        return m.overviewLines.isEmpty() ? "NPC: Keeping the taps warm." : m.overviewLines.get(Math.min(3, m.overviewLines.size() - 1));
-    }
-
     private void closeDrawers() {
         reportsDrawer.close();
         inventoryDrawer.close();
@@ -283,20 +294,27 @@ public class HudView implements SimListener {
         inventoryDrawer.onResize();
     }
 
-    public void tick() { refreshStats(); }
+    public void tick() {
+        refreshStats();
+        toastManager.update(Gdx.graphics.getDeltaTime());
+    }
 
     public void dispose() { eventBus.removeListener(this); }
 
-    @Override public void onWeekChanged(int week) { refreshStats(); }
-    @Override public void onCashChanged(double cash) { refreshStats(); }
-    @Override public void onRepChanged(int rep) { refreshStats(); }
-    @Override public void onStaffChanged(int total) { refreshStats(); }
-    @Override public void onPuntersChanged(int count) { refreshStats(); }
-    @Override public void onNightStatusChanged(boolean nightOpen) { refreshStats(); }
-
     @Override
     public void onLog(String message) {
-        activityLogPanel.append(message);
-        toastManager.show(message);
+        onLog(message, Logger.Level.INFO);
+    }
+
+    @Override
+    public void onLog(String message, Logger.Level level) {
+        activityLogPanel.append(message, level);
+        toastManager.show(message, level);
+    }
+
+    // Journal records are per-sale/per-rep chatter: log panel only, no toast per line.
+    @Override
+    public void onJournalEvent(EventJournal.Entry entry) {
+        activityLogPanel.append(entry);
     }
 }
@@ -7,6 +7,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.luxzentao.javabar.core.GameState;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -19,6 +20,7 @@ public class InnWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Skin uiSkin;
     private final Label roomsLabel;
     private final Label bookedLabel;
@@ -27,11 +29,12 @@ public class InnWindow extends Window {
     private final Label summaryLabel;
     private final Slider priceSlider;
 
-    public InnWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public InnWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Inn", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -54,7 +57,8 @@ public class InnWindow extends Window {
         priceSlider.addListener(new ChangeListener() {
             @Override public void changed(ChangeEvent event, Actor actor) {
                 if (!state.innUnlocked) return;
-                sim.setRoomPrice(priceSlider.getValue());
+                double price = priceSlider.getValue();
+                simThread.submit(() -> sim.setRoomPrice(price));
                 priceLabel.setText("Room price: £" + String.format(Locale.US, "%.0f", priceSlider.getValue()));
             }
         });
@@ -8,6 +8,7 @@ import com.luxzentao.javabar.core.CreditLine;
 import com.luxzentao.javabar.core.GameState;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -20,16 +21,18 @@ public class LoanSharkWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Skin uiSkin;
     private final Label sharkLabel;
     private final Table linesTable;
     private final Table sharkTable;
 
-    public LoanSharkWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public LoanSharkWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Finance", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -78,9 +81,10 @@ public class LoanSharkWindow extends Window {
                 repayBtn.addListener(new ChangeListener() {
                     @Override public void changed(ChangeEvent event, Actor actor) {
                         if (!repayBtn.isDisabled()) {
-                            sim.repayCreditLineInFull(line.getId());
-                            eventBus.fireLog("Repaid " + line.getLenderName());
-                            refresh();
+                            simThread.submit(() -> {
+                                sim.repayCreditLineInFull(line.getId());
+                                eventBus.fireLog("Repaid " + line.getLenderName());
+                            }, LoanSharkWindow.this::refresh);
                         }
                     }
                 });
@@ -103,9 +107,10 @@ public class LoanSharkWindow extends Window {
             TextButton openBtn = new TextButton("Take Loan Shark Loan (High APR)", uiSkin);
             openBtn.addListener(new ChangeListener() {
                 @Override public void changed(ChangeEvent event, Actor actor) {
-                    sim.openSharkLine();
-                    eventBus.fireLog("Took loan shark loan.");
-                    refresh();
+                    simThread.submit(() -> {
+                        sim.openSharkLine();
+                        eventBus.fireLog("Took loan shark loan.");
+                    }, LoanSharkWindow.this::refresh);
                 }
             });
             sharkTable.add(openBtn).height(38f).pad(2f);
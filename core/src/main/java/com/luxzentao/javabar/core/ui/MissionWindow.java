@@ -81,7 +81,7 @@ public class MissionWindow extends Window {
 
         sb.append("\n=== NIGHT STATS ===\n");
         sb.append(String.format(Locale.US, "  Punters:    %d / %d\n",
-                state.nightPunters.size(), state.maxBarOccupancy));
+                state.punterPool.size(), state.maxBarOccupancy));
         sb.append(String.format(Locale.US, "  Sales:      %d\n", state.nightSales));
         sb.append(String.format(Locale.US, "  Revenue:    £%.2f\n", state.nightRevenue));
 
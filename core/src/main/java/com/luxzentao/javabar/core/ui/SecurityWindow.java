@@ -9,6 +9,7 @@ import com.luxzentao.javabar.core.SecurityPolicy;
 import com.luxzentao.javabar.core.SecuritySystem;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -21,17 +22,19 @@ public class SecurityWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Skin uiSkin;
     private final Label breakdownLabel;
     private final TextButton upgradeBtn;
     private final TextButton bouncerBtn;
     private final TextButton marshallBtn;
 
-    public SecurityWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public SecurityWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Security", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -51,9 +54,10 @@ public class SecurityWindow extends Window {
             TextButton btn = new TextButton(policy.getLabel(), uiSkin);
             btn.addListener(new ChangeListener() {
                 @Override public void changed(ChangeEvent event, Actor actor) {
-                    sim.setSecurityPolicy(policy);
-                    eventBus.fireLog("Security policy: " + policy.getLabel());
-                    refresh();
+                    simThread.submit(() -> {
+                        sim.setSecurityPolicy(policy);
+                        eventBus.fireLog("Security policy: " + policy.getLabel());
+                    }, SecurityWindow.this::refresh);
                 }
             });
             policyRow.add(btn).pad(3f).height(36f);
@@ -66,26 +70,29 @@ public class SecurityWindow extends Window {
         upgradeBtn.addListener(new ChangeListener() {
             @Override public void changed(ChangeEvent event, Actor actor) {
                 if (upgradeBtn.isDisabled()) return;
-                sim.upgradeSecurity();
-                eventBus.fireLog("Security level upgraded.");
-                refresh();
+                simThread.submit(() -> {
+                    sim.upgradeSecurity();
+                    eventBus.fireLog("Security level upgraded.");
+                }, SecurityWindow.this::refresh);
             }
         });
         bouncerBtn = new TextButton("", uiSkin);
         bouncerBtn.addListener(new ChangeListener() {
             @Override public void changed(ChangeEvent event, Actor actor) {
                 if (bouncerBtn.isDisabled()) return;
-                sim.hireBouncerTonight();
-                eventBus.fireLog("Bouncer hired for tonight.");
-                refresh();
+                simThread.submit(() -> {
+                    sim.hireBouncerTonight();
+                    eventBus.fireLog("Bouncer hired for tonight.");
+                }, SecurityWindow.this::refresh);
             }
         });
         marshallBtn = new TextButton("Hire Marshall", uiSkin);
         marshallBtn.addListener(new ChangeListener() {
             @Override public void changed(ChangeEvent event, Actor actor) {
-                sim.hireMarshall();
-                eventBus.fireLog("Marshall hired.");
-                refresh();
+                simThread.submit(() -> {
+                    sim.hireMarshall();
+                    eventBus.fireLog("Marshall hired.");
+                }, SecurityWindow.this::refresh);
             }
         });
         actionRow.add(upgradeBtn).pad(3f).height(38f).minWidth(240f);
@@ -9,6 +9,7 @@ import com.luxzentao.javabar.core.GameState;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.Staff;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 /**
  * Floating Scene2D Window for the Staff screen.
@@ -19,6 +20,7 @@ public class StaffWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Table rosterTable;
     private final Label summaryLabel;
     private final Skin uiSkin;
@@ -33,11 +35,12 @@ public class StaffWindow extends Window {
             Staff.Type.MANAGER
     };
 
-    public StaffWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public StaffWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Staff", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -55,9 +58,10 @@ public class StaffWindow extends Window {
             TextButton btn = new TextButton(prettyName(t), uiSkin);
             btn.addListener(new ChangeListener() {
                 @Override public void changed(ChangeEvent event, Actor actor) {
-                    sim.hireStaff(t);
-                    eventBus.fireLog("Hired " + prettyName(t));
-                    refresh();
+                    simThread.submit(() -> {
+                        sim.hireStaff(t);
+                        eventBus.fireLog("Hired " + prettyName(t));
+                    }, StaffWindow.this::refresh);
                 }
             });
             hireRow.add(btn).pad(4f).width(120f).height(38f);
@@ -96,30 +100,34 @@ public class StaffWindow extends Window {
 
         boolean nightOpen = state.nightOpen;
 
+        // Rows are looked up again on the simulation thread: commands queued ahead of a click can move people.
         int idx = 0;
         for (var s : state.fohStaff) {
-            final int i = idx++;
-            addStaffRow(rosterTable, i + 1, s, nightOpen, () -> {
-                sim.fireStaffAt(i);
+            idx++;
+            addStaffRow(rosterTable, idx, s, nightOpen, () -> simThread.submit(() -> {
+                int at = state.fohStaff.indexOf(s);
+                if (at < 0) return;
+                sim.fireStaffAt(at);
                 eventBus.fireLog("Fired " + s.getName());
-                refresh();
-            });
+            }, this::refresh));
         }
         for (var s : state.bohStaff) {
-            final int i = idx++;
-            addStaffRow(rosterTable, i + 1, s, nightOpen, () -> {
-                sim.fireBohStaffAt(state.bohStaff.indexOf(s));
+            idx++;
+            addStaffRow(rosterTable, idx, s, nightOpen, () -> simThread.submit(() -> {
+                int at = state.bohStaff.indexOf(s);
+                if (at < 0) return;
+                sim.fireBohStaffAt(at);
                 eventBus.fireLog("Fired " + s.getName());
-                refresh();
-            });
+            }, this::refresh));
         }
         for (var s : state.generalManagers) {
-            final int i = idx++;
-            addStaffRow(rosterTable, i + 1, s, nightOpen, () -> {
-                sim.fireManagerAt(state.generalManagers.indexOf(s));
+            idx++;
+            addStaffRow(rosterTable, idx, s, nightOpen, () -> simThread.submit(() -> {
+                int at = state.generalManagers.indexOf(s);
+                if (at < 0) return;
+                sim.fireManagerAt(at);
                 eventBus.fireLog("Fired " + s.getName());
-                refresh();
-            });
+            }, this::refresh));
         }
 
         if (idx == 0) {
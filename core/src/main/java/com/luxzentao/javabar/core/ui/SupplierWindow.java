@@ -9,6 +9,7 @@ import com.luxzentao.javabar.core.GameState;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.Wine;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -27,16 +28,18 @@ public class SupplierWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Skin uiSkin;
     private final Label dealLabel;
     private final Label creditLabel;
     private final Table wineRows;
 
-    public SupplierWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public SupplierWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Supplier (Bulk Buy)", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -111,9 +114,10 @@ public class SupplierWindow extends Window {
                 btn.addListener(new ChangeListener() {
                     @Override public void changed(ChangeEvent event, Actor actor) {
                         if (btn.isDisabled()) return;
-                        sim.buyFromSupplier(w, qty);
-                        eventBus.fireLog("Bought " + qty + "x " + w.getName());
-                        refresh();
+                        simThread.submit(() -> {
+                            sim.buyFromSupplier(w, qty);
+                            eventBus.fireLog("Bought " + qty + "x " + w.getName());
+                        }, SupplierWindow.this::refresh);
                     }
                 });
                 wineRows.add(btn).width(72f).height(46f).pad(2f);
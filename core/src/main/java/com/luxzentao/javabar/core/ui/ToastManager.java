@@ -1,46 +1,214 @@
 package com.luxzentao.javabar.core.ui;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Container;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
+import com.luxzentao.javabar.core.Logger;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Centre-screen toasts. Requests are queued and shown a few at a time from a fixed set of bubbles:
+ * critical lines and popups jump the queue, repeats of the same message (ignoring numbers) fold into one toast
+ * with a count, and routine chatter that has waited too long is dropped rather than shown late.
+ */
 public class ToastManager {
+    private static final int MAX_VISIBLE = 3;
+    private static final int MAX_QUEUED = 12;
+    private static final float MIN_INTERVAL = 0.25f;
+    private static final float STALE_AFTER = 3f;
+    private static final float FADE_IN = 0.15f;
+    private static final float HOLD = 2.2f;
+    private static final float FADE_OUT = 0.35f;
+    private static final float BUBBLE_HEIGHT = 60f;
+    private static final float GAP = 6f;
+
+    private static final class Toast {
+        String text;
+        String key;
+        int priority;
+        int count;
+        float waited;
+
+        String display() { return count > 1 ? text + " (x" + count + ")" : text; }
+    }
+
+    private static final class Slot {
+        final Container<Label> bubble;
+        final Label label;
+        Toast toast;
+        float time;
+
+        Slot(Container<Label> bubble, Label label) {
+            this.bubble = bubble;
+            this.label = label;
+        }
+    }
+
     private final Stage stage;
-    private final Skin skin;
+    private final Slot[] slots = new Slot[MAX_VISIBLE];
+    private final List<Toast> queue = new ArrayList<>();
+    private final ArrayDeque<Toast> spare = new ArrayDeque<>();
+    private float sinceLastShown = MIN_INTERVAL;
 
     public ToastManager(Stage stage, Skin skin) {
         this.stage = stage;
-        this.skin = skin;
+        Drawable background = skin.newDrawable("white", new Color(0.08f, 0.08f, 0.12f, 0.92f));
+        for (int i = 0; i < MAX_VISIBLE; i++) {
+            Label label = new Label("", skin);
+            label.setWrap(true);
+            label.setAlignment(Align.left);
+            Container<Label> bubble = new Container<>(label);
+            bubble.setBackground(background);
+            bubble.pad(8f);
+            bubble.fill();
+            bubble.setVisible(false);
+            slots[i] = new Slot(bubble, label);
+        }
     }
 
     public void show(String text) {
+        show(text, Logger.Level.ACTION);
+    }
+
+    public void show(String text, Logger.Level level) {
         if (text == null || text.isBlank()) return;
+        String key = keyOf(text);
+
+        for (Slot slot : slots) {
+            if (slot.toast != null && slot.toast.key.equals(key)) {
+                slot.toast.text = text;
+                slot.toast.count++;
+                slot.label.setText(slot.toast.display());
+                // Keep it up for another full hold rather than flashing it back in.
+                if (slot.time > FADE_IN) slot.time = FADE_IN;
+                return;
+            }
+        }
+        for (Toast queued : queue) {
+            if (queued.key.equals(key)) {
+                queued.text = text;
+                queued.count++;
+                return;
+            }
+        }
+
+        int priority = priority(level);
+        if (queue.size() >= MAX_QUEUED) {
+            int victim = lowestPriority();
+            if (queue.get(victim).priority > priority) return;
+            spare.push(queue.remove(victim));
+        }
+        Toast toast = spare.isEmpty() ? new Toast() : spare.pop();
+        toast.text = text;
+        toast.key = key;
+        toast.priority = priority;
+        toast.count = 1;
+        toast.waited = 0f;
+        queue.add(toast);
+    }
+
+    /** Advances visible toasts and starts the next queued one when there is room. Call once per frame. */
+    public void update(float delta) {
+        sinceLastShown += delta;
 
-        Label toastLabel = new Label(text, skin);
-        toastLabel.setWrap(true);
-        toastLabel.setAlignment(Align.left);
+        for (int i = queue.size() - 1; i >= 0; i--) {
+            Toast toast = queue.get(i);
+            toast.waited += delta;
+            if (toast.priority < 2 && toast.waited > STALE_AFTER) spare.push(queue.remove(i));
+        }
 
-        Container<Label> bubble = new Container<>(toastLabel);
-        bubble.setBackground(skin.newDrawable("white", new Color(0.08f, 0.08f, 0.12f, 0.92f)));
-        bubble.pad(8f);
-        bubble.fill();
+        for (Slot slot : slots) {
+            if (slot.toast == null) continue;
+            slot.time += delta;
+            if (slot.time >= FADE_IN + HOLD + FADE_OUT) {
+                slot.bubble.setVisible(false);
+                slot.bubble.remove();
+                spare.push(slot.toast);
+                slot.toast = null;
+                continue;
+            }
+            slot.bubble.getColor().a = alpha(slot.time);
+        }
+
+        if (queue.isEmpty() || sinceLastShown < MIN_INTERVAL) return;
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            if (slot.toast != null) continue;
+            Toast next = queue.remove(highestPriority());
+            present(slot, i, next);
+            sinceLastShown = 0f;
+            return;
+        }
+    }
+
+    private void present(Slot slot, int index, Toast toast) {
+        slot.toast = toast;
+        slot.time = 0f;
+        slot.label.setText(toast.display());
         float bw = Math.min(440f, stage.getWidth() * 0.6f);
-        float bh = 60f;
-        bubble.setSize(bw, bh);
-        bubble.setPosition((stage.getWidth() - bw) / 2f, (stage.getHeight() - bh) / 2f);
-        bubble.getColor().a = 0f;
-
-        stage.addActor(bubble);
-        bubble.addAction(Actions.sequence(
-                Actions.fadeIn(0.15f),
-                Actions.delay(2.2f),
-                Actions.fadeOut(0.35f),
-                Actions.removeActor()
-        ));
+        slot.bubble.setSize(bw, BUBBLE_HEIGHT);
+        slot.bubble.setPosition((stage.getWidth() - bw) / 2f,
+                (stage.getHeight() - BUBBLE_HEIGHT) / 2f - index * (BUBBLE_HEIGHT + GAP));
+        slot.bubble.getColor().a = 0f;
+        slot.bubble.setVisible(true);
+        if (slot.bubble.getStage() == null) stage.addActor(slot.bubble);
+        slot.bubble.toFront();
+    }
+
+    private static float alpha(float t) {
+        if (t < FADE_IN) return t / FADE_IN;
+        if (t < FADE_IN + HOLD) return 1f;
+        return Math.max(0f, 1f - (t - FADE_IN - HOLD) / FADE_OUT);
+    }
+
+    private int highestPriority() {
+        int best = 0;
+        for (int i = 1; i < queue.size(); i++) {
+            if (queue.get(i).priority > queue.get(best).priority) best = i;
+        }
+        return best;
+    }
+
+    private int lowestPriority() {
+        int worst = 0;
+        for (int i = 1; i < queue.size(); i++) {
+            if (queue.get(i).priority < queue.get(worst).priority) worst = i;
+        }
+        return worst;
+    }
+
+    private static int priority(Logger.Level level) {
+        if (level == null) return 0;
+        return switch (level) {
+            case CRITICAL, POPUP -> 3;
+            case WARNING, EVENT -> 2;
+            case ACTION, HEADER -> 1;
+            default -> 0;
+        };
+    }
+
+    /** Messages that differ only in their numbers ("Cash +GBP 3.03", "Cash +GBP 1.01") count as the same toast. */
+    private static String keyOf(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean inNumber = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean digit = Character.isDigit(c) || (inNumber && (c == '.' || c == ','));
+            if (digit) {
+                if (!inNumber) sb.append('#');
+                inNumber = true;
+            } else {
+                sb.append(c);
+                inNumber = false;
+            }
+        }
+        return sb.toString().trim();
     }
 }
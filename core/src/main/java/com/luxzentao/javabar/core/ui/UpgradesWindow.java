@@ -10,6 +10,7 @@ import com.luxzentao.javabar.core.MilestoneSystem;
 import com.luxzentao.javabar.core.PubUpgrade;
 import com.luxzentao.javabar.core.Simulation;
 import com.luxzentao.javabar.core.sim.SimEventBus;
+import com.luxzentao.javabar.core.sim.SimulationThread;
 
 import java.util.Locale;
 
@@ -23,15 +24,17 @@ public class UpgradesWindow extends Window {
     private final Simulation sim;
     private final GameState state;
     private final SimEventBus eventBus;
+    private final SimulationThread simThread;
     private final Table upgradeRows;
     private final Skin uiSkin;
     private final Label hintLabel;
 
-    public UpgradesWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus) {
+    public UpgradesWindow(Skin skin, Simulation sim, GameState state, SimEventBus eventBus, SimulationThread simThread) {
         super("Upgrades", skin);
         this.sim = sim;
         this.state = state;
         this.eventBus = eventBus;
+        this.simThread = simThread;
         this.uiSkin = skin;
 
         setMovable(true);
@@ -112,8 +115,7 @@ public class UpgradesWindow extends Window {
             buyBtn.addListener(new ChangeListener() {
                 @Override public void changed(ChangeEvent event, Actor actor) {
                     if (buyBtn.isDisabled()) return;
-                    sim.buyUpgrade(up);
-                    refresh();
+                    simThread.submit(() -> sim.buyUpgrade(up), UpgradesWindow.this::refresh);
                 }
             });
             upgradeRows.add(buyBtn).width(110f).height(38f).pad(2f);
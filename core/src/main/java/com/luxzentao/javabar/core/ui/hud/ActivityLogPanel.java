@@ -1,25 +1,82 @@
 package com.luxzentao.javabar.core.ui.hud;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.utils.Align;
+import com.luxzentao.javabar.core.EventJournal;
+import com.luxzentao.javabar.core.Logger;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 public class ActivityLogPanel extends Table {
-    private record LogEntry(String message, Color color, String ts) {}
+    private static final Color BAD = new Color(1f, 0.45f, 0.45f, 1f);
+    private static final Color GOOD = new Color(0.55f, 1f, 0.55f, 1f);
+    private static final Color REPORT = new Color(0.55f, 0.75f, 1f, 1f);
+    private static final DateTimeFormatter TS_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    /** Rows kept; older ones fall off the top. */
+    public static final int CAPACITY = 500;
+
+    /** Either a prose line or a journal record; journal text is rendered the first time the row is shown. */
+    private static final class LogEntry {
+        private final EventJournal.Entry record;
+        private final Logger.Level level;
+        private final String ts;
+        private String message;
+        // Wrapped height for the width and timestamp setting it was last measured at.
+        private float height;
+        private float heightWidth = -1f;
+        private boolean heightStamps;
+
+        LogEntry(String message, EventJournal.Entry record, Logger.Level level, String ts) {
+            this.message = message;
+            this.record = record;
+            this.level = level;
+            this.ts = ts;
+        }
+
+        String message() {
+            if (message == null) message = record.render().trim();
+            return message;
+        }
+
+        String text(boolean stamps) {
+            return stamps ? "[" + ts + "] " + message() : message();
+        }
+    }
 
     private final Skin skin;
     private final CheckBox eventFeedToggle;
     private final CheckBox timestampToggle;
-    private final Table lines;
+    private final LogBody body;
     private final ScrollPane scrollPane;
-    private final List<LogEntry> history = new ArrayList<>();
+    private final float rowHeight;
+    private final Label sizer;
+
+    // Entry n (counting every append) lives at entries[n % CAPACITY] until CAPACITY newer ones push it out.
+    private final LogEntry[] entries = new LogEntry[CAPACITY];
+    private long appended;
+
+    // Append numbers of the entries that pass the current toggles, oldest first; a ring over the same window.
+    private final long[] shown = new long[CAPACITY];
+    private int shownHead;
+    private int shownSize;
+
+    // Running sums of wrapped row heights, parallel to shown: shownEnd is where a row ends, counted from the first
+    // row ever measured, and droppedHeight is how much of that has scrolled out of the ring. Only the first
+    // measuredCount shown rows have a sum; the rest are measured when the body next asks.
+    private final double[] shownEnd = new double[CAPACITY];
+    private double droppedHeight;
+    private int measuredCount;
+    private float measuredWidth = -1f;
+    private boolean measuredStamps;
+
+    private boolean scrollToBottom;
+    private float lastScrollY = -1f;
+    private float lastViewHeight = -1f;
 
     public ActivityLogPanel(Skin skin) {
         super(skin);
@@ -38,59 +95,220 @@ public class ActivityLogPanel extends Table {
         header.add(timestampToggle);
         add(header).growX().row();
 
-        lines = new Table(skin);
-        lines.top().left();
-        scrollPane = new ScrollPane(lines, skin);
+        rowHeight = new Label("Ag", skin).getPrefHeight() + 2f;
+        sizer = new Label("", skin);
+        sizer.setWrap(true);
+        body = new LogBody();
+        scrollPane = new ScrollPane(body, skin);
         scrollPane.setFadeScrollBars(false);
         scrollPane.setScrollingDisabled(true, false);
         add(scrollPane).grow().padTop(4f);
 
         eventFeedToggle.addListener(new com.badlogic.gdx.scenes.scene2d.utils.ChangeListener() {
-            @Override public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) { rebuild(); }
+            @Override public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) { refilter(); }
         });
         timestampToggle.addListener(new com.badlogic.gdx.scenes.scene2d.utils.ChangeListener() {
-            @Override public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) { rebuild(); }
+            @Override public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) { body.invalidateHierarchy(); }
         });
     }
 
     public void append(String message) {
+        append(message, Logger.Level.INFO);
+    }
+
+    public void append(String message, Logger.Level level) {
         String msg = message == null ? "" : message.trim();
         if (msg.isEmpty()) return;
-        history.add(new LogEntry(msg, tone(msg), LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"))));
-        if (history.size() > 500) history.remove(0);
-        addEntry(history.get(history.size() - 1));
+        add(new LogEntry(msg, null, level == null ? Logger.Level.INFO : level, now()));
+    }
+
+    public void append(EventJournal.Entry record) {
+        if (record == null) return;
+        add(new LogEntry(null, record, record.level(), now()));
+    }
+
+    private void add(LogEntry entry) {
+        long n = appended++;
+        if (n >= CAPACITY && shownSize > 0 && shown[shownHead] == n - CAPACITY) {
+            if (measuredCount > 0) {
+                droppedHeight = shownEnd[shownHead];
+                measuredCount--;
+            }
+            shownHead = (shownHead + 1) % CAPACITY;
+            shownSize--;
+        }
+        entries[(int) (n % CAPACITY)] = entry;
+        if (passes(entry)) {
+            shown[(shownHead + shownSize) % CAPACITY] = n;
+            shownSize++;
+        }
+        body.invalidateHierarchy();
+        scrollToBottom = true;
+    }
+
+    private static String now() {
+        return LocalTime.now().format(TS_FORMAT);
     }
 
-    private void rebuild() {
-        lines.clearChildren();
-        for (LogEntry entry : history) addEntry(entry);
+    /** Re-derives the visible index after a toggle; no labels are created. */
+    private void refilter() {
+        shownHead = 0;
+        shownSize = 0;
+        for (long n = Math.max(0L, appended - CAPACITY); n < appended; n++) {
+            if (passes(entries[(int) (n % CAPACITY)])) shown[shownSize++] = n;
+        }
+        measuredCount = 0;
+        droppedHeight = 0;
+        body.invalidateHierarchy();
+        scrollToBottom = true;
     }
 
-    private void addEntry(LogEntry entry) {
-        if (!eventFeedToggle.isChecked() && looksLikeEvent(entry.message)) return;
-        String text = timestampToggle.isChecked() ? "[" + entry.ts + "] " + entry.message : entry.message;
-        Label line = new Label(text, skin);
-        line.setColor(entry.color);
-        line.setWrap(true);
-        line.setAlignment(Align.left);
-        lines.add(line).left().growX().padBottom(2f).row();
+    private boolean passes(LogEntry entry) {
+        return eventFeedToggle.isChecked() || !isEventFeed(entry.level);
+    }
+
+    private LogEntry shownEntry(int row) {
+        return entries[(int) (shown[(shownHead + row) % CAPACITY] % CAPACITY)];
+    }
+
+    /** Distance from the top of the body to the bottom of shown row {@code row}; needs {@link #measure}. */
+    private float rowBottom(int row) {
+        return (float) (shownEnd[(shownHead + row) % CAPACITY] - droppedHeight);
+    }
+
+    private float rowTop(int row) {
+        return row == 0 ? 0f : rowBottom(row - 1);
+    }
+
+    /**
+     * Brings the running sums up to every shown row. A new width or timestamp setting re-measures the lot; otherwise
+     * only rows appended since the last call are measured, and each entry keeps its height for next time.
+     */
+    private void measure(float width) {
+        boolean stamps = timestampToggle.isChecked();
+        if (width != measuredWidth || stamps != measuredStamps) {
+            measuredWidth = width;
+            measuredStamps = stamps;
+            measuredCount = 0;
+            droppedHeight = 0;
+        }
+        for (int row = measuredCount; row < shownSize; row++) {
+            double start = row == 0 ? droppedHeight : shownEnd[(shownHead + row - 1) % CAPACITY];
+            shownEnd[(shownHead + row) % CAPACITY] = start + heightOf(shownEntry(row), width, stamps);
+        }
+        measuredCount = shownSize;
+    }
 
-        Gdx.app.postRunnable(() -> {
+    private float heightOf(LogEntry entry, float width, boolean stamps) {
+        if (entry.heightWidth != width || entry.heightStamps != stamps) {
+            float h = rowHeight;
+            if (width > 0f) {
+                sizer.setWidth(width);
+                sizer.setText(entry.text(stamps));
+                h = Math.max(rowHeight, sizer.getPrefHeight() + 2f);
+            }
+            entry.height = h;
+            entry.heightWidth = width;
+            entry.heightStamps = stamps;
+        }
+        return entry.height;
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        // At most one scroll-to-bottom per frame, however many lines arrived.
+        if (scrollToBottom) {
+            scrollToBottom = false;
             scrollPane.layout();
             scrollPane.setScrollPercentY(1f);
-        });
+        }
+        float scrollY = scrollPane.getVisualScrollY();
+        float viewHeight = scrollPane.getScrollHeight();
+        if (scrollY != lastScrollY || viewHeight != lastViewHeight) {
+            lastScrollY = scrollY;
+            lastViewHeight = viewHeight;
+            body.invalidate();
+        }
+    }
+
+    /**
+     * Scroll content as tall as every shown row, but only the rows inside the viewport get a label. Rows wrap, so
+     * each is as tall as its text; the visible window is found by binary search over the running sums. Labels are
+     * kept in a pool sized to the viewport and re-pointed at different entries as the view moves.
+     */
+    private final class LogBody extends WidgetGroup {
+        private final List<Label> pool = new ArrayList<>();
+
+        @Override
+        public float getPrefHeight() {
+            if (shownSize == 0) return 0f;
+            measure(getWidth());
+            return rowBottom(shownSize - 1);
+        }
+
+        @Override
+        public void layout() {
+            float width = getWidth();
+            boolean resized = width != measuredWidth;
+            measure(width);
+            // The scroll pane sized us from heights measured at the old width; have it ask again.
+            if (resized) invalidateHierarchy();
+            float viewTop = scrollPane.getVisualScrollY();
+            float viewBottom = viewTop + scrollPane.getScrollHeight();
+            int first = firstRowEndingBelow(viewTop);
+            int last = first;
+            while (last < shownSize && rowTop(last) < viewBottom) last++;
+            int needed = last - first;
+            while (pool.size() < needed) {
+                Label label = new Label("", skin);
+                label.setWrap(true);
+                label.setAlignment(Align.topLeft);
+                pool.add(label);
+                addActor(label);
+            }
+
+            float top = getHeight();
+            boolean stamps = timestampToggle.isChecked();
+            for (int i = 0; i < pool.size(); i++) {
+                Label label = pool.get(i);
+                if (i >= needed) {
+                    label.setVisible(false);
+                    continue;
+                }
+                int row = first + i;
+                LogEntry entry = shownEntry(row);
+                float rowTop = rowTop(row);
+                float rowBottom = rowBottom(row);
+                label.setText(entry.text(stamps));
+                label.setColor(color(entry.level));
+                label.setBounds(0f, top - rowBottom, width, rowBottom - rowTop);
+                label.setVisible(true);
+            }
+        }
+
+        private int firstRowEndingBelow(float y) {
+            int lo = 0;
+            int hi = shownSize;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (rowBottom(mid) <= y) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
     }
 
-    private boolean looksLikeEvent(String s) {
-        String lower = s.toLowerCase(Locale.ROOT);
-        return lower.contains("event") || lower.contains("popup") || lower.contains("trigger");
+    private static boolean isEventFeed(Logger.Level level) {
+        return level == Logger.Level.EVENT || level == Logger.Level.POPUP;
     }
 
-    private Color tone(String s) {
-        String lower = s.toLowerCase(Locale.ROOT);
-        if (lower.contains("fine") || lower.contains("violation") || lower.contains("underage") || lower.contains("rep -") || lower.contains("critical")) return new Color(1f, 0.45f, 0.45f, 1f);
-        if (lower.contains("cash +") || lower.contains("sale") || lower.contains("profit") || lower.contains("tips") || lower.contains("opened")) return new Color(0.55f, 1f, 0.55f, 1f);
-        if (lower.contains("week") || lower.contains("service") || lower.contains("report") || lower.contains("mission")) return new Color(0.55f, 0.75f, 1f, 1f);
-        return Color.WHITE;
+    private static Color color(Logger.Level level) {
+        return switch (level) {
+            case NEG, WARNING, CRITICAL -> BAD;
+            case POS -> GOOD;
+            case HEADER, EVENT, POPUP -> REPORT;
+            default -> Color.WHITE;
+        };
     }
 }
@@ -15,6 +15,7 @@ public class MissionControlModal extends Window {
     private final Label content;
     private final Map<String, Supplier<String>> tabs = new LinkedHashMap<>();
     private String activeTab;
+    private String shownText;
 
     public MissionControlModal(Skin skin, HudSimBridge bridge) {
         super("Mission Control", skin);
@@ -34,7 +35,7 @@ public class MissionControlModal extends Window {
         for (String tabName : tabs.keySet()) {
             TextButton btn = new TextButton(tabName, skin);
             btn.addListener(new ChangeListener() {
-                @Override public void changed(ChangeEvent event, Actor actor) { activeTab = tabName; refresh(); }
+                @Override public void changed(ChangeEvent event, Actor actor) { activeTab = tabName; render(); }
             });
             tabsRow.add(btn).padRight(4f);
         }
@@ -54,19 +55,32 @@ public class MissionControlModal extends Window {
         add(close).right().padTop(8f);
 
         activeTab = "Overview";
-        refresh();
+        render();
         pack();
     }
 
+    /**
+     * Called whenever the HUD picks up a new snapshot. Does nothing while the modal is closed; otherwise it only
+     * re-lays out the text when the active tab's section actually changed (the bridge hands back the very same
+     * String until then).
+     */
     public void refresh() {
+        if (getStage() == null || !isVisible()) return;
+        render();
+    }
+
+    private void render() {
         Supplier<String> supplier = tabs.get(activeTab);
-        content.setText(supplier == null ? "--" : supplier.get());
+        String text = supplier == null ? "--" : supplier.get();
+        if (text == shownText) return;
+        shownText = text;
+        content.setText(text);
     }
 
     public void show(Stage stage) {
         if (getStage() == null) stage.addActor(this);
-        refresh();
         setVisible(true);
+        render();
         setSize(Math.min(920f, stage.getWidth() * 0.92f), Math.min(620f, stage.getHeight() * 0.92f));
         setPosition((stage.getWidth() - getWidth()) / 2f, (stage.getHeight() - getHeight()) / 2f);
         toFront();
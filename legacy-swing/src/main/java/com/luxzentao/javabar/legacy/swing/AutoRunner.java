@@ -0,0 +1,203 @@
+package com.luxzentao.javabar.legacy.swing;
+
+import com.luxzentao.javabar.core.*;
+
+import javax.swing.SwingUtilities;
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Drives Auto mode off the Event Dispatch Thread.
+ *
+ * Rounds are played on a background thread and each one builds its {@link MetricsSnapshot} there too. The EDT is
+ * handed the newest snapshot through a single pending {@code invokeLater}, so however many rounds land between two
+ * repaints the window refreshes once.
+ *
+ * The rest of the Swing GUI still reads and writes {@link GameState} directly from its listeners, so the
+ * simulation and the EDT take turns on one fair lock: a round holds it while it runs, and every AWT event is
+ * dispatched holding it. An input event that arrives mid-round waits for that one round, never for a whole night.
+ */
+final class AutoRunner {
+
+    enum Cadence {
+        RELAXED("Relaxed", 850),
+        BRISK("Brisk", 400),
+        FAST("Fast", 150),
+        MAX("As fast as possible", 0);
+
+        private final String label;
+        private final int delayMs;
+
+        Cadence(String label, int delayMs) {
+            this.label = label;
+            this.delayMs = delayMs;
+        }
+
+        int delayMs() { return delayMs; }
+
+        @Override public String toString() { return label; }
+
+        static Cadence fromName(String name) {
+            for (Cadence c : values()) {
+                if (c.name().equals(name)) return c;
+            }
+            return RELAXED;
+        }
+    }
+
+    /** Polling interval while the pub is shut; even "as fast as possible" has nothing to play then. */
+    private static final int IDLE_POLL_MS = 250;
+
+    private static final ReentrantLock SIM_LOCK = new ReentrantLock(true);
+    private static boolean queueInstalled;
+
+    private final Simulation sim;
+    private final GameState state;
+    private final Consumer<MetricsSnapshot> refresh;
+    private final Consumer<String> onStopped;
+    private final ScheduledThreadPoolExecutor worker = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread t = new Thread(r, "auto-sim");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private volatile Cadence cadence = Cadence.RELAXED;
+    private volatile boolean running;
+    private volatile long run; // bumped by start/stop so a round scheduled by an earlier run retires quietly
+    private volatile MetricsSnapshot latest;
+    private volatile boolean finished;
+    private volatile String finishReason;
+
+    /** Call on the EDT. {@code refresh} and {@code onStopped} are always run on the EDT. */
+    AutoRunner(Simulation sim, GameState state, Consumer<MetricsSnapshot> refresh, Consumer<String> onStopped) {
+        this.sim = sim;
+        this.state = state;
+        this.refresh = refresh;
+        this.onStopped = onStopped;
+        // The thread goes away while Auto is off, so a GUI replaced from the main menu leaves nothing behind.
+        worker.setKeepAliveTime(2, TimeUnit.SECONDS);
+        worker.allowCoreThreadTimeOut(true);
+        installLockingQueue();
+    }
+
+    Cadence getCadence() { return cadence; }
+
+    void setCadence(Cadence cadence) {
+        this.cadence = cadence == null ? Cadence.RELAXED : cadence;
+    }
+
+    boolean isRunning() { return running; }
+
+    void start() {
+        if (running) return;
+        long id = ++run;
+        running = true;
+        finished = false;
+        finishReason = null;
+        worker.schedule(() -> step(id), cadence.delayMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops after the round in progress, if any. */
+    void stop() {
+        running = false;
+        run++;
+    }
+
+    /**
+     * Runs {@code task} on the EDT and waits for its answer, for simulation callbacks that need the player (a credit
+     * line picker, say). Off the EDT the simulation lock is let go for the duration so the dialog can be used.
+     */
+    static <T> T onEdt(Supplier<T> task) {
+        if (SwingUtilities.isEventDispatchThread()) return task.get();
+        int holds = SIM_LOCK.getHoldCount();
+        for (int i = 0; i < holds; i++) SIM_LOCK.unlock();
+        try {
+            Object[] out = new Object[1];
+            SwingUtilities.invokeAndWait(() -> out[0] = task.get());
+            @SuppressWarnings("unchecked") T result = (T) out[0];
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(cause);
+        } finally {
+            for (int i = 0; i < holds; i++) SIM_LOCK.lock();
+        }
+    }
+
+    private void step(long id) {
+        if (id != run) return;
+        boolean played = false;
+        SIM_LOCK.lock();
+        try {
+            if (id != run) return;
+            if (state.nightOpen) {
+                sim.playRound();
+                latest = sim.buildMetricsSnapshot();
+                played = true;
+                if (state.rack.count() == 0) {
+                    finish("Auto stopped: inventory empty.");
+                } else if (!state.nightOpen) {
+                    finish(null);
+                }
+            }
+        } catch (RuntimeException e) {
+            finish("Auto stopped: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            SIM_LOCK.unlock();
+        }
+
+        if (played || finished) requestRefresh();
+        if (id == run && running) {
+            int delay = played ? cadence.delayMs() : Math.max(IDLE_POLL_MS, cadence.delayMs());
+            worker.schedule(() -> step(id), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void finish(String reason) {
+        running = false;
+        finished = true;
+        finishReason = reason;
+    }
+
+    private void requestRefresh() {
+        if (!refreshPending.compareAndSet(false, true)) return;
+        SwingUtilities.invokeLater(() -> {
+            refreshPending.set(false);
+            MetricsSnapshot snapshot = latest;
+            if (snapshot != null) refresh.accept(snapshot);
+            if (finished) {
+                finished = false;
+                onStopped.accept(finishReason);
+            }
+        });
+    }
+
+    private static synchronized void installLockingQueue() {
+        if (queueInstalled) return;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new EventQueue() {
+            @Override protected void dispatchEvent(AWTEvent event) {
+                SIM_LOCK.lock();
+                try {
+                    super.dispatchEvent(event);
+                } finally {
+                    SIM_LOCK.unlock();
+                }
+            }
+        });
+        queueInstalled = true;
+    }
+}
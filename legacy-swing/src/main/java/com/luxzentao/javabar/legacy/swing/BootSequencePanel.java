@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Stream;
 
@@ -159,11 +160,11 @@ public class BootSequencePanel extends JPanel {
     }
 
     private void handleNewGameClick() {
-        if (SaveManager.hasSave()) {
+        if (SaveCatalog.firstFree() == 0) {
             Object[] options = {"Cancel", "Continue"};
             int choice = JOptionPane.showOptionDialog(
                     this,
-                    "A saved game already exists. Starting a new game won’t load it, but saving later will overwrite it. Continue?",
+                    "Every save slot is in use. A new game will have to overwrite one of them. Continue?",
                     "Start New Game?",
                     JOptionPane.DEFAULT_OPTION,
                     JOptionPane.WARNING_MESSAGE,
@@ -457,9 +458,13 @@ public class BootSequencePanel extends JPanel {
         if (menuPanel.isVisible() == visible) return;
         menuPanel.setVisible(visible);
         newGameButton.setEnabled(visible);
-        boolean canLoad = SaveManager.hasSave();
-        loadGameButton.setEnabled(visible && canLoad);
-        loadGameButton.setToolTipText(canLoad ? null : "No save found.");
+        if (!visible) {
+            loadGameButton.setEnabled(false);
+            return;
+        }
+        Optional<SaveCatalog.Slot> latest = SaveCatalog.mostRecent();
+        loadGameButton.setEnabled(latest.isPresent());
+        loadGameButton.setToolTipText(latest.map(slot -> "Latest: " + slot.label()).orElse("No save found."));
     }
 
     private void setStage(Stage next) {
@@ -8,9 +8,20 @@ import java.awt.*;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.function.Consumer;
 
+/**
+ * Activity log for the Swing GUI.
+ *
+ * Lines are queued and typed out one per timer tick. Once more than {@link #CATCH_UP_BACKLOG} are waiting, as
+ * under auto play, each tick writes up to {@link #MAX_BATCH} of them in a single document edit instead. The queue
+ * is capped at {@link #MAX_PENDING} (the oldest lines are dropped and reported as skipped), and the document is trimmed
+ * by whole paragraphs back to {@link #TRIM_TO_CHARS} once it passes {@link #MAX_DOC_CHARS}, so neither grows with
+ * the length of the session.
+ */
 public class UILogger implements Logger {
 
     public static final int LOG_SPEED_SETTING_MIN = 0;
@@ -20,29 +31,87 @@ public class UILogger implements Logger {
     public static final int LOG_PRINT_DELAY_DEFAULT_MS = 30;
     public static final int LOG_PRINT_DELAY_FAST_MS = 15;
 
+    static final int CATCH_UP_BACKLOG = 40;
+    static final int MAX_BATCH = 250;
+    static final int MAX_PENDING = 2000;
+    static final int MAX_DOC_CHARS = 250_000;
+    static final int TRIM_TO_CHARS = 200_000;
+
     public enum Tone { INFO, NEUTRAL, MID, POS, GREAT, NEG, EVENT, ACTION, HEADER, WARNING, CRITICAL, MONEY, SECURITY, REPUTATION }
     public record Segment(String text, Tone tone) {}
     private interface LogEntry {
-        void append(StyledDocument doc) throws BadLocationException;
+        void appendTo(LogDocument doc);
     }
     public record Chunk(String text, Tone tone) implements LogEntry {
         @Override
-        public void append(StyledDocument doc) throws BadLocationException {
-            doc.insertString(doc.getLength(), text, doc.getStyle(styleName(tone)));
+        public void appendTo(LogDocument doc) {
+            doc.addRun(text, tone);
         }
     }
     public record Segments(java.util.List<Segment> segments) implements LogEntry {
         @Override
-        public void append(StyledDocument doc) throws BadLocationException {
+        public void appendTo(LogDocument doc) {
             for (Segment segment : segments) {
-                doc.insertString(doc.getLength(), segment.text(), doc.getStyle(styleName(segment.tone())));
+                doc.addRun(segment.text(), segment.tone());
+            }
+        }
+    }
+
+    /**
+     * Collects styled runs and appends them in one {@link #insert} call: one undoable edit, one round of listener
+     * notifications and one relayout however many lines went in. Every entry ends in a newline, which is what the
+     * paragraph tags below rely on.
+     */
+    static final class LogDocument extends DefaultStyledDocument {
+        private static final long serialVersionUID = 1L;
+        private final List<ElementSpec> specs = new ArrayList<>();
+
+        void addRun(String text, Tone tone) {
+            if (text == null || text.isEmpty()) return;
+            AttributeSet style = getStyle(styleName(tone));
+            int start = 0;
+            while (start < text.length()) {
+                int nl = text.indexOf('\n', start);
+                int end = nl < 0 ? text.length() : nl + 1;
+                char[] chars = text.substring(start, end).toCharArray();
+                specs.add(new ElementSpec(style, ElementSpec.ContentType, chars, 0, chars.length));
+                if (nl >= 0) {
+                    specs.add(new ElementSpec(null, ElementSpec.EndTagType));
+                    specs.add(new ElementSpec(null, ElementSpec.StartTagType));
+                }
+                start = end;
+            }
+        }
+
+        void flushRuns() throws BadLocationException {
+            if (specs.isEmpty()) return;
+            int offset = getLength();
+            if (offset > 0) {
+                // The text so far ends in a newline: open a fresh paragraph rather than joining the last one.
+                specs.add(0, new ElementSpec(null, ElementSpec.StartTagType));
+                specs.add(0, new ElementSpec(null, ElementSpec.EndTagType));
+            }
+            try {
+                insert(offset, specs.toArray(new ElementSpec[0]));
+            } finally {
+                specs.clear();
             }
         }
+
+        /** Drops whole paragraphs from the top until at most {@code keep} characters remain. */
+        void trimTo(int keep) throws BadLocationException {
+            int excess = getLength() - keep;
+            if (excess <= 0) return;
+            Element root = getDefaultRootElement();
+            int cut = root.getElement(root.getElementIndex(excess)).getEndOffset();
+            remove(0, Math.min(cut, getLength()));
+        }
     }
 
     private final JTextPane pane;
-    private final StyledDocument doc;
+    private final LogDocument doc;
     private final Deque<LogEntry> queue = new ArrayDeque<>();
+    private int skipped;
     private final Timer timer;
     private int logSpeedSetting = LOG_SPEED_SETTING_DEFAULT;
     private boolean showTimestamps = false;
@@ -51,10 +120,12 @@ public class UILogger implements Logger {
 
     private Consumer<String> eventSink;
     private Consumer<PopupMessage> popupSink;
+    private volatile Level threshold = Level.INFO;
 
     public UILogger(JTextPane pane) {
         this.pane = pane;
-        this.doc = pane.getStyledDocument();
+        this.doc = new LogDocument();
+        pane.setStyledDocument(doc);
         setupStyles();
 
         pane.setEditable(false);
@@ -145,14 +216,37 @@ public class UILogger implements Logger {
     }
 
     private void flushOne() {
-        if (queue.isEmpty()) return;
-        LogEntry entry = queue.removeFirst();
+        int skippedNow;
+        synchronized (queue) {
+            if (queue.isEmpty() && skipped == 0) return;
+            skippedNow = skipped;
+            skipped = 0;
+            // Typewriter pace while the log keeps up; a whole batch per tick once it falls behind.
+            int take = queue.size() > CATCH_UP_BACKLOG ? Math.min(MAX_BATCH, queue.size()) : 1;
+            if (skippedNow > 0) {
+                doc.addRun("... " + skippedNow + " older log line(s) skipped ...\n", Tone.WARNING);
+            }
+            for (int i = 0; i < take && !queue.isEmpty(); i++) {
+                queue.removeFirst().appendTo(doc);
+            }
+        }
         try {
-            entry.append(doc);
+            doc.flushRuns();
+            if (doc.getLength() > MAX_DOC_CHARS) doc.trimTo(TRIM_TO_CHARS);
             pane.setCaretPosition(doc.getLength());
         } catch (BadLocationException ignored) {}
     }
 
+    private void enqueue(LogEntry entry) {
+        synchronized (queue) {
+            if (queue.size() >= MAX_PENDING) {
+                queue.removeFirst();
+                skipped++;
+            }
+            queue.addLast(entry);
+        }
+    }
+
     private static String styleName(Tone tone) {
         return switch (tone) {
             case NEUTRAL -> "NEUTRAL";
@@ -172,7 +266,35 @@ public class UILogger implements Logger {
         };
     }
 
+    /** Drops every channel below {@code threshold}; the default, INFO, keeps them all. */
+    public void setThreshold(Level threshold) {
+        this.threshold = threshold == null ? Level.INFO : threshold;
+    }
+
+    public Level getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return level.atLeast(threshold);
+    }
+
+    private static Level levelOf(Tone tone) {
+        return switch (tone) {
+            case POS, GREAT -> Level.POS;
+            case NEG -> Level.NEG;
+            case EVENT -> Level.EVENT;
+            case HEADER -> Level.HEADER;
+            case ACTION -> Level.ACTION;
+            case WARNING -> Level.WARNING;
+            case CRITICAL -> Level.CRITICAL;
+            default -> Level.INFO;
+        };
+    }
+
     private void push(String s, Tone t) {
+        if (!isEnabled(levelOf(t))) return;
         String prefix = "";
         if (showTimestamps) {
             prefix = "[" + LocalTime.now().format(timeFormatter) + "] ";
@@ -185,11 +307,11 @@ public class UILogger implements Logger {
                 body = body + "\n";
             }
         }
-        queue.addLast(new Chunk(body, t));
+        enqueue(new Chunk(body, t));
     }
 
     public void appendLogSegments(java.util.List<Segment> segments) {
-        if (segments == null || segments.isEmpty()) return;
+        if (segments == null || segments.isEmpty() || !isEnabled(levelOf(segments.get(0).tone()))) return;
         java.util.List<Segment> out = new java.util.ArrayList<>();
         String firstText = segments.get(0).text();
         Tone firstTone = segments.get(0).tone();
@@ -213,7 +335,7 @@ public class UILogger implements Logger {
         if (out.isEmpty() || !out.get(out.size() - 1).text().endsWith("\n")) {
             out.add(new Segment("\n", Tone.INFO));
         }
-        queue.addLast(new Segments(out));
+        enqueue(new Segments(out));
     }
 
     public void info(String s) { push(s, Tone.INFO); }
@@ -313,7 +435,7 @@ public class UILogger implements Logger {
     }
 
     private void publishPopup(String title, String body, String effects, UIPopup.PopupStyle style) {
-        if (popupSink != null) {
+        if (popupSink != null && isEnabled(Level.POPUP)) {
             popupSink.accept(new PopupMessage(title, body, effects, style));
         }
     }
@@ -14,6 +14,7 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.Locale;
 import java.util.List;
@@ -165,7 +166,8 @@ public class WineBarGUI {
     private final JComboBox<MusicProfileType> musicProfileBox = new JComboBox<>(MusicProfileType.values());
 
     private final JToggleButton autoBtn = new JToggleButton("Auto: OFF");
-    private Timer autoTimer;
+    private final AutoRunner autoRunner;
+    private final Autosaver autosaver;
     private Timer nightPulseTimer;
     private Timer cashFlashTimer;
     private Timer debtFlashTimer;
@@ -217,6 +219,7 @@ public class WineBarGUI {
     private JSlider logSpeedSlider;
     private boolean optionsOpenPausedAuto;
     private int lastAutosavedWeek = -1;
+    private int autosaveWeekDue = -1;
     private final Preferences prefs = Preferences.userNodeForPackage(WineBarGUI.class);
     private boolean bootSequenceShown = false;
     private boolean randomMusicChosenOnBoot = false;
@@ -255,8 +258,13 @@ public class WineBarGUI {
 
         this.log = new UILogger(logPane);
         this.sim = new Simulation(state, log);
-        this.state.creditLineSelector = this::selectCreditLineForPayment;
+        // Auto rounds run off the EDT; the picker is a dialog, so it is always answered on the EDT.
+        this.state.creditLineSelector = (options, shortfall, reason) ->
+                AutoRunner.onEdt(() -> selectCreditLineForPayment(options, shortfall, reason));
+        this.autosaver = new Autosaver(log);
         this.sim.setWeekStartHook(this::handleFreshWeekAutosave);
+        this.sim.setNightEndHook(this::handleNightEndAutosave);
+        this.autoRunner = new AutoRunner(sim, state, this::applyAutoRound, this::stopAutoTimer);
 
         buildUI();
         eventFeedDialog = new EventFeedDialog(frame);
@@ -265,6 +273,7 @@ public class WineBarGUI {
         wireEvents();
         applySavedAudioPreferences();
         applySavedLogPreferences();
+        applySavedAutoPreferences();
 
         refreshAll();
         log.header("READY");
@@ -276,7 +285,7 @@ public class WineBarGUI {
         frame.setVisible(true);
         if (!bootSequenceShown) {
             bootSequenceShown = true;
-            frame.setContentPane(new BootSequencePanel(this::finishBootSequence, SaveManager.hasSave()));
+            frame.setContentPane(new BootSequencePanel(this::finishBootSequence, SaveCatalog.hasAny()));
             frame.revalidate();
             frame.repaint();
         }
@@ -301,22 +310,35 @@ public class WineBarGUI {
     }
 
     private void startNewGameFresh() {
-        if (!confirmNewGameWhenSaveExists()) {
+        int slot = chooseSlotForNewGame();
+        if (slot == 0) {
             resetToMainMenu();
             return;
         }
+        SaveManager.setActiveSlot(slot);
         GameState freshState = GameFactory.newGame();
         launchReplacementGame(freshState);
     }
 
-    private boolean confirmNewGameWhenSaveExists() {
-        if (!SaveManager.hasSave()) {
-            return true;
+    /** The slot a new game will save into, or 0 if the player backed out. */
+    private int chooseSlotForNewGame() {
+        List<SaveCatalog.Slot> slots = SaveCatalog.list();
+        int free = SaveCatalog.firstFree();
+        if (free == 1 && slots.stream().noneMatch(SaveCatalog.Slot::occupied)) {
+            return 1;
+        }
+        SaveCatalog.Slot picked = chooseSlot(slots, "Save the new game in which slot?", "Start New Game",
+                free > 0 ? slots.get(free - 1) : SaveCatalog.mostRecent().orElse(slots.get(0)));
+        if (picked == null) {
+            return 0;
+        }
+        if (!picked.occupied()) {
+            return picked.number();
         }
         Object[] options = {"Cancel", "Continue"};
         int choice = JOptionPane.showOptionDialog(
                 frame,
-                "A saved game already exists. Starting a new game won’t load it, but saving later will overwrite it. Continue?",
+                "Slot " + picked.number() + " already holds a saved game. Starting a new game there will overwrite it once it saves. Continue?",
                 "Start New Game?",
                 JOptionPane.DEFAULT_OPTION,
                 JOptionPane.WARNING_MESSAGE,
@@ -324,19 +346,36 @@ public class WineBarGUI {
                 options,
                 options[0]
         );
-        return choice == 1;
+        return choice == 1 ? picked.number() : 0;
+    }
+
+    private SaveCatalog.Slot chooseSlot(List<SaveCatalog.Slot> slots, String message, String title,
+                                        SaveCatalog.Slot preselected) {
+        String[] labels = slots.stream().map(SaveCatalog.Slot::label).toArray(String[]::new);
+        Object choice = JOptionPane.showInputDialog(frame, message, title, JOptionPane.QUESTION_MESSAGE,
+                null, labels, preselected.label());
+        int index = Arrays.asList(labels).indexOf(choice);
+        return index < 0 ? null : slots.get(index);
     }
 
     private void startLoadGame() {
         System.out.println("LOAD: begin");
-        if (!SaveManager.hasSave()) {
+        List<SaveCatalog.Slot> saved = SaveCatalog.list().stream().filter(SaveCatalog.Slot::occupied).toList();
+        if (saved.isEmpty()) {
             JOptionPane.showMessageDialog(frame, "No save found.", "Load Game", JOptionPane.INFORMATION_MESSAGE);
             System.out.println("LOAD: no save file");
             resetToMainMenu();
             return;
         }
+        SaveCatalog.Slot slot = saved.size() == 1 ? saved.get(0)
+                : chooseSlot(saved, "Load which game?", "Load Game", SaveCatalog.mostRecent().orElse(saved.get(0)));
+        if (slot == null) {
+            resetToMainMenu();
+            return;
+        }
         try {
-            System.out.println("LOAD: file found");
+            SaveManager.setActiveSlot(slot.number());
+            System.out.println("LOAD: file found (slot " + slot.number() + ")");
             GameState loaded = SaveManager.load();
             System.out.println("LOAD: deserialized SaveData");
             prepareLoadedState(loaded);
@@ -378,7 +417,7 @@ public class WineBarGUI {
             return;
         }
         shutdownForMenuTransition();
-        frame.setContentPane(new BootSequencePanel(this::finishBootSequence, SaveManager.hasSave(), true));
+        frame.setContentPane(new BootSequencePanel(this::finishBootSequence, SaveCatalog.hasAny(), true));
         frame.revalidate();
         frame.repaint();
         frame.requestFocusInWindow();
@@ -394,21 +433,36 @@ public class WineBarGUI {
     private void applySavedLogPreferences() {
         int speedSetting = prefs.getInt("ui.logSpeed", UILogger.LOG_SPEED_SETTING_DEFAULT);
         log.setLogSpeedSetting(speedSetting);
+        log.setThreshold(savedLogLevel());
+    }
+
+    private Logger.Level savedLogLevel() {
+        try {
+            return Logger.Level.valueOf(prefs.get("ui.logLevel", Logger.Level.INFO.name()));
+        } catch (IllegalArgumentException ex) {
+            return Logger.Level.INFO;
+        }
+    }
+
+    private void applySavedAutoPreferences() {
+        autoRunner.setCadence(AutoRunner.Cadence.fromName(prefs.get("auto.cadence", AutoRunner.Cadence.RELAXED.name())));
     }
 
     private void handleFreshWeekAutosave(int week) {
         if (week <= lastAutosavedWeek) return;
-        if (!SwingUtilities.isEventDispatchThread()) {
-            SwingUtilities.invokeLater(() -> handleFreshWeekAutosave(week));
-            return;
-        }
-        try {
-            SaveManager.save(state);
-            lastAutosavedWeek = week;
-            log.info("Autosaved at fresh week start (Week " + week + ").");
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            log.neg("Saving failed: " + ex.getMessage());
+        lastAutosavedWeek = week;
+        // The week rolls over partway through closing the night; the save waits for the night to finish.
+        autosaveWeekDue = week;
+    }
+
+    private void handleNightEndAutosave(int night) {
+        // Called on the EDT or the auto thread, but always under the simulation lock, so the state is consistent
+        // here; only the snapshot is taken on this thread and the autosaver writes it in the background.
+        if (autosaveWeekDue >= 0) {
+            autosaver.request(state, autosaveWeekDue);
+            autosaveWeekDue = -1;
+        } else {
+            autosaver.checkpoint(state);
         }
     }
 
@@ -597,6 +651,10 @@ public class WineBarGUI {
 
     private void showPopup(UILogger.PopupMessage message) {
         if (message == null) return;
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> showPopup(message));
+            return;
+        }
         UIPopup.showPopup(frame, message.style(), message.title(), message.body(), message.effects());
     }
 
@@ -927,6 +985,31 @@ public class WineBarGUI {
             prefs.putInt("ui.logSpeed", v);
         });
         activityLog.add(labeledSlider("Activity Log Speed", logSpeedSlider));
+        // Popups stay on at every level, so they are not offered as a threshold.
+        JComboBox<Logger.Level> logLevelBox =
+                new JComboBox<>(Arrays.copyOfRange(Logger.Level.values(), 0, Logger.Level.POPUP.ordinal()));
+        logLevelBox.setSelectedItem(log.getThreshold());
+        logLevelBox.addActionListener(e -> {
+            Logger.Level level = (Logger.Level) logLevelBox.getSelectedItem();
+            log.setThreshold(level);
+            prefs.put("ui.logLevel", log.getThreshold().name());
+        });
+        JPanel logLevel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        logLevel.add(new JLabel("Show From"));
+        logLevel.add(logLevelBox);
+        activityLog.add(logLevel);
+
+        JPanel automation = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        automation.setBorder(BorderFactory.createTitledBorder("Automation"));
+        JComboBox<AutoRunner.Cadence> cadenceBox = new JComboBox<>(AutoRunner.Cadence.values());
+        cadenceBox.setSelectedItem(autoRunner.getCadence());
+        cadenceBox.addActionListener(e -> {
+            AutoRunner.Cadence cadence = (AutoRunner.Cadence) cadenceBox.getSelectedItem();
+            autoRunner.setCadence(cadence);
+            prefs.put("auto.cadence", autoRunner.getCadence().name());
+        });
+        automation.add(new JLabel("Auto Speed"));
+        automation.add(cadenceBox);
 
         JPanel save = new JPanel(new FlowLayout(FlowLayout.LEFT));
         save.setBorder(BorderFactory.createTitledBorder("Save"));
@@ -945,11 +1028,12 @@ public class WineBarGUI {
         content.add(navigation);
         content.add(sound);
         content.add(activityLog);
+        content.add(automation);
         content.add(save);
         content.add(quit);
 
         dialog.setContentPane(new JScrollPane(content));
-        dialog.setSize(480, 420);
+        dialog.setSize(480, 480);
         dialog.addWindowListener(new WindowAdapter() {
             @Override public void windowClosed(WindowEvent e) { resumeAutoAfterOptionsIfNeeded(); }
             @Override public void windowClosing(WindowEvent e) { resumeAutoAfterOptionsIfNeeded(); }
@@ -1040,7 +1124,7 @@ public class WineBarGUI {
     }
 
     private void resumeAutoAfterOptionsIfNeeded() {
-        if (optionsOpenPausedAuto && autoTimer == null) {
+        if (optionsOpenPausedAuto && !autoRunner.isRunning()) {
             autoBtn.setSelected(true);
             toggleAuto();
         }
@@ -1049,6 +1133,7 @@ public class WineBarGUI {
 
     private void shutdownForMenuTransition() {
         stopAutoTimer(null);
+        autosaver.shutdown();
         if (nightPulseTimer != null) nightPulseTimer.stop();
         if (cashFlashTimer != null) cashFlashTimer.stop();
         if (debtFlashTimer != null) debtFlashTimer.stop();
@@ -1388,46 +1473,41 @@ public class WineBarGUI {
         autoBtn.addActionListener(e -> toggleAuto());
     }
 
+    // Hidden dialogs are skipped; each open*() method refreshes its dialog before showing it again.
     private void refreshAllMenus() {
-        refreshSupplierButtons();
-        refreshKitchenSupplierButtons();
-        refreshStaffButtons();
-        refreshSecurityButtons();
-        refreshLoanDialog();
-        refreshUpgradesButtons();
-        refreshActivitiesButtons();
-        refreshInnWindow();
+        if (isShowing(supplierDialog)) refreshSupplierButtons();
+        if (isShowing(kitchenSupplierDialog)) refreshKitchenSupplierButtons();
+        if (isShowing(staffDialog)) refreshStaffButtons();
+        if (isShowing(securityDialog)) refreshSecurityButtons();
+        if (isShowing(loanDialog)) refreshLoanDialog();
+        if (isShowing(upgradesDialog)) refreshUpgradesButtons();
+        if (isShowing(activitiesDialog)) refreshActivitiesButtons();
+        if (isShowing(innDialog)) refreshInnWindow();
+    }
+
+    private static boolean isShowing(JDialog dialog) {
+        return dialog != null && dialog.isVisible();
     }
 
     private void toggleAuto() {
         if (autoBtn.isSelected()) {
             autoBtn.setText("Auto: ON");
-            autoTimer = new Timer(850, e -> {
-                if (state.nightOpen) {
-                    sim.playRound();
-                    refreshAll();
-                    refreshAllMenus();
-
-                    if (state.rack.count() == 0) {
-                        stopAutoTimer("Auto stopped: inventory empty.");
-                        return;
-                    }
-
-                    if (!state.nightOpen) {
-                        stopAutoTimer(null);
-                    }
-                }
-            });
-            autoTimer.start();
+            autoRunner.start();
         } else {
             stopAutoTimer(null);
         }
     }
 
+    /** Called on the EDT with the snapshot of the newest auto round; rounds that landed in between are folded in. */
+    private void applyAutoRound(MetricsSnapshot snapshot) {
+        refreshAll(snapshot);
+        refreshAllMenus();
+    }
+
     private void stopAutoTimer(String reason) {
         autoBtn.setText("Auto: OFF");
         autoBtn.setSelected(false);
-        if (autoTimer != null) { autoTimer.stop(); autoTimer = null; }
+        autoRunner.stop();
         if (reason != null && !reason.isBlank()) log.neg(reason);
     }
 
@@ -3304,6 +3384,10 @@ public class WineBarGUI {
     }
 
     private void appendEventToFeeds(String event) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> appendEventToFeeds(event));
+            return;
+        }
         if (eventFeedDialog != null) {
             eventFeedDialog.appendEvent(event);
         }
@@ -3396,12 +3480,16 @@ public class WineBarGUI {
     // -----------------------
 
     private void refreshAll() {
-        lastSnapshot = sim.buildMetricsSnapshot();
+        refreshAll(sim.buildMetricsSnapshot());
+    }
+
+    private void refreshAll(MetricsSnapshot snapshot) {
+        lastSnapshot = snapshot;
         updateHud(lastSnapshot);
         updateInventory();
         updateReportsPanel(lastSnapshot);
-        refreshMissionControl();
-        refreshInnWindow();
+        if (isShowing(missionControlDialog)) refreshMissionControl();
+        if (isShowing(innDialog)) refreshInnWindow();
         updateMoodLighting();
         checkReportPopups();
         refreshActionsDialog();
@@ -3460,7 +3548,7 @@ public class WineBarGUI {
         timePhaseLabel.setText("Time: " + state.getCurrentTime() + " | Phase: " + state.getCurrentPhase() + " | Music: " + state.currentMusicProfile.getLabel());
         roundLabel.setText(state.nightOpen
                 ? ("Service OPEN  Round " + state.roundInNight + "/" + state.getClosingRound()
-                + " | Bar " + state.nightPunters.size() + "/" + state.maxBarOccupancy)
+                + " | Bar " + state.punterPool.size() + "/" + state.maxBarOccupancy)
                 : ("Service CLOSED  Ready" + closedSuffix));
 
         SecuritySystem.SecurityBreakdown breakdown = sim.securityBreakdown();
@@ -3761,7 +3849,7 @@ public class WineBarGUI {
     private void updateReportsPanel(MetricsSnapshot snapshot) {
         if (reportArea == null) return;
         reportArea.setText(ReportSystem.buildReportText(state));
-        refreshReportsDialog();
+        if (isShowing(reportsDialog)) refreshReportsDialog();
     }
 
     private void updateMoodLighting() {